@@ -0,0 +1,77 @@
+package seedu.whatsnext.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JSON reports written by JMH, such as a baseline recorded for a release and the report of the
+ * current build, and prints the change in the score of every benchmark they share.
+ *
+ * Run with {@code gradlew jmhCompare -Pbaseline=BASELINE_REPORT [-Preport=REPORT]}.
+ */
+public class BenchmarkReportComparer {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkReportComparer BASELINE_REPORT REPORT");
+            System.exit(1);
+        }
+        for (String reportPath : args) {
+            if (!new File(reportPath).isFile()) {
+                System.err.println("JMH report " + reportPath + " not found");
+                System.exit(1);
+            }
+        }
+        Map<String, JsonNode> baseline = readScores(new File(args[0]));
+        Map<String, JsonNode> report = readScores(new File(args[1]));
+
+        System.out.println(String.format("%-90s %14s %14s %9s", "benchmark", "baseline", "current", "change"));
+        for (Map.Entry<String, JsonNode> entry : report.entrySet()) {
+            JsonNode current = entry.getValue();
+            JsonNode previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.println(String.format("%-90s %14s %14s %9s", entry.getKey(), "-", format(current), "new"));
+                continue;
+            }
+            double change = current.get("score").asDouble() / previous.get("score").asDouble() - 1;
+            System.out.println(String.format("%-90s %14s %14s %+8.1f%%", entry.getKey(), format(previous),
+                    format(current), change * 100));
+        }
+        for (String benchmark : baseline.keySet()) {
+            if (!report.containsKey(benchmark)) {
+                System.out.println(String.format("%-90s %14s %14s %9s", benchmark, format(baseline.get(benchmark)),
+                        "-", "removed"));
+            }
+        }
+    }
+
+    /**
+     * Returns the primary metric of every benchmark in {@code reportFile}, by the name of the benchmark
+     * followed by its parameters.
+     */
+    private static Map<String, JsonNode> readScores(File reportFile) throws IOException {
+        Map<String, JsonNode> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(reportFile)) {
+            StringBuilder name = new StringBuilder(result.get("benchmark").asText());
+            JsonNode params = result.get("params");
+            if (params != null) {
+                for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext();) {
+                    Map.Entry<String, JsonNode> param = it.next();
+                    name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            scores.put(name.toString(), result.get("primaryMetric"));
+        }
+        return scores;
+    }
+
+    private static String format(JsonNode metric) {
+        return String.format("%.3f %s", metric.get("score").asDouble(), metric.get("scoreUnit").asText());
+    }
+}
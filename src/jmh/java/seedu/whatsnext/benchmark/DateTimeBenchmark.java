@@ -0,0 +1,68 @@
+package seedu.whatsnext.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.whatsnext.model.task.DateTime;
+
+/**
+ * Measures creating a {@link DateTime} from user input, whose parses are cached, from its stored form, and from
+ * epoch milliseconds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeBenchmark {
+
+    private static final String[] MONTHS = {"jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct",
+        "nov", "dec"};
+    /** More distinct inputs than the parse cache holds, so that cycling through them always misses the cache. */
+    private static final int UNCACHED_INPUT_COUNT = 4096;
+
+    private final List<String> uncachedInputs = new ArrayList<>();
+    private int nextInput;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; uncachedInputs.size() < UNCACHED_INPUT_COUNT; i++) {
+            uncachedInputs.add((1 + i % 28) + " " + MONTHS[i / 28 % 12] + " " + (2030 + i / 336) + " "
+                    + (1 + i % 11) + "pm");
+        }
+    }
+
+    @Benchmark
+    public DateTime parseCachedInput() throws Exception {
+        return new DateTime("3 dec 2030 10am");
+    }
+
+    @Benchmark
+    public DateTime parseNewInput() throws Exception {
+        nextInput = (nextInput + 1) % UNCACHED_INPUT_COUNT;
+        return new DateTime(uncachedInputs.get(nextInput));
+    }
+
+    @Benchmark
+    public DateTime fromStoredString() throws Exception {
+        return DateTime.fromStoredString("2030-12-03T10:00");
+    }
+
+    @Benchmark
+    public DateTime fromEpochMillis() {
+        return DateTime.fromEpochMillis(1922436000000L);
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.whatsnext.benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.whatsnext.commons.util.StringUtil;
+import seedu.whatsnext.model.ModelManager;
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.UserPrefs;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.TaskKeywordIndex;
+import seedu.whatsnext.model.task.TaskName;
+import seedu.whatsnext.model.task.TaskSearchIndex;
+import seedu.whatsnext.model.task.TaskSearchQuery;
+import seedu.whatsnext.model.util.SampleDataGenerator;
+
+/**
+ * Compares finding tasks by keyword by scanning every task name and tag, as the find command used to, with a
+ * whole {@code find} through {@link ModelManager#updateFilteredTaskList(Set)}, which filters the task list on the
+ * names found in the {@link TaskKeywordIndex}. Then compares a prefix search in the {@link TaskSearchIndex} trie,
+ * which also holds the words of task descriptions, with scanning the words of every task name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindBenchmark {
+
+    private static final String PREFIX = "exa";
+
+    @Param({"10000", "100000"})
+    public int taskCount;
+
+    private TaskManager taskManager;
+    private ModelManager model;
+    private Set<String> keywords;
+    private TaskSearchQuery prefixQuery;
+
+    @Setup
+    public void setUp() throws Exception {
+        taskManager = new SampleDataGenerator(SampleDataGenerator.DEFAULT_SEED).generateTaskManager(taskCount);
+        model = new ModelManager(taskManager, new UserPrefs());
+        keywords = new HashSet<>(Arrays.asList("exam", "work"));
+        prefixQuery = new TaskSearchQuery(Collections.singletonList(new TaskSearchQuery.Term(PREFIX + "*")),
+                taskCount);
+    }
+
+    @Benchmark
+    public int scanNamesAndTags() {
+        int matchCount = 0;
+        for (BasicTask task : taskManager.getTaskList()) {
+            for (String keyword : keywords) {
+                if (StringUtil.containsWordIgnoreCase(task.getAllTags(), "[" + keyword + "]")
+                        || StringUtil.containsWordIgnoreCase(task.getName().fullTaskName, keyword)) {
+                    matchCount++;
+                    break;
+                }
+            }
+        }
+        return matchCount;
+    }
+
+    @Benchmark
+    public int find() {
+        model.updateFilteredTaskList(keywords);
+        return model.getFilteredTaskList().size();
+    }
+
+    @Benchmark
+    public int scanNameWordsForPrefix() {
+        int matchCount = 0;
+        for (BasicTask task : taskManager.getTaskList()) {
+            for (String word : task.getName().fullTaskName.toLowerCase(Locale.ROOT).split("\\s+")) {
+                if (word.startsWith(PREFIX)) {
+                    matchCount++;
+                    break;
+                }
+            }
+        }
+        return matchCount;
+    }
+
+    @Benchmark
+    public List<TaskName> searchTrieForPrefix() {
+        return taskManager.getSearchIndex().search(prefixQuery);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.whatsnext.benchmark;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.whatsnext.model.ModelManager;
+import seedu.whatsnext.model.UserPrefs;
+import seedu.whatsnext.model.task.TaskSearchQuery;
+import seedu.whatsnext.model.util.SampleDataGenerator;
+
+/**
+ * Measures updating the filtered task list of a {@link ModelManager} with each of its filters, including
+ * reading the size of the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerFilterBenchmark {
+
+    @Param({"10000"})
+    public int taskCount;
+
+    @Param({"all", "initial", "completed", "incomplete", "upcoming", "expired", "reminder", "keywords",
+        "search"})
+    public String filter;
+
+    private ModelManager model;
+    private Set<String> keywords;
+    private TaskSearchQuery query;
+
+    @Setup
+    public void setUp() throws Exception {
+        SampleDataGenerator generator = new SampleDataGenerator(SampleDataGenerator.DEFAULT_SEED);
+        model = new ModelManager(generator.generateTaskManager(taskCount), new UserPrefs());
+        keywords = new HashSet<>(Arrays.asList("exam", "work"));
+        query = new TaskSearchQuery(Arrays.asList(new TaskSearchQuery.Term("exa*"),
+                new TaskSearchQuery.Term("meetign~")), 50);
+    }
+
+    @Benchmark
+    public int updateFilteredTaskList() {
+        switch (filter) {
+        case "all":
+            model.updateFilteredListToShowAll();
+            break;
+        case "initial":
+            model.updateFilteredTaskListForInitialView();
+            break;
+        case "completed":
+            model.updateFilteredTaskListToShowByCompletion(true);
+            break;
+        case "incomplete":
+            model.updateFilteredTaskListToShowByCompletion(false);
+            break;
+        case "upcoming":
+            model.updateFilteredTaskListToShowUpcomingTasks();
+            break;
+        case "expired":
+            model.updateFilteredTaskListToShowByExpiry();
+            break;
+        case "reminder":
+            model.updateFilteredTaskListForReminder();
+            break;
+        case "keywords":
+            model.updateFilteredTaskList(keywords);
+            break;
+        case "search":
+            model.updateFilteredTaskList(query);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown filter " + filter);
+        }
+        return model.getFilteredTaskList().size();
+    }
+}
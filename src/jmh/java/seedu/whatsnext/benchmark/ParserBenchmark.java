@@ -0,0 +1,62 @@
+package seedu.whatsnext.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.whatsnext.logic.commands.Command;
+import seedu.whatsnext.logic.parser.Parser;
+
+/**
+ * Measures parsing a typical command line of every command word. The dates of the add command are parsed once
+ * and then cached, as when a user types the same date again; {@link DateTimeBenchmark} measures parsing new dates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({
+        "add Submit report m/ final draft s/ 3 dec 2030 10am e/ 3 dec 2030 11am t/ work",
+        "edit 1 n/ project meeting +t/ HIGH -t/ LOW",
+        "select 1",
+        "delete 1",
+        "changepath build/jmh",
+        "filepath",
+        "mark 1",
+        "unmark 1",
+        "clear completed",
+        "find lunch tutorial school",
+        "find meet* tutorail~ limit/10",
+        "list all",
+        "undo",
+        "redo",
+        "remind 6 hour",
+        "reset 1",
+        "history",
+        "stats",
+        "batch data/import.txt",
+        "exit",
+        "help add"
+    })
+    public String commandLine;
+
+    private final Parser parser = new Parser();
+
+    @Benchmark
+    public Command parseCommand() throws Exception {
+        return parser.parseCommand(commandLine);
+    }
+}
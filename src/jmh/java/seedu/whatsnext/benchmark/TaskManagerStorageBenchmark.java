@@ -0,0 +1,96 @@
+package seedu.whatsnext.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.UserPrefs;
+import seedu.whatsnext.model.util.SampleDataGenerator;
+import seedu.whatsnext.storage.BinaryTaskManagerStorage;
+import seedu.whatsnext.storage.StreamingXmlTaskManagerStorage;
+import seedu.whatsnext.storage.TaskManagerStorage;
+import seedu.whatsnext.storage.XmlTaskManagerStorage;
+
+/**
+ * Measures loading and saving a task manager in each storage format of {@link UserPrefs}, in a temporary folder.
+ * Saving includes replacing the file atomically and rotating its backups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskManagerStorageBenchmark {
+
+    @Param({"1000", "10000"})
+    public int taskCount;
+
+    @Param({UserPrefs.STORAGE_FORMAT_XML, UserPrefs.STORAGE_FORMAT_STREAMING_XML, UserPrefs.STORAGE_FORMAT_BINARY})
+    public String format;
+
+    private File folder;
+    private String filePath;
+    private TaskManagerStorage storage;
+    private TaskManager taskManager;
+
+    @Setup
+    public void setUp() throws Exception {
+        folder = Files.createTempDirectory("whatsnext-jmh").toFile();
+        filePath = new File(folder, "whatsnext." + format).getPath();
+        storage = createStorage(format, filePath);
+        taskManager = new SampleDataGenerator(SampleDataGenerator.DEFAULT_SEED).generateTaskManager(taskCount);
+        storage.saveTaskManager(taskManager, filePath);
+    }
+
+    @TearDown
+    public void tearDown() {
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        folder.delete();
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyTaskManager> load() throws Exception {
+        return storage.readTaskManager(filePath);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveTaskManager(taskManager, filePath);
+    }
+
+    private static TaskManagerStorage createStorage(String format, String filePath) {
+        switch (format) {
+        case UserPrefs.STORAGE_FORMAT_XML:
+            return new XmlTaskManagerStorage(filePath);
+        case UserPrefs.STORAGE_FORMAT_STREAMING_XML:
+            return new StreamingXmlTaskManagerStorage(filePath);
+        case UserPrefs.STORAGE_FORMAT_BINARY:
+            return new BinaryTaskManagerStorage(filePath);
+        default:
+            throw new IllegalArgumentException("Unknown storage format " + format);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.whatsnext.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.UniqueTaskList;
+import seedu.whatsnext.model.util.SampleDataGenerator;
+
+/**
+ * Measures adding a task to a {@link UniqueTaskList}, which inserts it at its sorted position and indexes it,
+ * and replacing the content of a list, which sorts and indexes every task once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueTaskListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int taskCount;
+
+    private List<BasicTask> tasks;
+    private UniqueTaskList taskList;
+    private BasicTask taskToAdd;
+
+    @Setup
+    public void setUp() throws Exception {
+        tasks = new SampleDataGenerator(SampleDataGenerator.DEFAULT_SEED).generateTasks(taskCount + 1);
+        // one of the generated tasks, so that it is inserted among the others rather than at an end
+        taskToAdd = tasks.remove(taskCount / 2);
+        taskList = new UniqueTaskList();
+        taskList.setTasks(tasks);
+    }
+
+    /**
+     * Adds a task, then removes it to leave the list as it was for the next invocation.
+     */
+    @Benchmark
+    public UniqueTaskList addThenRemove() throws Exception {
+        taskList.add(taskToAdd);
+        taskList.remove(taskToAdd);
+        return taskList;
+    }
+
+    @Benchmark
+    public UniqueTaskList setTasks() throws Exception {
+        UniqueTaskList sortedList = new UniqueTaskList();
+        sortedList.setTasks(tasks);
+        return sortedList;
+    }
+}
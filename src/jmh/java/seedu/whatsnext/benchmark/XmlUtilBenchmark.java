@@ -0,0 +1,80 @@
+package seedu.whatsnext.benchmark;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.whatsnext.commons.util.XmlUtil;
+import seedu.whatsnext.model.util.SampleDataGenerator;
+import seedu.whatsnext.storage.XmlSerializableTaskManager;
+
+/**
+ * Measures saving and loading an {@link XmlSerializableTaskManager} through {@link XmlUtil}, which reuses a cached
+ * JAXB context and pooled marshallers, against creating a new JAXB context on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlUtilBenchmark {
+
+    @Param({"100", "1000"})
+    public int taskCount;
+
+    private File file;
+    private XmlSerializableTaskManager data;
+
+    @Setup
+    public void setUp() throws Exception {
+        file = Files.createTempFile("whatsnext-jmh", ".xml").toFile();
+        data = new XmlSerializableTaskManager(
+                new SampleDataGenerator(SampleDataGenerator.DEFAULT_SEED).generateTaskManager(taskCount));
+        XmlUtil.saveDataToFile(file, data);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public void save() throws Exception {
+        XmlUtil.saveDataToFile(file, data);
+    }
+
+    @Benchmark
+    public XmlSerializableTaskManager load() throws Exception {
+        return XmlUtil.getDataFromFile(file, XmlSerializableTaskManager.class);
+    }
+
+    @Benchmark
+    public void saveWithNewContext() throws JAXBException {
+        Marshaller marshaller = JAXBContext.newInstance(XmlSerializableTaskManager.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.marshal(data, file);
+    }
+
+    @Benchmark
+    public Object loadWithNewContext() throws JAXBException {
+        return JAXBContext.newInstance(XmlSerializableTaskManager.class).createUnmarshaller().unmarshal(file);
+    }
+}
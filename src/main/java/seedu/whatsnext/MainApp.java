@@ -1,8 +1,11 @@
 package seedu.whatsnext;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -12,11 +15,15 @@ import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.whatsnext.commons.core.Config;
 import seedu.whatsnext.commons.core.EventsCenter;
+import seedu.whatsnext.commons.core.EventsCenter.Dispatch;
 import seedu.whatsnext.commons.core.LogsCenter;
+import seedu.whatsnext.commons.core.MetricsCenter;
 import seedu.whatsnext.commons.core.Version;
 import seedu.whatsnext.commons.events.ui.ExitAppRequestEvent;
 import seedu.whatsnext.commons.exceptions.DataConversionException;
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
 import seedu.whatsnext.commons.util.ConfigUtil;
+import seedu.whatsnext.commons.util.FileUtil;
 import seedu.whatsnext.commons.util.StringUtil;
 import seedu.whatsnext.logic.Logic;
 import seedu.whatsnext.logic.LogicManager;
@@ -25,10 +32,16 @@ import seedu.whatsnext.model.ModelManager;
 import seedu.whatsnext.model.ReadOnlyTaskManager;
 import seedu.whatsnext.model.TaskManager;
 import seedu.whatsnext.model.UserPrefs;
+import seedu.whatsnext.model.task.DateTime;
+import seedu.whatsnext.model.util.SampleDataGenerator;
 import seedu.whatsnext.model.util.SampleDataUtil;
+import seedu.whatsnext.storage.BinaryTaskManagerStorage;
+import seedu.whatsnext.storage.FileTaskManagerStorage;
+import seedu.whatsnext.storage.JournaledTaskManagerStorage;
 import seedu.whatsnext.storage.JsonUserPrefsStorage;
 import seedu.whatsnext.storage.Storage;
 import seedu.whatsnext.storage.StorageManager;
+import seedu.whatsnext.storage.StreamingXmlTaskManagerStorage;
 import seedu.whatsnext.storage.TaskManagerStorage;
 import seedu.whatsnext.storage.UserPrefsStorage;
 import seedu.whatsnext.storage.XmlTaskManagerStorage;
@@ -57,16 +70,29 @@ public class MainApp extends Application {
     public void init() throws Exception {
         logger.info("=============================[ Initializing WhatsNext ]===========================");
         super.init();
+        initEventDispatch();
 
         config = initConfig(getApplicationParameter("config"));
 
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        TaskManagerStorage taskManagerStorage = new XmlTaskManagerStorage(userPrefs.getTaskManagerFilePath());
-        storage = new StorageManager(taskManagerStorage, userPrefsStorage);
+        TaskManagerStorage taskManagerStorage = initTaskManagerStorage(userPrefs, userPrefs.getTaskManagerFilePath());
+        if (userPrefs.isTaskManagerJournalEnabled()) {
+            // each change is a small append, so it is saved as soon as it happens
+            storage = new StorageManager(new JournaledTaskManagerStorage(taskManagerStorage), userPrefsStorage);
+        } else {
+            storage = new StorageManager(taskManagerStorage, userPrefsStorage, userPrefs.getSaveDebounceMillis());
+        }
 
         initLogging(config);
+        MetricsCenter.getInstance().registerMBeans();
+
+        String generatedTaskCount = getApplicationParameter("generate");
+        if (generatedTaskCount != null) {
+            generateTaskManager(userPrefs, generatedTaskCount, getApplicationParameter("out"),
+                    getApplicationParameter("seed"), getApplicationParameter("start"));
+        }
 
         model = initModelManager(storage, userPrefs);
 
@@ -77,23 +103,78 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    private TaskManagerStorage initTaskManagerStorage(UserPrefs userPrefs, String taskManagerFilePath) {
+        if (UserPrefs.STORAGE_FORMAT_BINARY.equals(userPrefs.getTaskManagerStorageFormat())) {
+            logger.info("Using binary storage for " + taskManagerFilePath);
+            return new BinaryTaskManagerStorage(taskManagerFilePath);
+        }
+        if (UserPrefs.STORAGE_FORMAT_STREAMING_XML.equals(userPrefs.getTaskManagerStorageFormat())) {
+            logger.info("Using streaming xml storage for " + taskManagerFilePath);
+            return new StreamingXmlTaskManagerStorage(taskManagerFilePath);
+        }
+        return new XmlTaskManagerStorage(taskManagerFilePath);
+    }
+
     private String getApplicationParameter(String parameterName) {
         Map<String, String> applicationParameters = getParameters().getNamed();
         return applicationParameters.get(parameterName);
     }
 
+    /**
+     * Writes {@code taskCountParameter} generated tasks to the file {@code outParameter}, in the storage format of
+     * {@code userPrefs}, so that startup can be tried with a large data file. Started with
+     * {@code --generate=TASK_COUNT --out=FILE [--seed=SEED] [--start=DATE_TIME]}.
+     * The data file in use is never written; the generated file is loaded by a config whose preferences point to it.
+     */
+    private void generateTaskManager(UserPrefs userPrefs, String taskCountParameter, String outParameter,
+            String seedParameter, String startParameter) {
+        if (outParameter == null) {
+            logger.warning("Ignoring --generate=" + taskCountParameter + ": no --out=FILE to write the tasks to");
+            return;
+        }
+        if (new File(outParameter).getAbsoluteFile()
+                .equals(new File(userPrefs.getTaskManagerFilePath()).getAbsoluteFile())) {
+            logger.warning("Ignoring --generate=" + taskCountParameter + ": " + outParameter
+                    + " is the data file in use");
+            return;
+        }
+        try {
+            int taskCount = Integer.parseInt(taskCountParameter);
+            long seed = seedParameter != null ? Long.parseLong(seedParameter) : SampleDataGenerator.DEFAULT_SEED;
+            SampleDataGenerator generator = new SampleDataGenerator(seed);
+            if (startParameter != null) {
+                generator.withStart(DateTime.fromStoredString(startParameter).getEpochMillis());
+            }
+            logger.info("Writing " + taskCount + " generated tasks to " + outParameter);
+            initTaskManagerStorage(userPrefs, outParameter).saveTaskManager(generator.generateTaskManager(taskCount));
+        } catch (IllegalArgumentException | IllegalValueException e) {
+            logger.warning("Cannot generate tasks for --generate=" + taskCountParameter + ": " + e);
+        } catch (IOException e) {
+            logger.warning("Failed to save generated tasks : " + StringUtil.getDetails(e));
+        }
+    }
+
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
         Optional<ReadOnlyTaskManager> taskManagerOptional;
         ReadOnlyTaskManager initialData;
         try {
+            long readStart = System.nanoTime();
             taskManagerOptional = storage.readTaskManager();
+            taskManagerOptional.ifPresent(data -> logger.info("Read " + data.getTaskList().size() + " tasks in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - readStart) + " ms"));
             if (!taskManagerOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample TaskManager");
             }
             initialData = taskManagerOptional.orElseGet(SampleDataUtil::getSampleTaskManager);
+            if (!taskManagerOptional.isPresent()) {
+                saveSampleData(storage, initialData);
+            }
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty TaskManager");
-            initialData = new TaskManager();
+            logger.warning("Data file not in the correct format. Will be starting with the latest valid backup");
+            initialData = readLatestBackup(storage).orElseGet(() -> {
+                logger.warning("No valid backup found. Will be starting with an empty TaskManager");
+                return new TaskManager();
+            });
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty TaskManager");
             initialData = new TaskManager();
@@ -102,6 +183,37 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Saves the sample data the app starts with, as later changes may be saved on top of the saved data only.
+     */
+    private void saveSampleData(Storage storage, ReadOnlyTaskManager sampleData) {
+        try {
+            storage.saveTaskManager(sampleData);
+        } catch (IOException e) {
+            logger.warning("Failed to save the sample TaskManager : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the most recent backup of the data file that can be read, if any.
+     */
+    private Optional<ReadOnlyTaskManager> readLatestBackup(Storage storage) {
+        File dataFile = new File(storage.getTaskManagerFilePath());
+        for (int generation = 1; generation <= FileTaskManagerStorage.BACKUP_COUNT; generation++) {
+            File backupFile = FileUtil.getBackupFile(dataFile, generation);
+            try {
+                Optional<ReadOnlyTaskManager> backup = storage.readTaskManager(backupFile.getPath());
+                if (backup.isPresent()) {
+                    logger.warning("Using backup " + backupFile);
+                    return backup;
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Backup " + backupFile + " cannot be read: " + StringUtil.getDetails(e));
+            }
+        }
+        return Optional.empty();
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -164,8 +276,16 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Handles the events of storage and metrics on their own threads, and the events of the UI on the JavaFX
+     * application thread, so that commands do not wait for them.
+     */
+    protected void initEventDispatch() {
+        EventsCenter.getInstance().setSynchronous(false);
+    }
+
     private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+        EventsCenter.getInstance().registerHandler(this, Dispatch.UI);
     }
 
     @Override
@@ -178,15 +298,34 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping WhatsNext ] =============================");
         ui.stop();
+        storage.flushPendingSaves();
+        writeMetrics(config);
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.flush();
         Platform.exit();
         System.exit(0);
     }
 
+    /**
+     * Writes the command metrics to the metrics file of {@code config}, if it has one.
+     */
+    private void writeMetrics(Config config) {
+        String metricsFilePath = config.getMetricsFilePath();
+        if (metricsFilePath == null) {
+            return;
+        }
+        try {
+            FileUtil.createParentDirsOfFile(new File(metricsFilePath));
+            MetricsCenter.getInstance().writeCsv(Paths.get(metricsFilePath));
+        } catch (IOException e) {
+            logger.warning("Failed to write metrics file : " + StringUtil.getDetails(e));
+        }
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
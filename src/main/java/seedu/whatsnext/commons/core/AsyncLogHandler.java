@@ -0,0 +1,159 @@
+package seedu.whatsnext.commons.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Passes log records on to other handlers on a background thread, so that logging never waits for the console
+ * or a log file.
+ * The records wait in a ring buffer of a fixed capacity. If records are logged faster than they are written and
+ * the buffer is full, the oldest waiting record is dropped, and the number of dropped records is logged once
+ * the buffer has room again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final String MESSAGE_DROPPED_RECORDS = "Dropped %d log record(s) while the log buffer was full";
+
+    private final List<Handler> handlers;
+    private final LogRecord[] buffer;
+    /** The index of the oldest waiting record. */
+    private int head;
+    private int size;
+    private long droppedCount;
+    /** Whether the writer thread is passing on records that it has taken from the buffer. */
+    private boolean isWriting;
+    private boolean isClosed;
+    private final Thread writer;
+
+    /**
+     * Creates a handler that passes records on to {@code handlers}, and keeps up to {@code capacity} records
+     * waiting to be written.
+     */
+    public AsyncLogHandler(int capacity, Handler... handlers) {
+        assert capacity > 0;
+        this.handlers = Arrays.asList(handlers);
+        this.buffer = new LogRecord[capacity];
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // the source of the record is found from the stack of the thread that logged it, so find it before
+        // the record leaves this thread
+        record.getSourceClassName();
+        synchronized (buffer) {
+            if (isClosed) {
+                return;
+            }
+            if (size == buffer.length) {
+                head = (head + 1) % buffer.length;
+                size--;
+                droppedCount++;
+            }
+            buffer[(head + size) % buffer.length] = record;
+            size++;
+            buffer.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until every record published so far is written, then flushes the handlers records are passed to.
+     */
+    @Override
+    public void flush() {
+        synchronized (buffer) {
+            while ((size > 0 || isWriting) && writer.isAlive()) {
+                try {
+                    buffer.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        handlers.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the records published so far, then closes the handlers records are passed to.
+     * Records published after this are discarded.
+     */
+    @Override
+    public void close() {
+        synchronized (buffer) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            buffer.notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handlers.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped so far because the buffer was full.
+     */
+    public long getDroppedCount() {
+        synchronized (buffer) {
+            return droppedCount;
+        }
+    }
+
+    private void writeRecords() {
+        long reportedDroppedCount = 0;
+        while (true) {
+            List<LogRecord> records = new ArrayList<>();
+            long newlyDroppedCount;
+            synchronized (buffer) {
+                isWriting = false;
+                buffer.notifyAll();
+                while (size == 0 && !isClosed) {
+                    try {
+                        buffer.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (size == 0) {
+                    return;
+                }
+                while (size > 0) {
+                    records.add(buffer[head]);
+                    buffer[head] = null;
+                    head = (head + 1) % buffer.length;
+                    size--;
+                }
+                newlyDroppedCount = droppedCount - reportedDroppedCount;
+                reportedDroppedCount = droppedCount;
+                isWriting = true;
+            }
+            if (newlyDroppedCount > 0) {
+                LogRecord dropped = new LogRecord(Level.WARNING,
+                        String.format(MESSAGE_DROPPED_RECORDS, newlyDroppedCount));
+                dropped.setLoggerName(AsyncLogHandler.class.getSimpleName());
+                dropped.setSourceClassName(AsyncLogHandler.class.getName());
+                dropped.setSourceMethodName("publish");
+                records.add(0, dropped);
+            }
+            for (LogRecord record : records) {
+                for (Handler handler : handlers) {
+                    handler.publish(record);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.whatsnext.commons.core;
 
+import seedu.whatsnext.commons.core.EventsCenter.Dispatch;
 import seedu.whatsnext.commons.events.BaseEvent;
 
 /**
@@ -18,8 +19,19 @@ public abstract class ComponentManager {
     }
 
     public ComponentManager(EventsCenter eventsCenter) {
+        this(eventsCenter, Dispatch.POSTING_THREAD);
+    }
+
+    /**
+     * Uses default {@link EventsCenter}, which handles the events of this class as {@code dispatch} says.
+     */
+    public ComponentManager(Dispatch dispatch) {
+        this(EventsCenter.getInstance(), dispatch);
+    }
+
+    public ComponentManager(EventsCenter eventsCenter, Dispatch dispatch) {
         this.eventsCenter = eventsCenter;
-        eventsCenter.registerHandler(this);
+        eventsCenter.registerHandler(this, dispatch);
     }
 
     protected void raise(BaseEvent event) {
@@ -16,6 +16,8 @@ public class Config {
     private String appTitle = "WhatsNext App";
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
+    /** The file the command metrics are written to when the app stops, or null if they are not written. */
+    private String metricsFilePath = null;
 
 
     public String getAppTitle() {
@@ -42,6 +44,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public String getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(String metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
     public static String getTaskManagerFilePath() {
         return taskManagerFilePath;
     }
@@ -73,12 +83,13 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, o.metricsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, metricsFilePath);
     }
 
     @Override
@@ -87,6 +98,7 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nMetrics file Location : " + metricsFilePath);
         return sb.toString();
     }
 
@@ -1,21 +1,72 @@
 package seedu.whatsnext.commons.core;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
+import seedu.whatsnext.commons.core.MetricsCenter.Phase;
 import seedu.whatsnext.commons.events.BaseEvent;
+import seedu.whatsnext.commons.events.model.TaskManagerChangedEvent;
+import seedu.whatsnext.commons.util.StringUtil;
 
 /**
  * Manages the event dispatching of the app.
+ * Each handler is registered with a {@link Dispatch}, which decides the thread its events are handled on.
+ * Until {@link #setSynchronous(boolean)} turns synchronous dispatch off, every event is handled on the thread
+ * that posts it, before {@link #post(BaseEvent)} returns, as tests expect.
+ *
+ * A {@link TaskManagerChangedEvent} that is posted while an earlier one still waits to be handled on the same
+ * thread is merged into the earlier one, so a burst of changes is handled once. The merged event is handled in
+ * the place of the earlier one, before any other event posted in between.
+ *
+ * Records the number of handlers each event is posted to, and the time taken by the handlers that update the UI.
  */
 public class EventsCenter {
+
+    /**
+     * The threads that the events of a handler can be handled on.
+     */
+    public enum Dispatch {
+        /** The thread that posts the event, before the event is posted to the other handlers. */
+        POSTING_THREAD,
+        /**
+         * A thread for slow input and output, such as saving data. Unless dispatch is synchronous, handlers are
+         * given detached events, and are not given change events that leave the data unchanged. A handler of
+         * {@link TaskManagerChangedEvent} here must therefore be able to save a change without the task manager.
+         */
+        IO,
+        /** The JavaFX application thread, after the events that are already waiting to be handled on it. */
+        UI,
+        /** A low priority thread for work that nothing waits for, such as recording metrics. */
+        BACKGROUND
+    }
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+    private static final long FLUSH_TIMEOUT_SECONDS = 10;
     private static EventsCenter instance;
-    private final EventBus eventBus;
+    private final Map<Dispatch, Lane> lanes = new EnumMap<>(Dispatch.class);
+    private boolean isSynchronous = true;
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        for (Dispatch dispatch : Dispatch.values()) {
+            lanes.put(dispatch, new Lane(dispatch));
+        }
     }
 
     public static EventsCenter getInstance() {
@@ -26,11 +77,33 @@ public class EventsCenter {
     }
 
     public static void clearSubscribers() {
+        if (instance != null) {
+            instance.lanes.values().forEach(Lane::shutdown);
+        }
         instance = null;
     }
 
+    /**
+     * Registers {@code handler} to handle its events on the thread that posts them.
+     */
     public EventsCenter registerHandler(Object handler) {
-        eventBus.register(handler);
+        return registerHandler(handler, Dispatch.POSTING_THREAD);
+    }
+
+    /**
+     * Registers {@code handler} to handle its events as {@code dispatch} says.
+     */
+    public EventsCenter registerHandler(Object handler, Dispatch dispatch) {
+        lanes.get(dispatch).register(handler);
+        return this;
+    }
+
+    /**
+     * Sets whether every event is handled on the thread that posts it, whatever the dispatch of its handlers.
+     * Events that already wait to be handled on other threads are not affected.
+     */
+    public synchronized EventsCenter setSynchronous(boolean isSynchronous) {
+        this.isSynchronous = isSynchronous;
         return this;
     }
 
@@ -38,9 +111,205 @@ public class EventsCenter {
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        boolean isSynchronous = isSynchronous();
+        int handlerCount = 0;
+        for (Lane lane : lanes.values()) {
+            handlerCount += lane.post(event, isSynchronous);
+        }
+        String handlerCountName = MetricsCenter.EVENT_HANDLERS_PREFIX + event.getClass().getSimpleName();
+        int recordedHandlerCount = handlerCount;
+        lanes.get(Dispatch.BACKGROUND).execute(() -> MetricsCenter.getInstance().recordCount(handlerCountName,
+                recordedHandlerCount), isSynchronous);
         return this;
     }
 
+    /**
+     * Waits until the events posted so far are handled on the input and output thread and the background thread.
+     * Must not be called from those threads.
+     */
+    public void flush() {
+        lanes.get(Dispatch.IO).flush();
+        lanes.get(Dispatch.BACKGROUND).flush();
+    }
+
+    private synchronized boolean isSynchronous() {
+        return isSynchronous;
+    }
+
+    /**
+     * The handlers of one {@link Dispatch}, and the thread their events are handled on.
+     */
+    private static class Lane {
+        private final Dispatch dispatch;
+        private final EventBus eventBus = new EventBus();
+        /** The event type of every handler method registered, once for each handler. */
+        private final List<Class<?>> handledEventTypes = new ArrayList<>();
+        private final Map<Class<?>, Integer> handlerCounts = new HashMap<>();
+        /** The change event waiting to be handled, which later change events are merged into, or null. */
+        private TaskManagerChangedEvent pendingChange;
+        /** The thread of {@link Dispatch#IO} or {@link Dispatch#BACKGROUND}, started when first needed. */
+        private ExecutorService executor;
+
+        Lane(Dispatch dispatch) {
+            this.dispatch = dispatch;
+        }
+
+        void register(Object handler) {
+            eventBus.register(handler);
+            synchronized (handlerCounts) {
+                handledEventTypes.addAll(getHandledEventTypes(handler.getClass()));
+                handlerCounts.clear();
+            }
+        }
+
+        /**
+         * Posts {@code event} to the handlers of this lane, on the thread of this lane unless
+         * {@code isSynchronous}. Returns the number of handler methods it is posted to.
+         */
+        int post(BaseEvent event, boolean isSynchronous) {
+            int handlerCount = getHandlerCount(event.getClass());
+            if (handlerCount == 0) {
+                return 0;
+            }
+            if (isSynchronous || dispatch == Dispatch.POSTING_THREAD) {
+                deliver(event);
+                return handlerCount;
+            }
+            if (dispatch == Dispatch.IO && event instanceof TaskManagerChangedEvent
+                    && ((TaskManagerChangedEvent) event).isDataUnchanged()) {
+                // input and output handlers have nothing to save for a change of the filtered view
+                return handlerCount;
+            }
+            BaseEvent laneEvent = dispatch == Dispatch.IO ? event.detach() : event;
+            if (laneEvent instanceof TaskManagerChangedEvent) {
+                postChange((TaskManagerChangedEvent) laneEvent);
+            } else {
+                execute(() -> deliver(laneEvent), false);
+            }
+            return handlerCount;
+        }
+
+        private void postChange(TaskManagerChangedEvent change) {
+            synchronized (this) {
+                if (pendingChange != null) {
+                    pendingChange = pendingChange.mergeWith(change);
+                    return;
+                }
+                pendingChange = change;
+            }
+            execute(() -> {
+                TaskManagerChangedEvent mergedChange;
+                synchronized (this) {
+                    mergedChange = pendingChange;
+                    pendingChange = null;
+                }
+                deliver(mergedChange);
+            }, false);
+        }
+
+        private void deliver(BaseEvent event) {
+            long start = System.nanoTime();
+            eventBus.post(event);
+            if (dispatch == Dispatch.UI) {
+                MetricsCenter.getInstance().recordTime(Phase.UI, System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Runs {@code task} on the thread of this lane, or on this thread if {@code isSynchronous}.
+         * The time recorded by {@code task} is attributed to the command that runs on this thread now.
+         */
+        void execute(Runnable task, boolean isSynchronous) {
+            if (isSynchronous || dispatch == Dispatch.POSTING_THREAD) {
+                task.run();
+            } else if (dispatch == Dispatch.UI) {
+                Platform.runLater(task);
+            } else {
+                MetricsCenter metrics = MetricsCenter.getInstance();
+                String commandWord = metrics.getCurrentCommand();
+                getExecutor().execute(() -> {
+                    metrics.startCommand(commandWord);
+                    task.run();
+                });
+            }
+        }
+
+        /**
+         * Waits until the tasks given to the thread of this lane so far are run.
+         */
+        void flush() {
+            ExecutorService executor;
+            synchronized (this) {
+                executor = this.executor;
+            }
+            if (executor == null) {
+                return;
+            }
+            try {
+                executor.submit(() -> { }).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                logger.warning("Failed to wait for " + dispatch + " events " + StringUtil.getDetails(e));
+            }
+        }
+
+        synchronized void shutdown() {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+
+        private synchronized ExecutorService getExecutor() {
+            if (executor == null) {
+                String threadName = "events-" + dispatch.name().toLowerCase(Locale.ROOT);
+                int priority = dispatch == Dispatch.BACKGROUND ? Thread.MIN_PRIORITY : Thread.NORM_PRIORITY;
+                executor = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    thread.setPriority(priority);
+                    return thread;
+                });
+            }
+            return executor;
+        }
+
+        /**
+         * Returns the number of handler methods of this lane that an event of {@code eventType} is posted to.
+         */
+        private int getHandlerCount(Class<?> eventType) {
+            synchronized (handlerCounts) {
+                return handlerCounts.computeIfAbsent(eventType, type -> {
+                    int count = 0;
+                    for (Class<?> handledType : handledEventTypes) {
+                        if (handledType.isAssignableFrom(type)) {
+                            count++;
+                        }
+                    }
+                    return count;
+                });
+            }
+        }
+    }
+
+    /**
+     * Returns the event type of each method of {@code handlerClass} that the event bus posts events to:
+     * the methods annotated with {@link Subscribe} in the class and its superclasses, counting overridden methods
+     * once.
+     */
+    private static List<Class<?>> getHandledEventTypes(Class<?> handlerClass) {
+        Set<String> signatures = new HashSet<>();
+        List<Class<?>> eventTypes = new ArrayList<>();
+        for (Class<?> type = handlerClass; type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && method.getParameterCount() == 1
+                        && signatures.add(method.getName() + method.getParameterTypes()[0].getName())) {
+                    eventTypes.add(method.getParameterTypes()[0]);
+                }
+            }
+        }
+        return eventTypes;
+    }
+
 }
@@ -16,15 +16,20 @@ import seedu.whatsnext.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written on a background thread, so logging does not wait for the console or the file.
+ *   Messages that are costly to build should be given as a {@link java.util.function.Supplier}, such as
+ *   {@code logger.fine(() -> "Task manager: " + taskManager)}, so that they are only built if they are logged.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "whatsnext.log";
+    private static final int LOG_BUFFER_CAPACITY = 4096;
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -44,13 +49,23 @@ public class LogsCenter {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
 
+        logger.setLevel(currentLogLevel);
+
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
 
+    /**
+     * Waits until every message logged so far is written.
+     */
+    public static synchronized void flush() {
+        if (asyncHandler != null) {
+            asyncHandler.flush();
+        }
+    }
+
     /**
      * Creates a Logger for the given class name.
      */
@@ -61,11 +76,24 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
-    private static void addConsoleHandler(Logger logger) {
+    /**
+     * Adds the handler that passes messages on to the console and file handlers on a background thread.
+     */
+    private static synchronized void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            addConsoleHandler();
+            addFileHandler(logger);
+            asyncHandler = fileHandler == null
+                    ? new AsyncLogHandler(LOG_BUFFER_CAPACITY, consoleHandler)
+                    : new AsyncLogHandler(LOG_BUFFER_CAPACITY, consoleHandler, fileHandler);
+        }
+        logger.addHandler(asyncHandler);
+    }
+
+    private static void addConsoleHandler() {
         if (consoleHandler == null) {
             consoleHandler = createConsoleHandler();
         }
-        logger.addHandler(consoleHandler);
     }
 
     private static void removeHandlers(Logger logger) {
@@ -80,7 +108,6 @@ public class LogsCenter {
             if (fileHandler == null) {
                 fileHandler = createFileHandler();
             }
-            logger.addHandler(fileHandler);
         } catch (IOException e) {
             logger.warning("Error adding file handler for logger.");
         }
@@ -0,0 +1,198 @@
+package seedu.whatsnext.commons.core;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import seedu.whatsnext.commons.core.metrics.Histogram;
+
+/**
+ * Collects the time each command spends in each {@link Phase}, and the distribution of counts such as the size
+ * of snapshots and the number of handlers of each event.
+ * The time spent on a thread is attributed to the command last started on that thread by
+ * {@link #startCommand(String)}, or to {@link #NO_COMMAND} if none was, such as for saves in the background.
+ *
+ * The metrics can be read as a summary, written to a CSV file, and, once {@link #registerMBeans()} is called,
+ * read through JMX as {@code seedu.whatsnext:type=CommandLatency,command=COMMAND,phase=PHASE} in microseconds
+ * and {@code seedu.whatsnext:type=Count,name=NAME}.
+ */
+public class MetricsCenter {
+
+    /**
+     * The phases of executing a command that are timed. They can overlap: executing a command includes the
+     * others, except parsing, and changing the model includes keeping the task list sorted.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, MODEL, SORT, SAVE, UI;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public static final String NO_COMMAND = "none";
+    public static final String SNAPSHOT_TASKS = "snapshotTasks";
+    public static final String EVENT_HANDLERS_PREFIX = "eventHandlers.";
+
+    private static final String JMX_DOMAIN = "seedu.whatsnext";
+    private static final String CSV_HEADER = "metric,unit,count,mean,p50,p95,p99,max";
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final MetricsCenter instance = new MetricsCenter();
+
+    private final ThreadLocal<String> currentCommand = ThreadLocal.withInitial(() -> NO_COMMAND);
+    /** The time of each phase of each command, in microseconds. */
+    private final Map<String, Map<Phase, Histogram>> latencies = new TreeMap<>();
+    private final Map<String, Histogram> counts = new TreeMap<>();
+    /** The server the histograms are registered with, or null if they are not shown through JMX. */
+    private MBeanServer mBeanServer;
+
+    private MetricsCenter() {}
+
+    public static MetricsCenter getInstance() {
+        return instance;
+    }
+
+    /**
+     * Attributes the time recorded on this thread from now on to {@code commandWord}.
+     */
+    public void startCommand(String commandWord) {
+        currentCommand.set(commandWord);
+    }
+
+    /**
+     * Returns the command that the time recorded on this thread is attributed to.
+     */
+    public String getCurrentCommand() {
+        return currentCommand.get();
+    }
+
+    /**
+     * Records {@code nanos} spent in {@code phase} by the current command of this thread.
+     */
+    public void recordTime(Phase phase, long nanos) {
+        getLatency(currentCommand.get(), phase).record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Records one occurrence of the count {@code name} with {@code value}.
+     */
+    public void recordCount(String name, long value) {
+        getCount(name).record(value);
+    }
+
+    /**
+     * Shows the histograms recorded so far and from now on through JMX.
+     */
+    public synchronized void registerMBeans() {
+        if (mBeanServer != null) {
+            return;
+        }
+        mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        latencies.forEach((commandWord, phases) -> phases.forEach((phase, latency) ->
+                registerMBean(latency, getLatencyObjectName(commandWord, phase))));
+        counts.forEach((name, count) -> registerMBean(count, getCountObjectName(name)));
+    }
+
+    /**
+     * Returns the metrics recorded so far, as lines of text: the time of each phase of each command in
+     * milliseconds, then the counts.
+     */
+    public synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder("Time in ms (count, mean, 95th percentile, max):");
+        latencies.forEach((commandWord, phases) -> phases.forEach((phase, latency) ->
+                summary.append(String.format("\n%s %s: %d, %.2f, %.2f, %.2f", commandWord, phase,
+                        latency.getCount(), latency.getMean() / 1000, latency.getP95() / 1000.0,
+                        latency.getMax() / 1000.0))));
+        summary.append("\nCounts (count, mean, 95th percentile, max):");
+        counts.forEach((name, count) -> summary.append(String.format("\n%s: %d, %.1f, %d, %d", name,
+                count.getCount(), count.getMean(), count.getP95(), count.getMax())));
+        return summary.toString();
+    }
+
+    /**
+     * Writes the metrics recorded so far to {@code file} as comma separated values, one metric per line.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public synchronized void writeCsv(Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        latencies.forEach((commandWord, phases) -> phases.forEach((phase, latency) ->
+                lines.add(toCsvLine(commandWord + "." + phase, "us", latency))));
+        counts.forEach((name, count) -> lines.add(toCsvLine(name, "", count)));
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Discards the metrics recorded so far.
+     */
+    public synchronized void clear() {
+        latencies.clear();
+        counts.clear();
+    }
+
+    private synchronized Histogram getLatency(String commandWord, Phase phase) {
+        Map<Phase, Histogram> phases = latencies.computeIfAbsent(commandWord, word -> new EnumMap<>(Phase.class));
+        Histogram latency = phases.get(phase);
+        if (latency == null) {
+            latency = new Histogram();
+            phases.put(phase, latency);
+            if (mBeanServer != null) {
+                registerMBean(latency, getLatencyObjectName(commandWord, phase));
+            }
+        }
+        return latency;
+    }
+
+    private synchronized Histogram getCount(String name) {
+        Histogram count = counts.get(name);
+        if (count == null) {
+            count = new Histogram();
+            counts.put(name, count);
+            if (mBeanServer != null) {
+                registerMBean(count, getCountObjectName(name));
+            }
+        }
+        return count;
+    }
+
+    private void registerMBean(Histogram histogram, String objectName) {
+        try {
+            ObjectName name = new ObjectName(objectName);
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+            mBeanServer.registerMBean(histogram, name);
+        } catch (JMException e) {
+            logger.warning("Cannot register " + objectName + " with JMX: " + e);
+        }
+    }
+
+    private static String getLatencyObjectName(String commandWord, Phase phase) {
+        return JMX_DOMAIN + ":type=CommandLatency,command=" + ObjectName.quote(commandWord) + ",phase=" + phase;
+    }
+
+    private static String getCountObjectName(String name) {
+        return JMX_DOMAIN + ":type=Count,name=" + ObjectName.quote(name);
+    }
+
+    private static String toCsvLine(String metric, String unit, Histogram histogram) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%.1f,%d,%d,%d,%d", metric, unit, histogram.getCount(),
+                histogram.getMean(), histogram.getP50(), histogram.getP95(), histogram.getP99(), histogram.getMax());
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.whatsnext.commons.core.metrics;
+
+/**
+ * Counts recorded values in buckets whose width grows with the values, so that any percentile is known to within
+ * about 6% of its value, whatever the range of the values, in a fixed amount of memory.
+ * Values below zero are recorded as zero. Safe to record from several threads.
+ */
+public class Histogram implements HistogramMBean {
+
+    /** Each power of two is split into this many buckets. */
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records one occurrence of {@code value}.
+     */
+    public synchronized void record(long value) {
+        long recordedValue = Math.max(0, value);
+        buckets[bucketOf(recordedValue)]++;
+        count++;
+        total += recordedValue;
+        max = Math.max(max, recordedValue);
+    }
+
+    @Override
+    public synchronized long getCount() {
+        return count;
+    }
+
+    @Override
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    @Override
+    public synchronized double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    @Override
+    public synchronized long getMax() {
+        return max;
+    }
+
+    @Override
+    public long getP50() {
+        return getPercentile(50);
+    }
+
+    @Override
+    public long getP95() {
+        return getPercentile(95);
+    }
+
+    @Override
+    public long getP99() {
+        return getPercentile(99);
+    }
+
+    /**
+     * Returns the highest value in the bucket holding the {@code percentile}th percentile of the recorded values,
+     * but no more than the largest recorded value, or 0 if no values were recorded.
+     */
+    public synchronized long getPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= rank) {
+                return bucket == BUCKET_COUNT - 1 ? max : Math.min(max, lowestValueOf(bucket + 1) - 1);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the bucket of {@code value}: values below {@link #SUB_BUCKET_COUNT} have a bucket each, and larger
+     * values share a bucket with the values that have the same highest {@code SUB_BUCKET_BITS + 1} bits.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long lowestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int highestBit = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT;
+        return (SUB_BUCKET_COUNT + subBucket) << (highestBit - SUB_BUCKET_BITS);
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.whatsnext.commons.core.metrics;
+
+/**
+ * The attributes of a {@link Histogram} shown through JMX.
+ */
+public interface HistogramMBean {
+
+    long getCount();
+
+    long getTotal();
+
+    double getMean();
+
+    long getMax();
+
+    long getP50();
+
+    long getP95();
+
+    long getP99();
+}
@@ -10,4 +10,12 @@ public abstract class BaseEvent {
      */
     public abstract String toString();
 
+    /**
+     * Returns this event with a copy of any data that the poster may go on changing, so that the event can be
+     * handled on another thread. Events that only hold data that does not change can be returned as they are.
+     */
+    public BaseEvent detach() {
+        return this;
+    }
+
 }
@@ -1,21 +1,87 @@
 package seedu.whatsnext.commons.events.model;
 
+import java.util.Arrays;
+
 import seedu.whatsnext.commons.events.BaseEvent;
 import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.TaskManagerSnapshot;
+import seedu.whatsnext.model.undo.TaskManagerDelta;
 
 /**
  * Indicates the TaskManager in the model has changed
  */
 public class TaskManagerChangedEvent extends BaseEvent {
 
+    /**
+     * The task manager, or null in an event detached with only its {@link #change}. In a detached event that
+     * merges a later change, it is the snapshot taken before {@link #changeSinceData}.
+     */
     public final ReadOnlyTaskManager data;
+    /** The change made to {@link #data} since the previous event, or null if it is not known. */
+    public final TaskManagerDelta change;
+    /** The change made since the snapshot in {@link #data} was taken, or null if there is none. */
+    public final TaskManagerDelta changeSinceData;
 
     public TaskManagerChangedEvent(ReadOnlyTaskManager data) {
+        this(data, null);
+    }
+
+    public TaskManagerChangedEvent(ReadOnlyTaskManager data, TaskManagerDelta change) {
+        this(data, change, null);
+    }
+
+    private TaskManagerChangedEvent(ReadOnlyTaskManager data, TaskManagerDelta change,
+            TaskManagerDelta changeSinceData) {
         this.data = data;
+        this.change = change;
+        this.changeSinceData = changeSinceData;
+    }
+
+    /**
+     * Returns true if the change is known to leave the content of the task manager as it was.
+     */
+    public boolean isDataUnchanged() {
+        return change != null && change.isUnchanged();
+    }
+
+    /**
+     * Returns an event that can be handled on another thread, as the task manager is changed in place.
+     * If the change is known and is not a reset, the event holds only the change, whose tasks are already
+     * copies. Otherwise the whole task manager is saved, so the event holds a snapshot of {@link #data}.
+     */
+    @Override
+    public TaskManagerChangedEvent detach() {
+        if (change != null && !change.isReset()) {
+            return new TaskManagerChangedEvent(null, change);
+        }
+        return new TaskManagerChangedEvent(TaskManagerSnapshot.of(data), change);
+    }
+
+    /**
+     * Returns one event standing for this event followed by {@code later}: both changes, or no change if either
+     * change is not known, and the data of {@code later}.
+     * If {@code later} holds only its change, the data of this event is kept, and the change of {@code later} is
+     * added to the change made since it.
+     */
+    public TaskManagerChangedEvent mergeWith(TaskManagerChangedEvent later) {
+        TaskManagerDelta mergedChange = change == null || later.change == null
+                ? null
+                : TaskManagerDelta.batch(Arrays.asList(change, later.change));
+        if (later.data != null || data == null) {
+            return new TaskManagerChangedEvent(later.data, mergedChange, later.changeSinceData);
+        }
+        TaskManagerDelta mergedChangeSinceData = changeSinceData == null
+                ? later.change
+                : TaskManagerDelta.batch(Arrays.asList(changeSinceData, later.change));
+        return new TaskManagerChangedEvent(data, mergedChange, mergedChangeSinceData);
     }
 
     @Override
     public String toString() {
+        if (data == null) {
+            return "number of tasks added " + change.getAddedTasks().size() + ", number of tasks removed "
+                    + change.getRemovedTasks().size();
+        }
         return "number of tasks " + data.getTaskList().size() + ", number of unique tags " + data.getTagList().size();
     }
 }
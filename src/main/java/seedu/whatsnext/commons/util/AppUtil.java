@@ -2,6 +2,9 @@ package seedu.whatsnext.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import javafx.scene.image.Image;
 import seedu.whatsnext.MainApp;
 
@@ -10,9 +13,15 @@ import seedu.whatsnext.MainApp;
  */
 public class AppUtil {
 
+    /** The images loaded so far, shared by everything showing them, as an {@link Image} is immutable once loaded. */
+    private static final Map<String, Image> imageCache = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the image at {@code imagePath} among the resources of the app, loading it the first time only.
+     */
     public static Image getImage(String imagePath) {
         requireNonNull(imagePath);
-        return new Image(MainApp.class.getResourceAsStream(imagePath));
+        return imageCache.computeIfAbsent(imagePath, path -> new Image(MainApp.class.getResourceAsStream(path)));
     }
 
     /**
@@ -4,7 +4,12 @@ import static seedu.whatsnext.commons.util.AppUtil.checkArgument;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -76,6 +81,82 @@ public class FileUtil {
         Files.write(file.toPath(), content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the content of {@code file} with what {@code writer} writes, so that a crash or a full disk
+     * never leaves {@code file} partially written: {@code writer} writes a temporary file in the same directory,
+     * which is forced to disk and then moved over {@code file} in a single atomic step.
+     * The previous {@code backupCount} versions of {@code file} are kept, see {@link #getBackupFile(File, int)}.
+     * Creates {@code file} and its missing parent directories if needed.
+     *
+     * @throws IOException if {@code writer} fails, in which case {@code file} is left unchanged.
+     */
+    public static void writeAtomically(File file, int backupCount, FileContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path target = file.getAbsoluteFile().toPath();
+        Path temp = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+        try {
+            writer.write(temp.toFile());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            if (Files.exists(target)) {
+                rotateBackups(target, backupCount);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        forceDirectory(target.getParent());
+    }
+
+    /**
+     * Returns the backup of {@code file} kept by {@link #writeAtomically(File, int, FileContentWriter)}
+     * {@code generation} saves ago, starting from 1 for the most recent.
+     */
+    public static File getBackupFile(File file, int generation) {
+        return new File(file.getPath() + "." + generation + ".bak");
+    }
+
+    /**
+     * Shifts the backups of {@code target} by one generation, dropping the oldest,
+     * and makes the current {@code target} the most recent backup.
+     */
+    private static void rotateBackups(Path target, int backupCount) throws IOException {
+        if (backupCount <= 0) {
+            return;
+        }
+        File file = target.toFile();
+        Files.deleteIfExists(getBackupFile(file, backupCount).toPath());
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backup = getBackupFile(file, generation).toPath();
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFile(file, generation + 1).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Path newestBackup = getBackupFile(file, 1).toPath();
+        try {
+            // the atomic move gives target a new file, so a link keeps the old content without copying it
+            Files.createLink(newestBackup, target);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(target, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry changes in {@code dir} to disk, where the platform allows it.
+     */
+    private static void forceDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms cannot open directories; the move itself is still atomic
+        }
+    }
+
     /**
      * Converts a string to a platform-specific file path
      * @param pathWithForwardSlash A String representing a file path but using '/' as the separator
@@ -86,4 +167,11 @@ public class FileUtil {
         return pathWithForwardSlash.replace("/", File.separator);
     }
 
+    /**
+     * Writes the content of a file.
+     */
+    public interface FileContentWriter {
+        void write(File file) throws IOException;
+    }
+
 }
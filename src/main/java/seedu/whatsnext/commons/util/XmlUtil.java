@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -12,9 +16,17 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Creating a {@link JAXBContext} is expensive, so one context is created per class and kept for the
+ * lifetime of the app. Marshallers and unmarshallers are not thread-safe, so each call borrows one from
+ * a per-class pool and returns it when done; the pools grow to the number of concurrent callers.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -36,10 +48,16 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Queue<Unmarshaller> pool = unmarshallers.computeIfAbsent(classToConvert, c -> new ConcurrentLinkedQueue<>());
+        Unmarshaller um = pool.poll();
+        if (um == null) {
+            um = getContext(classToConvert).createUnmarshaller();
+        }
 
-        return ((T) um.unmarshal(file));
+        T data = (T) um.unmarshal(file);
+        // only returned to the pool on success, in case a failure left it in an unusable state
+        pool.offer(um);
+        return data;
     }
 
     /**
@@ -60,11 +78,31 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Queue<Marshaller> pool = marshallers.computeIfAbsent(data.getClass(), c -> new ConcurrentLinkedQueue<>());
+        Marshaller m = pool.poll();
+        if (m == null) {
+            m = getContext(data.getClass()).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
 
         m.marshal(data, file);
+        pool.offer(m);
+    }
+
+    /**
+     * Returns the cached {@link JAXBContext} of {@code classToConvert}, creating it on first use.
+     */
+    public static JAXBContext getContext(Class<?> classToConvert) throws JAXBException {
+        JAXBContext context = contexts.get(classToConvert);
+        if (context == null) {
+            // two threads may race to create the context; both are equivalent, so either can be kept
+            context = JAXBContext.newInstance(classToConvert);
+            JAXBContext existing = contexts.putIfAbsent(classToConvert, context);
+            if (existing != null) {
+                context = existing;
+            }
+        }
+        return context;
     }
 
 }
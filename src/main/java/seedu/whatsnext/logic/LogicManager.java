@@ -6,11 +6,14 @@ import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import seedu.whatsnext.commons.core.ComponentManager;
 import seedu.whatsnext.commons.core.LogsCenter;
+import seedu.whatsnext.commons.core.MetricsCenter;
+import seedu.whatsnext.commons.core.MetricsCenter.Phase;
 import seedu.whatsnext.commons.exceptions.IllegalValueException;
 import seedu.whatsnext.logic.commands.Command;
 import seedu.whatsnext.logic.commands.CommandResult;
 import seedu.whatsnext.logic.commands.exceptions.CommandException;
 import seedu.whatsnext.logic.parser.Parser;
+import seedu.whatsnext.logic.parser.exceptions.ParseException;
 import seedu.whatsnext.model.Model;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
 import seedu.whatsnext.model.task.exceptions.TagNotFoundException;
@@ -19,7 +22,11 @@ import seedu.whatsnext.model.task.exceptions.TagNotFoundException;
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    /** The command word that the time spent on commands that cannot be parsed is recorded under. */
+    public static final String INVALID_COMMAND = "invalid";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+    private final MetricsCenter metrics = MetricsCenter.getInstance();
 
     private final Model model;
     private final CommandHistory history;
@@ -34,11 +41,27 @@ public class LogicManager extends ComponentManager implements Logic {
     @Override
     public CommandResult execute(String commandText)
             throws CommandException, TagNotFoundException, IllegalValueException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
         try {
-            Command command = parser.parseCommand(commandText);
+            long parseStart = System.nanoTime();
+            Command command;
+            try {
+                command = parser.parseCommand(commandText);
+            } catch (ParseException e) {
+                // commands that cannot be parsed are counted together, so that mistyped words do not each add metrics
+                metrics.startCommand(INVALID_COMMAND);
+                metrics.recordTime(Phase.PARSE, System.nanoTime() - parseStart);
+                throw e;
+            }
+            metrics.startCommand(commandText.trim().split("\\s+", 2)[0]);
+            metrics.recordTime(Phase.PARSE, System.nanoTime() - parseStart);
             command.setData(model, history);
-            return command.execute();
+            long executeStart = System.nanoTime();
+            try {
+                return command.execute();
+            } finally {
+                metrics.recordTime(Phase.EXECUTE, System.nanoTime() - executeStart);
+            }
         } finally {
             history.add(commandText);
         }
@@ -8,7 +8,6 @@ import static seedu.whatsnext.logic.parser.CliSyntax.PREFIX_TAG_CLI;
 
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.whatsnext.commons.core.EventsCenter;
 import seedu.whatsnext.commons.core.LogsCenter;
 import seedu.whatsnext.commons.core.index.Index;
@@ -18,6 +17,7 @@ import seedu.whatsnext.logic.commands.exceptions.CommandException;
 import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
 import seedu.whatsnext.model.task.exceptions.DuplicateTaskException;
+import seedu.whatsnext.model.util.OverlapTagUtil;
 
 //@@author A0156106M
 /**
@@ -56,28 +56,30 @@ public class AddCommand extends Command {
     @Override
     public CommandResult execute() throws CommandException, IllegalValueException {
         requireNonNull(model);
-        ObservableList<BasicTask> taskList = model.getTaskManager().getTaskList();
-        if (toAdd.isOverlapTask(taskList)) {
-            toAdd = EditCommand.createOverlapTask(toAdd);
-            logger.info(MESSAGE_OVERLAP_TASK + " Task name: " + toAdd.getName());
+        if (!model.getOverlappingEvents(toAdd).isEmpty()) {
+            toAdd = OverlapTagUtil.withOverlapTag(toAdd);
+            logger.info(() -> MESSAGE_OVERLAP_TASK + " Task name: " + toAdd.getName());
         }
+        model.beginBatch();
         try {
             model.addTask(toAdd);
-            int counter = 0;
-            for (int i = 0; i < model.getFilteredTaskList().size(); i++) {
-                if (toAdd.equals(model.getFilteredTaskList().get(i))) {
-                    counter = i;
-                    break;
-                }
-            }
-            Index index = new Index(counter);
-            EventsCenter.getInstance().post(new JumpToListRequestEvent(index));
-            logger.fine(String.format(MESSAGE_SUCCESS, toAdd));
-            return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+            model.retagOverlappingEvents(toAdd);
         } catch (DuplicateTaskException e) {
-            model.resetPrevTaskManager();
-            logger.info(MESSAGE_DUPLICATE_TASK + " Task name: " + toAdd.getName());
+            model.cancelBatch();
+            logger.info(() -> MESSAGE_DUPLICATE_TASK + " Task name: " + toAdd.getName());
             throw new CommandException(MESSAGE_DUPLICATE_TASK);
         }
+        model.endBatch();
+        int counter = 0;
+        for (int i = 0; i < model.getFilteredTaskList().size(); i++) {
+            if (toAdd.equals(model.getFilteredTaskList().get(i))) {
+                counter = i;
+                break;
+            }
+        }
+        Index index = new Index(counter);
+        EventsCenter.getInstance().post(new JumpToListRequestEvent(index));
+        logger.fine(() -> String.format(MESSAGE_SUCCESS, toAdd));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
 }
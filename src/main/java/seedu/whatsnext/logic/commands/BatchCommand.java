@@ -0,0 +1,136 @@
+package seedu.whatsnext.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.whatsnext.commons.core.LogsCenter;
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+import seedu.whatsnext.logic.CommandHistory;
+import seedu.whatsnext.logic.commands.exceptions.CommandException;
+import seedu.whatsnext.logic.parser.Parser;
+import seedu.whatsnext.model.Model;
+import seedu.whatsnext.model.task.exceptions.TagNotFoundException;
+
+/**
+ * Executes the commands in a file, one per line, as a single change to the task manager:
+ * either all of them succeed, or none of their changes are kept.
+ * The changes are undone by a single undo and saved once, after the last command.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Executes the commands in a file, one per line, as a single command that can be undone at once.\n"
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/import.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands from %2$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Cannot read commands from %1$s";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s\nNo changes were made.";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED =
+            "Batches cannot undo, redo, change the data file or run other batches";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommand.class);
+
+    private final File file;
+
+    public BatchCommand(File file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        requireNonNull(model);
+        Map<Integer, Command> commands = parseCommands();
+
+        model.beginBatch();
+        boolean isSuccessful = false;
+        try {
+            for (Map.Entry<Integer, Command> command : commands.entrySet()) {
+                try {
+                    command.getValue().setData(model, history);
+                    command.getValue().execute();
+                } catch (CommandException | TagNotFoundException | IllegalValueException e) {
+                    throw new CommandException(String.format(MESSAGE_LINE_FAILED, command.getKey(), e.getMessage()));
+                }
+            }
+            isSuccessful = true;
+        } finally {
+            if (isSuccessful) {
+                model.endBatch();
+            } else {
+                model.cancelBatch();
+            }
+        }
+
+        logger.fine(() -> String.format(MESSAGE_SUCCESS, commands.size(), file));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), file));
+    }
+
+    /**
+     * Parses every command in the file before any is executed, so that a batch with a mistyped command changes
+     * nothing.
+     * @return the commands by their line number.
+     */
+    private Map<Integer, Command> parseCommands() throws CommandException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.info(String.format(MESSAGE_CANNOT_READ_FILE, file) + ": " + e);
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, file));
+        }
+
+        Parser parser = new Parser();
+        Map<Integer, Command> commands = new LinkedHashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                commands.put(i + 1, checkAllowed(parser.parseCommand(line)));
+            } catch (IllegalValueException e) {
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, i + 1, e.getMessage()));
+            }
+        }
+        return commands;
+    }
+
+    /**
+     * Returns {@code command} if it can be run in a batch.
+     * @throws IllegalValueException if it undoes or redoes changes, which the batch has not recorded yet,
+     *     changes the data file, which the batch saves at the end, or is a nested batch.
+     */
+    private static Command checkAllowed(Command command) throws IllegalValueException {
+        if (command instanceof UndoCommand || command instanceof RedoCommand
+                || command instanceof ChangePathCommand || command instanceof BatchCommand) {
+            throw new IllegalValueException(MESSAGE_COMMAND_NOT_ALLOWED);
+        }
+        return command;
+    }
+
+    @Override
+    public void setData(Model model, CommandHistory history) {
+        this.model = model;
+        this.history = history;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && file.equals(((BatchCommand) other).file));
+    }
+}
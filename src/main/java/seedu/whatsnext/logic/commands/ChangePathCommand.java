@@ -5,7 +5,7 @@ import java.util.logging.Logger;
 
 import seedu.whatsnext.commons.core.LogsCenter;
 import seedu.whatsnext.logic.commands.exceptions.CommandException;
-import seedu.whatsnext.storage.XmlTaskManagerStorage;
+import seedu.whatsnext.storage.FileTaskManagerStorage;
 
 //@@author A0149894H
 /**
@@ -45,10 +45,10 @@ public class ChangePathCommand extends Command {
         //overwrite file path
         model.setTaskManagerFilePath(toSave.toString());
 
-        XmlTaskManagerStorage.changeTaskManagerFilePath(toSave.toString());
+        FileTaskManagerStorage.changeTaskManagerFilePath(toSave.toString());
         model.saveTaskManager();
 
-        logger.fine(MESSAGE_SUCCESS + toSave.toString());
+        logger.fine(() -> MESSAGE_SUCCESS + toSave.toString());
         return new CommandResult(MESSAGE_SUCCESS + toSave.toString());
     }
 
@@ -38,19 +38,22 @@ public class DeleteCommand extends Command {
         UnmodifiableObservableList<BasicTaskFeatures> lastShownList = model.getFilteredTaskList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            logger.info(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + targetIndex.getOneBased());
+            logger.info(() -> Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + targetIndex.getOneBased());
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
         BasicTaskFeatures taskToDelete = lastShownList.get(targetIndex.getZeroBased());
+        model.beginBatch();
         try {
             model.deleteTask(taskToDelete);
+            model.retagOverlappingEvents(taskToDelete);
         } catch (TaskNotFoundException pnfe) {
             logger.warning("Targeted task missing!");
             assert false : "The target task cannot be missing";
         }
+        model.endBatch();
 
-        logger.fine(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
+        logger.fine(() -> String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
         return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
     }
 
@@ -15,7 +15,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.whatsnext.commons.core.EventsCenter;
 import seedu.whatsnext.commons.core.LogsCenter;
 import seedu.whatsnext.commons.core.Messages;
@@ -33,6 +32,7 @@ import seedu.whatsnext.model.task.TaskName;
 import seedu.whatsnext.model.task.exceptions.DuplicateTaskException;
 import seedu.whatsnext.model.task.exceptions.TagNotFoundException;
 import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
+import seedu.whatsnext.model.util.OverlapTagUtil;
 
 /**
  * Edits the details of an existing task in the task manager.
@@ -87,7 +87,7 @@ public class EditCommand extends Command {
         List<BasicTaskFeatures> lastShownList = model.getFilteredTaskList();
 
         if (index.getZeroBased() >= lastShownList.size()) {
-            logger.info(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + index.getOneBased());
+            logger.info(() -> Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + index.getOneBased());
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
@@ -95,25 +95,30 @@ public class EditCommand extends Command {
         BasicTask editedTask = createEditedTask(taskToEdit, editTaskDescriptor);
         validateEditTask(editedTask);
 
-        //UnmodifiableObservableList<BasicTaskFeatures> taskList = model.getFilteredTaskList();
-        ObservableList<BasicTask> taskList = model.getTaskManager().getTaskList();
-
+        // the task in the list is updated in place, so its period before the edit is kept apart
+        BasicTask taskBeforeEdit = new BasicTask(taskToEdit);
+        model.beginBatch();
         try {
-            if (editedTask.isOverlapTask(taskList, index.getZeroBased())) {
-                editedTask = EditCommand.createOverlapTask(editedTask);
+            if (isOverlapping(editedTask, taskToEdit)) {
+                editedTask = OverlapTagUtil.withOverlapTag(editedTask);
             } else {
-                editedTask = EditCommand.createNonOverlapTask(editedTask);
+                editedTask = OverlapTagUtil.withoutOverlapTag(editedTask);
             }
 
             model.updateTask(taskToEdit, editedTask);
-
+            model.retagOverlappingEvents(taskBeforeEdit);
+            model.retagOverlappingEvents(editedTask);
         } catch (DuplicateTaskException dpe) {
-            logger.info(MESSAGE_DUPLICATE_TASK + " Task name: " + editedTask.getName());
+            model.cancelBatch();
+            TaskName duplicateName = editedTask.getName();
+            logger.info(() -> MESSAGE_DUPLICATE_TASK + " Task name: " + duplicateName);
             throw new CommandException(MESSAGE_DUPLICATE_TASK);
         } catch (TaskNotFoundException pnfe) {
+            model.cancelBatch();
             logger.warning("Targeted task missing!");
             throw new AssertionError("The target task cannot be missing");
         }
+        model.endBatch();
         int counter = 0;
         for (int i = 0; i < model.getFilteredTaskList().size(); i++) {
             if (taskToEdit.equals(model.getFilteredTaskList().get(i))) {
@@ -123,10 +128,22 @@ public class EditCommand extends Command {
         }
         Index index = new Index(counter);
         EventsCenter.getInstance().post(new JumpToListRequestEvent(index));
-        logger.fine(String.format(MESSAGE_EDIT_TASK_SUCCESS, taskToEdit));
+        logger.fine(() -> String.format(MESSAGE_EDIT_TASK_SUCCESS, taskToEdit));
         return new CommandResult(String.format(MESSAGE_EDIT_TASK_SUCCESS, taskToEdit));
     }
 
+    /**
+     * Returns true if {@code editedTask} overlaps an event other than {@code taskToEdit}, which it replaces.
+     */
+    private boolean isOverlapping(BasicTask editedTask, BasicTaskFeatures taskToEdit) {
+        for (BasicTask event : model.getOverlappingEvents(editedTask)) {
+            if (!event.equals(taskToEdit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
     * Checks the new editedTask created to ensure that the edited task value(s) is/are valid
     * @throws CommandException if edited task is invalid
@@ -164,57 +181,6 @@ public class EditCommand extends Command {
                 updatedStartDateTime, updatedEndDateTime, updatedTags);
     }
 
-    //@@author A0156106M
-    /**
-     * Creates a new overlap BasicTask based on @param taskToMark
-     * @return marked BasicTask
-     * */
-    static BasicTask createOverlapTask(BasicTaskFeatures taskToMark) {
-        assert taskToMark != null;
-        BasicTask toCopy = new BasicTask(taskToMark);
-        TaskName updatedName = toCopy.getName();
-        TaskDescription updatedDescription = toCopy.getDescription();
-        DateTime startDateTime = toCopy.getStartDateTime();
-        DateTime endDateTime = toCopy.getEndDateTime();
-        boolean updateIsComplete = toCopy.getIsCompleted();
-        Set<Tag> copyTags = toCopy.getTags();
-        Set<Tag> updatedTags = new HashSet<Tag>(copyTags);
-
-        try {
-            updatedTags.add(new Tag(Tag.RESERVED_TAG_OVERLAP));
-        } catch (IllegalValueException e) {
-            e.printStackTrace();
-        }
-        return new BasicTask(updatedName, updatedDescription,
-                updateIsComplete, startDateTime, endDateTime, updatedTags);
-    }
-
-    static BasicTask createNonOverlapTask(BasicTaskFeatures taskToMark) {
-        assert taskToMark != null;
-        BasicTask toCopy = new BasicTask(taskToMark);
-        TaskName updatedName = toCopy.getName();
-        TaskDescription updatedDescription = toCopy.getDescription();
-        DateTime startDateTime = toCopy.getStartDateTime();
-        DateTime endDateTime = toCopy.getEndDateTime();
-        boolean updateIsComplete = toCopy.getIsCompleted();
-        Set<Tag> copyTags = toCopy.getTags();
-        Set<Tag> updatedTags = new HashSet<Tag>();
-        for (Tag tag : copyTags) {
-            if (!tag.tagName.equals(Tag.RESERVED_TAG_OVERLAP)) {
-                try {
-                    updatedTags.add(new Tag(tag.tagName));
-                } catch (IllegalValueException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
-
-        return new BasicTask(updatedName, updatedDescription,
-                updateIsComplete, startDateTime, endDateTime, updatedTags);
-    }
-
-
-
     //@@author A0142675B
     /**
      * Adds and removes the tags accordingly.
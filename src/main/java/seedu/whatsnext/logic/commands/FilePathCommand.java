@@ -24,7 +24,7 @@ public class FilePathCommand extends Command {
     public CommandResult execute() throws CommandException {
         requireNonNull(model);
         String filePath = model.getTaskManagerFilePath();
-        logger.info(MESSAGE_SUCCESS + filePath);
+        logger.info(() -> MESSAGE_SUCCESS + filePath);
         return new CommandResult(MESSAGE_SUCCESS + filePath);
     }
 
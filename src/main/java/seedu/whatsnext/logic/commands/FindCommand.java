@@ -4,32 +4,51 @@ import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.whatsnext.commons.core.LogsCenter;
+import seedu.whatsnext.model.task.TaskSearchQuery;
 
 /**
  * Finds and lists all tasks in TaskManager whose name or tags contain any of the argument keywords.
  * Keyword matching is case insensitive.
+ * With prefix or typo-tolerant terms, or a limit, lists the best matching tasks by name and description instead.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final int DEFAULT_SEARCH_LIMIT = 50;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all task names or tags which contain any of "
             + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " lunch tutorial school";
+            + "End a keyword with " + TaskSearchQuery.PREFIX_SUFFIX + " to match words starting with it, or with "
+            + TaskSearchQuery.FUZZY_SUFFIX + " to allow up to " + TaskSearchQuery.MAX_EDIT_DISTANCE + " typos. "
+            + "Such searches look in names and descriptions, and show the best " + DEFAULT_SEARCH_LIMIT
+            + " matches first, or as many as given by limit/.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [limit/COUNT]\n"
+            + "Example: " + COMMAND_WORD + " lunch tutorial school\n"
+            + "Example: " + COMMAND_WORD + " meet* tutorail~ limit/10";
 
     private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
 
     private final Set<String> keywords;
+    private final TaskSearchQuery query;
 
     public FindCommand(Set<String> keywords) {
         this.keywords = keywords;
+        this.query = null;
+    }
+
+    public FindCommand(TaskSearchQuery query) {
+        this.keywords = null;
+        this.query = query;
     }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredTaskList(keywords);
-        logger.info(COMMAND_WORD + ": " + keywords.toString() + " "
+        if (query == null) {
+            model.updateFilteredTaskList(keywords);
+        } else {
+            model.updateFilteredTaskList(query);
+        }
+        logger.info(() -> COMMAND_WORD + ": " + (query == null ? keywords : query) + " "
                 + getMessageForTaskListShownSummary(model.getFilteredTaskList().size()));
         return new CommandResult(getMessageForTaskListShownSummary(model.getFilteredTaskList().size()));
     }
@@ -97,6 +97,12 @@ public class HelpCommand extends Command {
         case ResetCommand.COMMAND_WORD:
             messageUsage = ResetCommand.MESSAGE_USAGE;
             break;
+        case BatchCommand.COMMAND_WORD:
+            messageUsage = BatchCommand.MESSAGE_USAGE;
+            break;
+        case StatsCommand.COMMAND_WORD:
+            messageUsage = StatsCommand.MESSAGE_USAGE;
+            break;
         default:
             messageUsage = HelpCommand.MESSAGE_USAGE;
         }
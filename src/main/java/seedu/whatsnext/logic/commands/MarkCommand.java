@@ -46,13 +46,13 @@ public class MarkCommand extends Command {
     public CommandResult execute() throws CommandException, DuplicateTaskException {
         List<BasicTaskFeatures> lastShownList = model.getFilteredTaskList();
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            logger.info(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + targetIndex.getOneBased());
+            logger.info(() -> Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + targetIndex.getOneBased());
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
         BasicTaskFeatures taskToMark = lastShownList.get(targetIndex.getZeroBased());
         if (taskToMark.getIsCompleted()) {
-            logger.info(MESSAGE_TASK_MARKED + ": " + targetIndex.getOneBased());
+            logger.info(() -> MESSAGE_TASK_MARKED + ": " + targetIndex.getOneBased());
             throw new CommandException(MESSAGE_TASK_MARKED);
         }
 
@@ -65,7 +65,7 @@ public class MarkCommand extends Command {
             throw new AssertionError("The target task cannot be missing");
 
         }
-        logger.fine(String.format(MESSAGE_MARK_TASK_SUCCESS, taskToMark));
+        logger.fine(() -> String.format(MESSAGE_MARK_TASK_SUCCESS, taskToMark));
         return new CommandResult(String.format(MESSAGE_MARK_TASK_SUCCESS, taskToMark));
     }
 
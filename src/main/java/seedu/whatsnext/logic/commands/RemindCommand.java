@@ -39,11 +39,11 @@ public class RemindCommand extends Command {
         }
         String currentReminderSetting = model.getReminderSetting();
         if (reminderString.equals(currentReminderSetting)) {
-            logger.info(MESSAGE_NO_CHANGE_IN_REMINDER_SETTING + currentReminderSetting);
+            logger.info(() -> MESSAGE_NO_CHANGE_IN_REMINDER_SETTING + currentReminderSetting);
             return new CommandResult(MESSAGE_NO_CHANGE_IN_REMINDER_SETTING + currentReminderSetting);
         } else {
             model.setReminderSetting(reminderString);
-            logger.fine(MESSAGE_SUCCESS + reminderString);
+            logger.fine(() -> MESSAGE_SUCCESS + reminderString);
             return new CommandResult(MESSAGE_SUCCESS + reminderString);
         }
     }
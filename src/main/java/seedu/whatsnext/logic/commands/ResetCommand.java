@@ -11,6 +11,7 @@ import seedu.whatsnext.logic.commands.exceptions.CommandException;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
 import seedu.whatsnext.model.task.DateTime;
 import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
+import seedu.whatsnext.model.util.OverlapTagUtil;
 
 //@@author A0142675B
 /**
@@ -44,7 +45,7 @@ public class ResetCommand extends Command {
         UnmodifiableObservableList<BasicTaskFeatures> lastShownList = model.getFilteredTaskList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            logger.info(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + targetIndex.getOneBased());
+            logger.info(() -> Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + targetIndex.getOneBased());
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
@@ -54,12 +55,10 @@ public class ResetCommand extends Command {
             return new CommandResult(MESSAGE_RESET_FLOATING_TASK);
         }
 
-        BasicTaskFeatures resetedTask = EditCommand.createNonOverlapTask(taskToReset);
+        BasicTaskFeatures resetedTask = OverlapTagUtil.withoutOverlapTag(taskToReset);
 
-        DateTime initDateTime = new DateTime();
-
-        resetedTask.setStartDateTime(initDateTime);
-        resetedTask.setEndDateTime(initDateTime);
+        resetedTask.setStartDateTime(DateTime.EMPTY);
+        resetedTask.setEndDateTime(DateTime.EMPTY);
 
         try {
             model.updateTask(taskToReset, resetedTask);
@@ -67,7 +66,7 @@ public class ResetCommand extends Command {
             logger.warning("Targeted task missing!");
             assert false : "The target task cannot be missing";
         }
-        logger.fine(String.format(MESSAGE_RESET_TASK_SUCCESS, taskToReset));
+        logger.fine(() -> String.format(MESSAGE_RESET_TASK_SUCCESS, taskToReset));
         return new CommandResult(String.format(MESSAGE_RESET_TASK_SUCCESS, taskToReset));
     }
 
@@ -39,12 +39,12 @@ public class SelectCommand extends Command {
         UnmodifiableObservableList<BasicTaskFeatures> lastShownList = model.getFilteredTaskList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            logger.info(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + targetIndex.getOneBased());
+            logger.info(() -> Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + targetIndex.getOneBased());
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
 
         EventsCenter.getInstance().post(new JumpToListRequestEvent(targetIndex));
-        logger.info(String.format(MESSAGE_SELECT_TASK_SUCCESS, targetIndex.getOneBased()));
+        logger.info(() -> String.format(MESSAGE_SELECT_TASK_SUCCESS, targetIndex.getOneBased()));
         return new CommandResult(String.format(MESSAGE_SELECT_TASK_SUCCESS, targetIndex.getOneBased()));
 
     }
@@ -0,0 +1,20 @@
+package seedu.whatsnext.logic.commands;
+
+import seedu.whatsnext.commons.core.MetricsCenter;
+
+/**
+ * Shows how long each phase of each command has taken since the app started, and the counts recorded with it,
+ * to find out where a slow command spends its time.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each phase of each command has taken since the app started.\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute() {
+        return new CommandResult(MetricsCenter.getInstance().getSummary());
+    }
+}
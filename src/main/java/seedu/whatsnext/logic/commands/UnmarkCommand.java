@@ -46,13 +46,13 @@ public class UnmarkCommand extends Command {
         List<BasicTaskFeatures> lastShownList = model.getFilteredTaskList();
 
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            logger.info(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + targetIndex.getOneBased());
+            logger.info(() -> Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX + ": " + targetIndex.getOneBased());
             throw new CommandException(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
         }
         BasicTaskFeatures taskToMark = lastShownList.get(targetIndex.getZeroBased());
         BasicTask markedTask = createUnmarkedTask(taskToMark);
         if (!taskToMark.getIsCompleted()) {
-            logger.info(MESSAGE_TASK_UNMARKED + ": " + targetIndex.getOneBased());
+            logger.info(() -> MESSAGE_TASK_UNMARKED + ": " + targetIndex.getOneBased());
             throw new CommandException(MESSAGE_TASK_UNMARKED);
         }
         try {
@@ -61,7 +61,7 @@ public class UnmarkCommand extends Command {
             logger.warning("Targeted task missing!");
             throw new AssertionError("The target task cannot be missing");
         }
-        logger.fine(String.format(MESSAGE_UNMARK_TASK_SUCCESS, taskToMark));
+        logger.fine(() -> String.format(MESSAGE_UNMARK_TASK_SUCCESS, taskToMark));
         return new CommandResult(String.format(MESSAGE_UNMARK_TASK_SUCCESS, taskToMark));
     }
 
@@ -0,0 +1,27 @@
+package seedu.whatsnext.logic.parser;
+
+import static seedu.whatsnext.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.File;
+
+import seedu.whatsnext.logic.commands.BatchCommand;
+import seedu.whatsnext.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if no file path is given
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        String filePath = args.trim();
+        if (filePath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+        return new BatchCommand(new File(filePath));
+    }
+}
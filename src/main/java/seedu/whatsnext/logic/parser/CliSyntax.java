@@ -28,4 +28,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG_CLI = new Prefix("t/");
     public static final Prefix PREFIX_MESSAGE = new Prefix("m/");
     public static final Prefix PREFIX_EXPIRED = new Prefix("expired");
+
+    //@@author
+    public static final Prefix PREFIX_LIMIT = new Prefix("limit/");
 }
@@ -1,22 +1,30 @@
 package seedu.whatsnext.logic.parser;
 
 import static seedu.whatsnext.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.whatsnext.logic.parser.CliSyntax.PREFIX_LIMIT;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+import seedu.whatsnext.commons.util.StringUtil;
 import seedu.whatsnext.logic.commands.FindCommand;
 import seedu.whatsnext.logic.parser.exceptions.ParseException;
+import seedu.whatsnext.model.task.TaskSearchQuery;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser {
 
+    public static final String MESSAGE_INVALID_LIMIT = "The search limit should be a positive number.";
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns an FindCommand object for execution.
+     * Keywords are matched as whole words, unless one of them is a prefix or typo-tolerant term or a limit is
+     * given, in which case all of them make up a ranked {@link TaskSearchQuery}.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
@@ -27,9 +35,42 @@ public class FindCommandParser {
         }
 
         // keywords delimited by whitespace
-        final String[] keywords = trimmedArgs.split("\\s+");
-        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        return new FindCommand(keywordSet);
+        final List<String> keywords = new ArrayList<>();
+        Integer limit = null;
+        boolean isRankedSearch = false;
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            if (keyword.startsWith(PREFIX_LIMIT.getPrefix())) {
+                limit = parseLimit(keyword.substring(PREFIX_LIMIT.getPrefix().length()));
+            } else {
+                keywords.add(keyword);
+                isRankedSearch |= TaskSearchQuery.isPartialTerm(keyword);
+            }
+        }
+        if (keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        if (!isRankedSearch && limit == null) {
+            return new FindCommand(new HashSet<>(keywords));
+        }
+        try {
+            final List<TaskSearchQuery.Term> terms = new ArrayList<>();
+            for (String keyword : keywords) {
+                terms.add(new TaskSearchQuery.Term(keyword));
+            }
+            int searchLimit = limit == null ? FindCommand.DEFAULT_SEARCH_LIMIT : limit;
+            return new FindCommand(new TaskSearchQuery(terms, searchLimit));
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage() + "\n" + FindCommand.MESSAGE_USAGE, ive);
+        }
+    }
+
+    private static int parseLimit(String limit) throws ParseException {
+        if (!StringUtil.isNonZeroUnsignedInteger(limit)) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+        return Integer.parseInt(limit);
     }
 
 }
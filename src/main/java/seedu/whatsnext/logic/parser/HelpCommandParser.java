@@ -3,6 +3,7 @@ package seedu.whatsnext.logic.parser;
 import static seedu.whatsnext.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import seedu.whatsnext.logic.commands.AddCommand;
+import seedu.whatsnext.logic.commands.BatchCommand;
 import seedu.whatsnext.logic.commands.ChangePathCommand;
 import seedu.whatsnext.logic.commands.ClearCommand;
 import seedu.whatsnext.logic.commands.DeleteCommand;
@@ -17,6 +18,7 @@ import seedu.whatsnext.logic.commands.RedoCommand;
 import seedu.whatsnext.logic.commands.RemindCommand;
 import seedu.whatsnext.logic.commands.ResetCommand;
 import seedu.whatsnext.logic.commands.SelectCommand;
+import seedu.whatsnext.logic.commands.StatsCommand;
 import seedu.whatsnext.logic.commands.UndoCommand;
 import seedu.whatsnext.logic.commands.UnmarkCommand;
 import seedu.whatsnext.logic.parser.exceptions.ParseException;
@@ -54,7 +56,8 @@ public class HelpCommandParser {
                 || args.equals(FindCommand.COMMAND_WORD) || args.equals(ListCommand.COMMAND_WORD)
                 || args.equals(UndoCommand.COMMAND_WORD) || args.equals(RedoCommand.COMMAND_WORD)
                 || args.equals(RemindCommand.COMMAND_WORD) || args.equals(HistoryCommand.COMMAND_WORD)
-                || args.equals(HelpCommand.COMMAND_WORD) || args.equals(ResetCommand.COMMAND_WORD)) {
+                || args.equals(HelpCommand.COMMAND_WORD) || args.equals(ResetCommand.COMMAND_WORD)
+                || args.equals(BatchCommand.COMMAND_WORD) || args.equals(StatsCommand.COMMAND_WORD)) {
             return true;
         }
         return false;
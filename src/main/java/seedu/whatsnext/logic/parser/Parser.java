@@ -7,6 +7,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.whatsnext.logic.commands.AddCommand;
+import seedu.whatsnext.logic.commands.BatchCommand;
 import seedu.whatsnext.logic.commands.ChangePathCommand;
 import seedu.whatsnext.logic.commands.ClearCommand;
 import seedu.whatsnext.logic.commands.Command;
@@ -23,6 +24,7 @@ import seedu.whatsnext.logic.commands.RedoCommand;
 import seedu.whatsnext.logic.commands.RemindCommand;
 import seedu.whatsnext.logic.commands.ResetCommand;
 import seedu.whatsnext.logic.commands.SelectCommand;
+import seedu.whatsnext.logic.commands.StatsCommand;
 import seedu.whatsnext.logic.commands.UndoCommand;
 import seedu.whatsnext.logic.commands.UnmarkCommand;
 import seedu.whatsnext.logic.parser.exceptions.ParseException;
@@ -117,6 +119,12 @@ public class Parser {
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
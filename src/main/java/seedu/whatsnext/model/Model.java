@@ -1,10 +1,12 @@
 package seedu.whatsnext.model;
 
+import java.util.List;
 import java.util.Set;
 
 import seedu.whatsnext.commons.core.UnmodifiableObservableList;
 import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
+import seedu.whatsnext.model.task.TaskSearchQuery;
 import seedu.whatsnext.model.task.exceptions.DuplicateTaskException;
 import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
 
@@ -29,10 +31,6 @@ public interface Model {
     /** Redo previous action of task manager. */
     void redoTaskManager();
 
-    //@@author A0154986L
-    /** Resets previous task manager instance. */
-    void resetPrevTaskManager();
-
     //@@author A0154986L
     /** Returns current reminder setting. */
     String getReminderSetting();
@@ -61,6 +59,33 @@ public interface Model {
     void updateTask(BasicTaskFeatures target, BasicTaskFeatures editedTask)
             throws DuplicateTaskException, TaskNotFoundException;
 
+    /**
+     * Starts a batch of changes. Until the batch ends, changes are not recorded in the undo history or reported
+     * in a {@code TaskManagerChangedEvent}, and must not be undone or redone.
+     * A batch begun while another batch is running is part of that batch.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the current batch. Its changes are recorded as a single undo entry and reported in a single
+     * {@code TaskManagerChangedEvent}, so they are saved once, or, if it is part of another batch, when that batch
+     * ends.
+     */
+    void endBatch();
+
+    /** Ends the current batch and reverts its changes, but not those of a batch it is part of. */
+    void cancelBatch();
+
+    /** Returns the events in the task manager, other than {@code event} itself, that overlap {@code event}. */
+    List<BasicTask> getOverlappingEvents(BasicTaskFeatures event);
+
+    /**
+     * Adds or removes the overlap tag of the events overlapping the period of {@code changedEvent}, which has just
+     * been added, moved or removed, wherever the tag no longer says whether another event overlaps them.
+     * Does nothing if {@code changedEvent} is not an event.
+     */
+    void retagOverlappingEvents(BasicTaskFeatures changedEvent);
+
     /** Returns the filtered task list as an {@code UnmodifiableObservableList<BasicTaskFeatures>} */
     UnmodifiableObservableList<BasicTaskFeatures> getFilteredTaskList();
 
@@ -70,6 +95,9 @@ public interface Model {
     /** Updates the filter of the filtered task list to filter by the given keywords*/
     void updateFilteredTaskList(Set<String> keywords);
 
+    /** Updates the filtered task list to show the tasks found by the given ranked search */
+    void updateFilteredTaskList(TaskSearchQuery query);
+
     void updateFilteredTaskListForInitialView();
 
     //@@author A0154986L
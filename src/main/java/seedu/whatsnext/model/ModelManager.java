@@ -1,30 +1,47 @@
 package seedu.whatsnext.model;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.whatsnext.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.whatsnext.model.task.BasicTask.TASK_TYPE_DEADLINE;
-import static seedu.whatsnext.model.task.BasicTask.TASK_TYPE_EVENT;
 import static seedu.whatsnext.model.task.BasicTask.TASK_TYPE_FLOATING;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.whatsnext.commons.core.ComponentManager;
 import seedu.whatsnext.commons.core.LogsCenter;
+import seedu.whatsnext.commons.core.MetricsCenter;
+import seedu.whatsnext.commons.core.MetricsCenter.Phase;
 import seedu.whatsnext.commons.core.UnmodifiableObservableList;
 import seedu.whatsnext.commons.events.model.TaskManagerChangedEvent;
-import seedu.whatsnext.commons.util.StringUtil;
 import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
+import seedu.whatsnext.model.task.DateTime;
+import seedu.whatsnext.model.task.TaskKeywordIndex;
+import seedu.whatsnext.model.task.TaskName;
+import seedu.whatsnext.model.task.TaskSearchQuery;
+import seedu.whatsnext.model.task.TaskTimeIndex;
+import seedu.whatsnext.model.task.TaskTimeIndex.TimeRange;
+import seedu.whatsnext.model.task.UniqueTaskList;
 import seedu.whatsnext.model.task.exceptions.DuplicateTaskException;
 import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
+import seedu.whatsnext.model.undo.TaskManagerDelta;
+import seedu.whatsnext.model.undo.UndoJournal;
+import seedu.whatsnext.model.util.OverlapTagUtil;
 import seedu.whatsnext.ui.UiManager;
 
 /**
@@ -33,12 +50,30 @@ import seedu.whatsnext.ui.UiManager;
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    /** A reminder setting such as {@code 3 day} or {@code 6 hours}: an amount and a time unit. */
+    private static final Pattern REMINDER_SETTING_PATTERN = Pattern.compile("(\\d+)\\s+(.*?)s?");
+    @SuppressWarnings("serial")
+    private static final Map<String, Integer> REMINDER_SETTING_FIELDS = new HashMap<String, Integer>() {
+        {
+            put("minute", Calendar.MINUTE);
+            put("hour",   Calendar.HOUR);
+            put("day",    Calendar.DATE);
+            put("week",   Calendar.WEEK_OF_YEAR);
+            put("month",  Calendar.MONTH);
+            put("year",   Calendar.YEAR);
+        }
+    };
 
     private final TaskManager taskManager;
     private final FilteredList<BasicTask> filteredTasks;
+    /** The filtered tasks, in task order unless a ranked search is shown. */
+    private final SortedList<BasicTask> sortedTasks;
 
-    private Stack<TaskManager> undoTaskManager;
-    private Stack<TaskManager> redoTaskManager;
+    private final UndoJournal undoJournal;
+    /** The changes made since {@link #beginBatch()}, or null if no batch is running. */
+    private List<TaskManagerDelta> batchDeltas;
+    /** The number of changes made before each running batch began, the innermost batch first. */
+    private final Deque<Integer> batchStarts = new ArrayDeque<>();
 
     private UserPrefs userPrefs;
 
@@ -49,11 +84,11 @@ public class ModelManager extends ComponentManager implements Model {
         super();
         requireAllNonNull(taskManager, userPrefs);
 
-        logger.fine("Initializing with Task Manager: " + taskManager + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with Task Manager: " + taskManager + " and user prefs " + userPrefs);
         this.taskManager = new TaskManager(taskManager);
         filteredTasks = new FilteredList<>(this.taskManager.getTaskList());
-        undoTaskManager = new Stack<TaskManager>();
-        redoTaskManager = new Stack<TaskManager>();
+        sortedTasks = new SortedList<>(filteredTasks);
+        undoJournal = new UndoJournal(userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryTaskLimit());
         this.userPrefs = userPrefs;
     }
 
@@ -63,9 +98,11 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyTaskManager newData) {
-        saveInstance();
+        TaskManagerDelta delta = TaskManagerDelta.reset(taskManager, newData);
+        long start = System.nanoTime();
         taskManager.resetData(newData);
-        indicateTaskManagerChanged();
+        recordModelTime(start);
+        recordChange(delta);
     }
 
     @Override
@@ -73,42 +110,24 @@ public class ModelManager extends ComponentManager implements Model {
         UiManager.showReminderAlert();
     }
 
-    //@@author A0154986L
-    /** Save a copy of task manager before data is changed. */
-    private void saveInstance() {
-        undoTaskManager.push(new TaskManager(taskManager));
-        redoTaskManager.clear();
-    }
-
     //@@author A0154986L
     /** Undo previous action of task manager. */
     @Override
     public void undoTaskManager() {
-        TaskManager currentTaskManager = new TaskManager(taskManager);
-        taskManager.resetData(undoTaskManager.peek());
-        undoTaskManager.pop();
-        redoTaskManager.push(currentTaskManager);
-        indicateTaskManagerChanged();
+        long start = System.nanoTime();
+        TaskManagerDelta change = undoJournal.undo(taskManager);
+        recordModelTime(start);
+        indicateTaskManagerChanged(change);
     }
 
     //@@author A0154986L
     /** Redo previous action of task manager. */
     @Override
     public void redoTaskManager() {
-        TaskManager currentTaskManager = new TaskManager(taskManager);
-        taskManager.resetData(redoTaskManager.peek());
-        redoTaskManager.pop();
-        undoTaskManager.push(currentTaskManager);
-        indicateTaskManagerChanged();
-    }
-
-    //@@author A0154986L
-    /** Resets previous task manager instance. */
-    @Override
-    public void resetPrevTaskManager() {
-        undoTaskManager();
-        redoTaskManager.clear();
-        indicateTaskManagerChanged();
+        long start = System.nanoTime();
+        TaskManagerDelta change = undoJournal.redo(taskManager);
+        recordModelTime(start);
+        indicateTaskManagerChanged(change);
     }
 
     //@@author A0154986L
@@ -144,11 +163,83 @@ public class ModelManager extends ComponentManager implements Model {
         return taskManager;
     }
 
-    /** Raises an event to indicate the model has changed */
+    /** Raises an event to indicate the model has changed, without saying how */
     private void indicateTaskManagerChanged() {
         raise(new TaskManagerChangedEvent(taskManager));
     }
 
+    /**
+     * Raises an event to indicate the model has changed by {@code change}.
+     * During a batch, the event is raised once, when the batch ends.
+     */
+    private void indicateTaskManagerChanged(TaskManagerDelta change) {
+        if (!isBatchRunning()) {
+            raise(new TaskManagerChangedEvent(taskManager, change));
+        }
+    }
+
+    /**
+     * Records {@code change}, which has just been made, in the undo history, or in the current batch.
+     */
+    private void recordChange(TaskManagerDelta change) {
+        if (isBatchRunning()) {
+            batchDeltas.add(change);
+            return;
+        }
+        undoJournal.record(change);
+        indicateTaskManagerChanged(change);
+    }
+
+    /**
+     * Records the time since {@code startNanos} as spent changing the task list, which includes updating its
+     * indexes and the views of it shown by the UI, but not saving the change.
+     */
+    private static void recordModelTime(long startNanos) {
+        MetricsCenter.getInstance().recordTime(Phase.MODEL, System.nanoTime() - startNanos);
+    }
+
+    private boolean isBatchRunning() {
+        return batchDeltas != null;
+    }
+
+    @Override
+    public synchronized void beginBatch() {
+        if (!isBatchRunning()) {
+            batchDeltas = new ArrayList<>();
+        }
+        batchStarts.push(batchDeltas.size());
+    }
+
+    @Override
+    public synchronized void endBatch() {
+        assert isBatchRunning() : "No batch to end";
+        batchStarts.pop();
+        if (!batchStarts.isEmpty()) {
+            return;
+        }
+        TaskManagerDelta change = TaskManagerDelta.batch(batchDeltas);
+        batchDeltas = null;
+        if (!change.getRemovedTasks().isEmpty() || !change.getAddedTasks().isEmpty() || change.isReset()) {
+            undoJournal.record(change);
+        }
+        indicateTaskManagerChanged(change);
+    }
+
+    @Override
+    public synchronized void cancelBatch() {
+        assert isBatchRunning() : "No batch to cancel";
+        List<TaskManagerDelta> cancelledDeltas = batchDeltas.subList(batchStarts.pop(), batchDeltas.size());
+        TaskManagerDelta change = TaskManagerDelta.batch(cancelledDeltas);
+        cancelledDeltas.clear();
+        if (batchStarts.isEmpty()) {
+            batchDeltas = null;
+        }
+        long start = System.nanoTime();
+        change.undo(taskManager);
+        recordModelTime(start);
+        indicateTaskManagerChanged(TaskManagerDelta.unchanged());
+    }
+
     //@@author A0149894H
     /**Re-saves data when file path is changed. */
     @Override
@@ -158,25 +249,62 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public synchronized void deleteTask(BasicTaskFeatures target) throws TaskNotFoundException {
-        saveInstance();
+        TaskManagerDelta delta = TaskManagerDelta.removed(target);
+        long start = System.nanoTime();
         taskManager.removeTask(target);
-        indicateTaskManagerChanged();
+        recordModelTime(start);
+        recordChange(delta);
     }
 
     @Override
     public synchronized void addTask(BasicTask task) throws DuplicateTaskException {
-        saveInstance();
+        TaskManagerDelta delta = TaskManagerDelta.added(task);
+        long start = System.nanoTime();
         taskManager.addTask(task);
-        indicateTaskManagerChanged();
+        recordModelTime(start);
+        recordChange(delta);
     }
 
     @Override
     public void updateTask(BasicTaskFeatures target, BasicTaskFeatures editedTask)
             throws DuplicateTaskException, TaskNotFoundException {
-        saveInstance();
         requireAllNonNull(target, editedTask);
+        // target may be the task instance in the list, which is updated in place
+        TaskManagerDelta delta = TaskManagerDelta.replaced(target, editedTask);
+        long start = System.nanoTime();
         taskManager.updateTask(target, editedTask);
-        indicateTaskManagerChanged();
+        recordModelTime(start);
+        recordChange(delta);
+    }
+
+    @Override
+    public List<BasicTask> getOverlappingEvents(BasicTaskFeatures event) {
+        requireNonNull(event);
+        return taskManager.getEventIntervalTree().findOverlapping(event);
+    }
+
+    /**
+     * Events elsewhere than around the period of {@code changedEvent} cannot have been affected, so they are not
+     * looked at.
+     */
+    @Override
+    public void retagOverlappingEvents(BasicTaskFeatures changedEvent) {
+        requireNonNull(changedEvent);
+        if (!changedEvent.getTaskType().equals(BasicTask.TASK_TYPE_EVENT)) {
+            return;
+        }
+        List<BasicTask> staleEvents = taskManager.getEventIntervalTree().findStaleOverlapTags(
+                changedEvent.getStartDateTime(), changedEvent.getEndDateTime());
+        for (BasicTask event : staleEvents) {
+            BasicTask retaggedEvent = OverlapTagUtil.hasOverlapTag(event)
+                    ? OverlapTagUtil.withoutOverlapTag(event)
+                    : OverlapTagUtil.withOverlapTag(event);
+            try {
+                updateTask(event, retaggedEvent);
+            } catch (DuplicateTaskException | TaskNotFoundException e) {
+                throw new AssertionError("Retagging an event in the list cannot fail", e);
+            }
+        }
     }
 
     //=========== Filtered Task List Accessors =============================================================
@@ -187,23 +315,41 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public UnmodifiableObservableList<BasicTaskFeatures> getFilteredTaskList() {
-        return new UnmodifiableObservableList<>(filteredTasks);
+        return new UnmodifiableObservableList<>(sortedTasks);
     }
 
     @Override
     public void updateFilteredListToShowAll() {
         filteredTasks.setPredicate(null);
-        indicateTaskManagerChanged();
+        sortedTasks.setComparator(null);
+        indicateTaskManagerChanged(TaskManagerDelta.unchanged());
     }
 
     @Override
     public void updateFilteredTaskList(Set<String> keywords) {
-        updateFilteredTaskList(new PredicateExpression(new NameAndTagQualifier(keywords)));
-        indicateTaskManagerChanged();
+        updateFilteredTaskList(new NameAndTagQualifier(keywords));
+        indicateTaskManagerChanged(TaskManagerDelta.unchanged());
+    }
+
+    /**
+     * Shows the tasks found by {@code query}, grouped by task type as the UI panels expect, best match first.
+     */
+    @Override
+    public void updateFilteredTaskList(TaskSearchQuery query) {
+        Map<TaskName, Integer> ranks = taskManager.getSearchIndex().rank(query);
+        filteredTasks.setPredicate(task -> ranks.containsKey(task.getName()));
+        sortedTasks.setComparator(UniqueTaskList.TASK_TYPE_ORDER
+                .thenComparingInt(task -> ranks.get(task.getName())));
+        indicateTaskManagerChanged(TaskManagerDelta.unchanged());
     }
 
     private void updateFilteredTaskList(Expression expression) {
         filteredTasks.setPredicate(expression::satisfies);
+        sortedTasks.setComparator(null);
+    }
+
+    private void updateFilteredTaskList(IndexedQualifier qualifier) {
+        updateFilteredTaskList(new FoundTasksExpression(qualifier));
     }
 
     @Override
@@ -218,7 +364,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredTaskListToShowByCompletion(boolean isComplete) {
         updateFilteredTaskList(new PredicateExpression(new CompletedQualifier(isComplete)));
-        indicateTaskManagerChanged();
+        indicateTaskManagerChanged(TaskManagerDelta.unchanged());
     }
 
     //@@author A0154986L
@@ -227,8 +373,8 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public void updateFilteredTaskListToShowUpcomingTasks() {
-        updateFilteredTaskList(new PredicateExpression(new UpcomingTasksQualifier()));
-        indicateTaskManagerChanged();
+        updateFilteredTaskList(new UpcomingTasksQualifier());
+        indicateTaskManagerChanged(TaskManagerDelta.unchanged());
     }
 
     //@@author A0154986L
@@ -237,8 +383,8 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public void updateFilteredTaskListToShowByExpiry() {
-        updateFilteredTaskList(new PredicateExpression(new ExpiredTasksQualifier()));
-        indicateTaskManagerChanged();
+        updateFilteredTaskList(new ExpiredTasksQualifier());
+        indicateTaskManagerChanged(TaskManagerDelta.unchanged());
     }
 
     //@@author A0154986L
@@ -247,7 +393,7 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public void updateFilteredTaskListForReminder() {
-        updateFilteredTaskList(new PredicateExpression(new ReminderQualifier()));
+        updateFilteredTaskList(new ReminderQualifier());
     }
 
     //@@author
@@ -266,7 +412,7 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return taskManager.equals(other.taskManager)
-                && filteredTasks.equals(other.filteredTasks);
+                && sortedTasks.equals(other.sortedTasks);
     }
 
     //========== Inner classes/interfaces used for filtering =================================================
@@ -296,12 +442,69 @@ public class ModelManager extends ComponentManager implements Model {
         }
     }
 
+    /**
+     * Tests the tasks against the names an {@link IndexedQualifier} finds when the expression is created, with a
+     * hash lookup. Once the tasks have changed, the tasks added or changed since are tested against the index as it
+     * is then, as they may not be among the names found.
+     */
+    private class FoundTasksExpression implements Expression {
+
+        private final IndexedQualifier qualifier;
+        private final Set<TaskName> foundNames;
+        private final long foundAtModificationCount;
+
+        FoundTasksExpression(IndexedQualifier qualifier) {
+            this.qualifier = qualifier;
+            this.foundNames = Collections.unmodifiableSet(new HashSet<>(qualifier.findNames()));
+            this.foundAtModificationCount = taskManager.getModificationCount();
+        }
+
+        @Override
+        public boolean satisfies(BasicTaskFeatures basicTaskFeatures) {
+            boolean isFound = taskManager.getModificationCount() == foundAtModificationCount
+                    ? foundNames.contains(basicTaskFeatures.getName())
+                    : qualifier.isInIndex(basicTaskFeatures);
+            return qualifier.run(basicTaskFeatures, isFound);
+        }
+
+        @Override
+        public String toString() {
+            return qualifier.toString();
+        }
+    }
+
     interface Qualifier {
         boolean run(BasicTaskFeatures basicTaskFeatures);
         @Override
         String toString();
     }
 
+    /**
+     * A qualifier that finds the tasks it matches in an index of {@link #taskManager}.
+     */
+    private abstract class IndexedQualifier implements Qualifier {
+
+        /**
+         * Returns the names of the tasks the index finds now.
+         */
+        protected abstract Collection<TaskName> findNames();
+
+        /**
+         * Returns true if {@code basicTaskFeatures} is among the tasks the index finds now.
+         */
+        protected abstract boolean isInIndex(BasicTaskFeatures basicTaskFeatures);
+
+        /**
+         * Returns true if {@code basicTaskFeatures} qualifies, given whether it is among the tasks the index finds.
+         */
+        protected abstract boolean run(BasicTaskFeatures basicTaskFeatures, boolean isFound);
+
+        @Override
+        public boolean run(BasicTaskFeatures basicTaskFeatures) {
+            return run(basicTaskFeatures, isInIndex(basicTaskFeatures));
+        }
+    }
+
     //@@author A0154986L
     /**
      * Finds tasks by completion status.
@@ -331,28 +534,32 @@ public class ModelManager extends ComponentManager implements Model {
     //@@author A0154986L
     /**
      * Finds non-expired, upcoming tasks.
+     * Events and deadlines are taken from a range of the {@link TaskTimeIndex} of {@link #taskManager}.
      */
-    private class UpcomingTasksQualifier implements Qualifier {
+    private class UpcomingTasksQualifier extends IndexedQualifier {
         private boolean isComplete = false;
-        private Date currentTime = new Date();
-        private Calendar cal = Calendar.getInstance();
+        private final Date currentTime = new Date();
+        private final TimeRange endingFromNow = taskManager.getTimeIndex()
+                .findEndingFrom(DateTime.fromEpochMillis(currentTime.getTime()));
 
         @Override
-        public boolean run(BasicTaskFeatures basicTaskFeatures) {
-            cal.setTime(currentTime);
-            currentTime = cal.getTime();
-            return ((basicTaskFeatures.getIsCompleted() == isComplete
-                    && ((basicTaskFeatures.getTaskType().equals(TASK_TYPE_EVENT)
-                            && !basicTaskFeatures.getEndDateTime().isBefore(currentTime))
-                            || (basicTaskFeatures.getTaskType().equals(TASK_TYPE_DEADLINE)
-                                    && !basicTaskFeatures.getEndDateTime().isBefore(currentTime)))))
+        protected boolean run(BasicTaskFeatures basicTaskFeatures, boolean isFound) {
+            return (basicTaskFeatures.getIsCompleted() == isComplete && isFound)
                     || basicTaskFeatures.getTaskType().equals(TASK_TYPE_FLOATING);
         }
 
+        @Override
+        protected Collection<TaskName> findNames() {
+            return endingFromNow.getNames();
+        }
+
+        @Override
+        protected boolean isInIndex(BasicTaskFeatures basicTaskFeatures) {
+            return endingFromNow.contains(basicTaskFeatures);
+        }
+
         @Override
         public String toString() {
-            cal.setTime(currentTime);
-            currentTime = cal.getTime();
             return currentTime.toString();
         }
     }
@@ -360,120 +567,113 @@ public class ModelManager extends ComponentManager implements Model {
     //@@author A0154986L
     /**
      * Finds expired tasks.
+     * Events and deadlines are taken from a range of the {@link TaskTimeIndex} of {@link #taskManager}.
      */
-    private class ExpiredTasksQualifier implements Qualifier {
-        private Date currentTime = new Date();
-        private Calendar cal = Calendar.getInstance();
+    private class ExpiredTasksQualifier extends IndexedQualifier {
+        private final Date currentTime = new Date();
+        private final TimeRange endingBeforeNow = taskManager.getTimeIndex()
+                .findEndingBefore(DateTime.fromEpochMillis(currentTime.getTime()));
 
         @Override
-        public boolean run(BasicTaskFeatures basicTaskFeatures) {
-            cal.setTime(currentTime);
-            currentTime = cal.getTime();
-            return (basicTaskFeatures.getTaskType().equals(TASK_TYPE_EVENT)
-                            && basicTaskFeatures.getEndDateTime().isBefore(currentTime))
-                            || (basicTaskFeatures.getTaskType().equals(TASK_TYPE_DEADLINE)
-                                    && basicTaskFeatures.getEndDateTime().isBefore(currentTime));
+        protected boolean run(BasicTaskFeatures basicTaskFeatures, boolean isFound) {
+            return isFound;
+        }
+
+        @Override
+        protected Collection<TaskName> findNames() {
+            return endingBeforeNow.getNames();
+        }
+
+        @Override
+        protected boolean isInIndex(BasicTaskFeatures basicTaskFeatures) {
+            return endingBeforeNow.contains(basicTaskFeatures);
         }
 
         @Override
         public String toString() {
-            cal.setTime(currentTime);
-            currentTime = cal.getTime();
             return currentTime.toString();
         }
     }
 
     //@@author A0154986L
     /**
-     * Finds the tasks for reminder pop up window.
+     * Finds the tasks for reminder pop up window: the events starting, and the deadlines ending, between now
+     * and the end of the reminder period. The period is worked out once, when the qualifier is created.
      */
-    private class ReminderQualifier implements Qualifier {
-
-        private Date remindStart = new Date();
-        private Date remindEnd = new Date();
-        private Calendar cal = Calendar.getInstance();
-
-        private Pattern p = Pattern.compile("(\\d+)\\s+(.*?)s?");
-
-        @SuppressWarnings("serial")
-        private Map<String, Integer> fields = new HashMap<String, Integer>() {
-            {
-                put("minute", Calendar.MINUTE);
-                put("hour",   Calendar.HOUR);
-                put("day",    Calendar.DATE);
-                put("week",   Calendar.WEEK_OF_YEAR);
-                put("month",  Calendar.MONTH);
-                put("year",   Calendar.YEAR);
-            }
-        };
+    private class ReminderQualifier extends IndexedQualifier {
+
+        private final Date remindStart = new Date();
+        private final Date remindEnd = getRemindEnd(remindStart, getReminderSetting());
+        private final TimeRange dueWithinPeriod = taskManager.getTimeIndex().findDueWithin(
+                DateTime.fromEpochMillis(remindStart.getTime()), DateTime.fromEpochMillis(remindEnd.getTime()));
 
         @Override
-        public boolean run(BasicTaskFeatures basicTaskFeatures) {
-            cal.setTime(remindStart);
-            remindStart = cal.getTime();
+        protected boolean run(BasicTaskFeatures basicTaskFeatures, boolean isFound) {
+            return isFound;
+        }
 
-            if (getReminderSetting() == null || getReminderSetting() == "3 day") {
-                cal.add(Calendar.DATE, 3);
-                remindEnd = cal.getTime();
-            } else {
-                Matcher m = p.matcher(getReminderSetting());
-                if (m.matches()) {
-                    int amount = Integer.parseInt(m.group(1));
-                    String unit = m.group(2);
-                    cal.add(fields.get(unit), amount);
-                    remindEnd = cal.getTime();
-                }
-            }
+        @Override
+        protected Collection<TaskName> findNames() {
+            return dueWithinPeriod.getNames();
+        }
 
-            return (basicTaskFeatures.getTaskType().equals(TASK_TYPE_EVENT)
-                    && !basicTaskFeatures.getStartDateTime().isBefore(remindStart)
-                    && basicTaskFeatures.getStartDateTime().isBefore(remindEnd))
-                    || (basicTaskFeatures.getTaskType().equals(TASK_TYPE_DEADLINE)
-                            && !basicTaskFeatures.getEndDateTime().isBefore(remindStart)
-                            && basicTaskFeatures.getEndDateTime().isBefore(remindEnd));
+        @Override
+        protected boolean isInIndex(BasicTaskFeatures basicTaskFeatures) {
+            return dueWithinPeriod.contains(basicTaskFeatures);
         }
 
         @Override
         public String toString() {
-            if (getReminderSetting() == null || getReminderSetting() == "3 day") {
-                cal.add(Calendar.DATE, 3);
-                remindEnd = cal.getTime();
-            } else {
-                Matcher m = p.matcher(getReminderSetting());
-                if (m.matches()) {
-                    int amount = Integer.parseInt(m.group(1));
-                    String unit = m.group(2);
-                    cal.add(fields.get(unit), amount);
-                    remindEnd = cal.getTime();
-                }
-            }
             return remindEnd.toString();
         }
     }
 
+    /**
+     * Returns the end of the reminder period starting at {@code remindStart}, given a reminder setting such as
+     * {@code 3 day}, or {@code remindStart} itself if the setting cannot be read.
+     */
+    private static Date getRemindEnd(Date remindStart, String reminderSetting) {
+        Calendar cal = Calendar.getInstance();
+        cal.setTime(remindStart);
+        if (reminderSetting == null) {
+            cal.add(Calendar.DATE, 3);
+            return cal.getTime();
+        }
+        Matcher m = REMINDER_SETTING_PATTERN.matcher(reminderSetting);
+        if (m.matches() && REMINDER_SETTING_FIELDS.containsKey(m.group(2))) {
+            int amount = Integer.parseInt(m.group(1));
+            cal.add(REMINDER_SETTING_FIELDS.get(m.group(2)), amount);
+        }
+        return cal.getTime();
+    }
+
     //@@author A0142675B
     /**
      * Finds the tasks either by name or tag.
+     * The names of the matching tasks are looked up in the {@link TaskKeywordIndex} of {@link #taskManager} once.
      */
-    private class NameAndTagQualifier implements Qualifier {
+    private class NameAndTagQualifier extends IndexedQualifier {
         private Set<String> keyWords;
+        private List<String> normalizedKeyWords;
 
         NameAndTagQualifier(Set<String> keyWords) {
             this.keyWords =  keyWords;
+            this.normalizedKeyWords = TaskKeywordIndex.normalize(keyWords);
         }
 
         @Override
-        public boolean run(BasicTaskFeatures basicTaskFeatures) {
-            return (keyWords.stream()
-                    .filter(keyword ->
-                    StringUtil.containsWordIgnoreCase(basicTaskFeatures.getAllTags(), "[" + keyword + "]"))
-                    .findAny()
-                    .isPresent())
-                    || (keyWords.stream()
-                            .filter(keyword ->
-                            StringUtil.containsWordIgnoreCase(basicTaskFeatures.getName().fullTaskName, keyword))
-                            .findAny()
-                            .isPresent());
+        protected boolean run(BasicTaskFeatures basicTaskFeatures, boolean isFound) {
+            return isFound;
+        }
+
+        @Override
+        protected Collection<TaskName> findNames() {
+            return taskManager.getKeywordIndex().findAny(normalizedKeyWords);
+        }
+
+        @Override
+        protected boolean isInIndex(BasicTaskFeatures basicTaskFeatures) {
+            return taskManager.getKeywordIndex().matchesAny(basicTaskFeatures, normalizedKeyWords);
         }
 
         @Override
@@ -17,6 +17,10 @@ import seedu.whatsnext.model.tag.Tag;
 import seedu.whatsnext.model.tag.UniqueTagList;
 import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
+import seedu.whatsnext.model.task.EventIntervalTree;
+import seedu.whatsnext.model.task.TaskKeywordIndex;
+import seedu.whatsnext.model.task.TaskSearchIndex;
+import seedu.whatsnext.model.task.TaskTimeIndex;
 import seedu.whatsnext.model.task.UniqueTaskList;
 import seedu.whatsnext.model.task.exceptions.DuplicateTaskException;
 import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
@@ -93,7 +97,6 @@ public class TaskManager implements ReadOnlyTaskManager {
         BasicTask newFloating = new BasicTask(task);
         syncMasterTagListWith(newFloating);
         tasks.add(newFloating);
-        tasks.sort();
     }
 
     /**
@@ -113,7 +116,6 @@ public class TaskManager implements ReadOnlyTaskManager {
         BasicTask editedTask = new BasicTask(editedReadOnlyTask);
         syncMasterTagListWith(editedTask);
         tasks.updateTask(target, editedTask);
-        tasks.sort();
     }
 
 
@@ -149,13 +151,48 @@ public class TaskManager implements ReadOnlyTaskManager {
 
     public boolean removeTask(BasicTaskFeatures key) throws TaskNotFoundException {
         if (tasks.remove(key)) {
-            tasks.sort();
             return true;
         } else {
             throw new TaskNotFoundException();
         }
     }
 
+    /**
+     * Returns the number of changes made to the tasks so far.
+     */
+    public long getModificationCount() {
+        return tasks.getModificationCount();
+    }
+
+    /**
+     * Returns the index of the name words and tags of the tasks, kept up to date as tasks are added, edited and
+     * removed.
+     */
+    public TaskKeywordIndex getKeywordIndex() {
+        return tasks.getKeywordIndex();
+    }
+
+    /**
+     * Returns the trie of the name and description words of the tasks, kept up to date likewise.
+     */
+    public TaskSearchIndex getSearchIndex() {
+        return tasks.getSearchIndex();
+    }
+
+    /**
+     * Returns the interval tree of the events, kept up to date likewise.
+     */
+    public EventIntervalTree getEventIntervalTree() {
+        return tasks.getEventIntervalTree();
+    }
+
+    /**
+     * Returns the index of the start and end date times of the events and deadlines, kept up to date likewise.
+     */
+    public TaskTimeIndex getTimeIndex() {
+        return tasks.getTimeIndex();
+    }
+
     // tag-level operations
 
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException, IllegalValueException {
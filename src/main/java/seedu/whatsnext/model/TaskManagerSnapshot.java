@@ -0,0 +1,56 @@
+package seedu.whatsnext.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.whatsnext.commons.core.MetricsCenter;
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
+
+/**
+ * A frozen copy of the tasks and tags of a task manager.
+ * Unlike {@link TaskManager#TaskManager(ReadOnlyTaskManager)}, taking a snapshot does not re-sort the tasks
+ * or re-link their tags, so it only costs one shallow copy per task.
+ * The tasks are copied because {@link TaskManager} updates its tasks in place.
+ */
+public class TaskManagerSnapshot implements ReadOnlyTaskManager {
+
+    private final List<BasicTask> tasks;
+    private final List<Tag> tags;
+
+    public TaskManagerSnapshot(ReadOnlyTaskManager source) {
+        requireNonNull(source);
+        tasks = new ArrayList<>(source.getTaskList().size());
+        for (BasicTask task : source.getTaskList()) {
+            tasks.add(new BasicTask(task));
+        }
+        tags = new ArrayList<>(source.getTagList());
+        MetricsCenter.getInstance().recordCount(MetricsCenter.SNAPSHOT_TASKS, tasks.size());
+    }
+
+    /**
+     * Returns a snapshot of {@code source}, which is {@code source} itself if it is already a snapshot.
+     */
+    public static TaskManagerSnapshot of(ReadOnlyTaskManager source) {
+        return source instanceof TaskManagerSnapshot ? (TaskManagerSnapshot) source : new TaskManagerSnapshot(source);
+    }
+
+    @Override
+    public ObservableList<BasicTask> getTaskList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks));
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+    }
+
+    @Override
+    public String toString() {
+        return tasks.size() + " tasks, " + tags.size() + " tags";
+    }
+}
@@ -3,17 +3,28 @@ package seedu.whatsnext.model;
 import java.util.Objects;
 
 import seedu.whatsnext.commons.core.GuiSettings;
+import seedu.whatsnext.model.undo.UndoJournal;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs {
 
+    public static final long DEFAULT_SAVE_DEBOUNCE_MILLIS = 200;
+    public static final String STORAGE_FORMAT_XML = "xml";
+    public static final String STORAGE_FORMAT_BINARY = "binary";
+    public static final String STORAGE_FORMAT_STREAMING_XML = "streaming-xml";
+
     private GuiSettings guiSettings;
     private String reminderSetting;
     private String taskManagerFilePath;
 
     private String taskManagerName = "MyTaskManager";
+    private int undoHistoryDepth = UndoJournal.DEFAULT_MAX_DEPTH;
+    private int undoHistoryTaskLimit = UndoJournal.DEFAULT_MAX_RETAINED_TASKS;
+    private long saveDebounceMillis = DEFAULT_SAVE_DEBOUNCE_MILLIS;
+    private String taskManagerStorageFormat = STORAGE_FORMAT_XML;
+    private boolean taskManagerJournalEnabled = false;
 
     private final String defaultReminderSetting = "3 day";
     private final String defaultTaskManagerFilePath = "data/whatsnext.xml";
@@ -70,6 +81,58 @@ public class UserPrefs {
         this.taskManagerName = taskManagerName;
     }
 
+    /** Returns the maximum number of commands that can be undone. */
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    /** Returns the maximum number of task records kept by the undo history. */
+    public int getUndoHistoryTaskLimit() {
+        return undoHistoryTaskLimit;
+    }
+
+    public void setUndoHistoryTaskLimit(int undoHistoryTaskLimit) {
+        this.undoHistoryTaskLimit = undoHistoryTaskLimit;
+    }
+
+    /** Returns how long changes to the task manager are collected before they are saved together. */
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    /**
+     * Returns the format the task manager file is saved in, {@link #STORAGE_FORMAT_XML},
+     * {@link #STORAGE_FORMAT_STREAMING_XML} (the same xml file, read and written one task at a time) or
+     * {@link #STORAGE_FORMAT_BINARY}. A file in another format is still read, and converted on the next save.
+     */
+    public String getTaskManagerStorageFormat() {
+        return taskManagerStorageFormat;
+    }
+
+    public void setTaskManagerStorageFormat(String taskManagerStorageFormat) {
+        this.taskManagerStorageFormat = taskManagerStorageFormat;
+    }
+
+    /**
+     * Returns true if each change to the task manager is appended to a journal file
+     * instead of rewriting the whole task manager file.
+     */
+    public boolean isTaskManagerJournalEnabled() {
+        return taskManagerJournalEnabled;
+    }
+
+    public void setTaskManagerJournalEnabled(boolean taskManagerJournalEnabled) {
+        this.taskManagerJournalEnabled = taskManagerJournalEnabled;
+    }
+
 
     @Override
     public boolean equals(Object other) {
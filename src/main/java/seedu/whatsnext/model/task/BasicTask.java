@@ -37,15 +37,15 @@ public class BasicTask implements BasicTaskFeatures {
      * */
     public BasicTask(TaskName taskName, TaskDescription taskDescription,
             boolean isCompleted, Set<Tag> tags) throws IllegalValueException {
-        this (taskName, taskDescription, isCompleted, new DateTime(), new DateTime(), tags);
+        this (taskName, taskDescription, isCompleted, DateTime.EMPTY, DateTime.EMPTY, tags);
     }
 
     public BasicTask(TaskName taskName, TaskDescription taskDescription, Set<Tag> tags) throws IllegalValueException {
-        this (taskName, taskDescription, false, new DateTime(), new DateTime(), tags);
+        this (taskName, taskDescription, false, DateTime.EMPTY, DateTime.EMPTY, tags);
     }
 
     public BasicTask(TaskName taskName, Set<Tag> tags) throws IllegalValueException {
-        this (taskName, new TaskDescription(), false, new DateTime(), new DateTime(), tags);
+        this (taskName, new TaskDescription(), false, DateTime.EMPTY, DateTime.EMPTY, tags);
     }
 
     /**
@@ -54,13 +54,13 @@ public class BasicTask implements BasicTaskFeatures {
      * */
     public BasicTask(TaskName taskName, TaskDescription taskDescription, DateTime endDateTime, Set<Tag> tags)
             throws IllegalValueException {
-        this (taskName, taskDescription, false, new DateTime(), endDateTime, tags);
+        this (taskName, taskDescription, false, DateTime.EMPTY, endDateTime, tags);
     }
 
     public BasicTask(TaskName taskName, TaskDescription taskDescription,
             boolean isCompleted, DateTime endDateTime, Set<Tag> tags)
             throws IllegalValueException {
-        this (taskName, taskDescription, isCompleted, new DateTime(), endDateTime, tags);
+        this (taskName, taskDescription, isCompleted, DateTime.EMPTY, endDateTime, tags);
     }
 
     public BasicTask(TaskName taskName, TaskDescription taskDescription,
@@ -1,147 +1,231 @@
 package seedu.whatsnext.model.task;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
-import java.util.List;
-
-import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
 
 import seedu.whatsnext.commons.exceptions.IllegalValueException;
 
 //@@author A0156106M
 /**
  * Represents the Date of a BasicTask
+ * Guarantees: immutable. The formatters are shared by all instances, and tasks without a date
+ * share the {@link #EMPTY} instance. Input is parsed by a shared {@link DateTimeInputParser}.
+ * Date times are compared to the minute: {@link #equals(Object)}, {@link #hashCode()}, {@link #compareTo(DateTime)}
+ * and the {@code isBefore}/{@code isAfter} checks ignore seconds, which are still kept in storage.
  * */
-public class DateTime {
+public class DateTime implements Comparable<DateTime> {
     public static final String INIT_DATETIME_VALUE = "0001/01/01 00:00";
     public static final String DEFAULT_TIME_VALUE = " 23:59";
     public static final String MESSAGE_DATE_CONSTRAINT = "Task date should be either "
             + "a day (e.g. friday) or a date with the format: DD/MM/YY (e.g. 06/07/17)\n";
     public static final String MESSAGE_DATE_INVALID = "A Task cannot be created before today.";
+    /** The date time of tasks that have none. */
+    public static final DateTime EMPTY = new DateTime(LocalDateTime.of(1, 1, 1, 0, 0));
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy/dd/MM HH:mm");
+    private static final DateTimeFormatter DATE_TIME_FORMAT_DISPLAY =
+            DateTimeFormatter.ofPattern("EEE d MMM yyyy hh:mm a");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy/dd/MM");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final LocalDateTime INIT_DATETIME = EMPTY.dateValue;
+    private static final LocalTime DEFAULT_TIME = LocalTime.of(23, 59);
+    private static final DateTimeInputParser inputParser = new DateTimeInputParser(DATE_TIME_FORMAT_DISPLAY,
+            DateTime::validateDateTime, DateTimeInputParser.DEFAULT_CACHE_SIZE, Clock.systemDefaultZone());
+
+    private final LocalDateTime dateValue;
+    /** {@link #dateValue} truncated to the minute, the precision at which date times are compared. */
+    private final LocalDateTime minuteValue;
 
-    private final DateFormat dateTimeFormat = new SimpleDateFormat("yyyy/dd/MM HH:mm");
-    private final DateFormat dateTimeFormatDisplay = new SimpleDateFormat("EEE d MMM yyyy hh:mm aaa");
-    private final DateFormat dateFormat = new SimpleDateFormat("yyyy/dd/MM");
-    private final DateFormat timeFormat = new SimpleDateFormat("HH:mm");
-    private Date dateValue;
+    /**
+     * Creates an empty date time. {@link #EMPTY} should be used instead, to avoid creating new instances.
+     */
+    public DateTime() {
+        this(INIT_DATETIME);
+    }
 
-    public DateTime() throws IllegalValueException {
-        this(INIT_DATETIME_VALUE);
+    private DateTime(LocalDateTime dateValue) {
+        this.dateValue = dateValue;
+        this.minuteValue = dateValue.truncatedTo(ChronoUnit.MINUTES);
     }
 
     public DateTime(String dateInput) throws IllegalValueException {
         assert(dateInput != null);
         String dateInputTrim = dateInput.trim();
-        initDateValue(dateInputTrim);
+        this.dateValue = parseDateValue(dateInputTrim);
+        this.minuteValue = dateValue.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Returns the DateTime of the instant {@code epochMillis} in the system time zone, without the parsing and
+     * adjustments done on user input. Not meant for stored values, which use {@link #fromStoredEpochMillis(long)}.
+     */
+    public static DateTime fromEpochMillis(long epochMillis) {
+        return new DateTime(toLocalDateTime(epochMillis));
+    }
+
+    /**
+     * Returns the DateTime written by {@link #toStoredEpochMillis()}, without the parsing and adjustments done on
+     * user input.
+     */
+    public static DateTime fromStoredEpochMillis(long storedEpochMillis) {
+        return new DateTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(storedEpochMillis), ZoneOffset.UTC));
     }
 
     /**
-     * Initializes the dateValue object variable base on its input parameters
+     * Returns the DateTime written by {@link #toStoredString()}, without the parsing and adjustments done on
+     * user input.
+     * @throws IllegalValueException if {@code storedValue} is not an ISO-8601 local date time.
+     */
+    public static DateTime fromStoredString(String storedValue) throws IllegalValueException {
+        assert(storedValue != null);
+        try {
+            return new DateTime(StoredDateTimeParser.parse(storedValue.trim()));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the date value described by {@code dateInputTrim}
      * */
-    private void initDateValue(String dateInputTrim) throws IllegalValueException {
+    private static LocalDateTime parseDateValue(String dateInputTrim) throws IllegalValueException {
         if (dateInputTrim.equals(INIT_DATETIME_VALUE)) {
-            try {
-                dateValue = dateTimeFormat.parse(INIT_DATETIME_VALUE);
-            } catch (java.text.ParseException e) {
-                e.printStackTrace();
-            }
-        } else {
-            List<Date> dateInputList = new PrettyTimeParser().parse(dateInputTrim);
-            if (!isValidDate(dateInputList)) {
-                throw new IllegalValueException(MESSAGE_DATE_CONSTRAINT);
-            }
-            dateValue = dateInputList.get(0);
-            validateDateTime();
-
+            return INIT_DATETIME;
         }
+        return inputParser.parse(dateInputTrim)
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_DATE_CONSTRAINT));
     }
 
     //@@author A0156106M
     /**
      * Prevents User from setting Tasks before today
-     * @throws IllegalValueException when dateValue is before today's date
+     * Only applied to natural language input, as stored date times always have a time.
+     * @return {@code dateValue}, at 23:59 if no time was given
      * */
-    private void validateDateTime() throws IllegalValueException {
-        Date today = new Date();
+    private static LocalDateTime validateDateTime(LocalDateTime dateValue) {
+        LocalDateTime today = LocalDateTime.now();
         /*
         if (isBefore(today)) {
             throw new IllegalValueException(MESSAGE_DATE_INVALID);
         }*/
-        if (timeFormat.format(today).equals(getTime())) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(dateValue);
-            calendar.set(Calendar.HOUR_OF_DAY, 23);
-            calendar.set(Calendar.MINUTE, 59);
-            calendar.set(Calendar.SECOND, 0);
-            calendar.set(Calendar.MILLISECOND, 0);
-            dateValue = calendar.getTime();
+        // a date without a time is parsed as the current time
+        if (today.truncatedTo(ChronoUnit.MINUTES).toLocalTime()
+                .equals(dateValue.truncatedTo(ChronoUnit.MINUTES).toLocalTime())) {
+            return dateValue.toLocalDate().atTime(DEFAULT_TIME);
         }
+        return dateValue;
     }
 
-    /**
-     * Checks if the list is empty
-     * */
-    private boolean isValidDate(List<Date> dateInputList) {
-        return !dateInputList.isEmpty();
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
     }
 
     public String getDate() {
-        return dateFormat.format(dateValue);
+        return DATE_FORMAT.format(dateValue);
     }
 
     public String getTime() {
-        return timeFormat.format(dateValue);
+        return TIME_FORMAT.format(dateValue);
     }
 
     @Override
     public String toString() {
-        return dateTimeFormat.format(dateValue);
+        return DATE_TIME_FORMAT.format(dateValue);
     }
 
     public String displayDateTime() {
-        return dateTimeFormatDisplay.format(dateValue);
+        return DATE_TIME_FORMAT_DISPLAY.format(dateValue);
     }
 
-    public boolean equals(DateTime other) {
-        return this.toString().equals(other.toString());
+    /**
+     * Returns this date time in ISO-8601 local format, as kept in data files. Nothing is lost, and the value
+     * does not depend on the locale. Read back with {@link #fromStoredString(String)}.
+     */
+    public String toStoredString() {
+        return dateValue.toString(); // seconds and fractions are only included when not zero
     }
 
     /**
-     * @return true if dateValue is before parameter
+     * @return true if both date times are in the same minute
+     * */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DateTime // instanceof handles nulls
+                && minuteValue.equals(((DateTime) other).minuteValue));
+    }
+
+    @Override
+    public int hashCode() {
+        return minuteValue.hashCode();
+    }
+
+    /**
+     * @return true if dateValue is in a minute before parameter
      * */
     public boolean isBefore(DateTime endDateTime) {
         // dateValue is before source
-        return dateValue.compareTo(endDateTime.dateValue) < 0;
+        return minuteValue.isBefore(endDateTime.minuteValue);
     }
 
     public boolean isBefore(Date endDate) {
         // dateValue is before source
-        return dateValue.compareTo(endDate) < 0;
+        return minuteValue.isBefore(toLocalDateTime(endDate.getTime()).truncatedTo(ChronoUnit.MINUTES));
     }
 
     /**
-     * @return true when dateValue is equal or after source's dateValue
+     * @return true when dateValue is in the same minute as source's dateValue or after
      * */
     public boolean isAfterOrEqual(DateTime source) {
         // dateValue is after or equal source
-        return dateValue.compareTo(source.dateValue) >= 0;
+        return !minuteValue.isBefore(source.minuteValue);
     }
 
     /**
-     * @return true when dateValue is equal or before source's dateValue
+     * @return true when dateValue is in the same minute as source's dateValue or before
      * */
     public boolean isBeforeOrEqual(DateTime source) {
         // dateValue is before or equal source
-        return dateValue.compareTo(source.dateValue) <= 0;
+        return !minuteValue.isAfter(source.minuteValue);
+    }
+
+    /**
+     * Returns the instant of this date time in the system time zone, in epoch milliseconds.
+     */
+    public long getEpochMillis() {
+        return dateValue.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Returns this date time as epoch milliseconds read in UTC, as kept in binary data files. The value does not
+     * depend on the system time zone, so the date time reads back the same wherever the file is opened.
+     * Anything below a millisecond is dropped. Read back with {@link #fromStoredEpochMillis(long)}.
+     */
+    public long toStoredEpochMillis() {
+        return dateValue.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * Compares date times to the minute, consistently with {@link #equals(Object)}.
+     */
+    @Override
+    public int compareTo(DateTime other) {
+        return minuteValue.compareTo(other.minuteValue);
     }
 
     /**
      * @return true when DateValue contains INIT_DATETIME_VALUE
      * */
     public boolean isEmpty() {
-        return toString().equals(INIT_DATETIME_VALUE);
+        return this == EMPTY || minuteValue.equals(INIT_DATETIME);
     }
 
 }
@@ -0,0 +1,128 @@
+package seedu.whatsnext.model.task;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
+
+/**
+ * Resolves the text given to {@link DateTime#DateTime(String)} into a date time.
+ *
+ * Text in the format the data file stores date times in is parsed directly. Any other text is read as
+ * natural language by a single {@link PrettyTimeParser}. Those results are cached by text and by the minute
+ * they were resolved in, as relative text such as "next friday" or "in 2 hours" changes meaning over time.
+ *
+ * Instances are thread-safe.
+ */
+class DateTimeInputParser {
+
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    private final PrettyTimeParser naturalLanguageParser = new PrettyTimeParser();
+    private final DateTimeFormatter storedFormat;
+    private final UnaryOperator<LocalDateTime> naturalLanguageAdjuster;
+    private final Clock clock;
+    /** The most recent natural language results, least recently used first. */
+    private final Map<CacheKey, Optional<LocalDateTime>> cache;
+
+    /**
+     * @param storedFormat the format of date times in the data file.
+     * @param naturalLanguageAdjuster applied to each natural language result before it is cached.
+     * @param cacheSize the number of natural language results kept.
+     * @param clock gives the minute that cached results are keyed by.
+     */
+    DateTimeInputParser(DateTimeFormatter storedFormat, UnaryOperator<LocalDateTime> naturalLanguageAdjuster,
+            int cacheSize, Clock clock) {
+        this.storedFormat = storedFormat;
+        this.naturalLanguageAdjuster = naturalLanguageAdjuster;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<CacheKey, Optional<LocalDateTime>>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Optional<LocalDateTime>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the date time described by {@code text}, or an empty Optional if it does not describe one.
+     */
+    Optional<LocalDateTime> parse(String text) {
+        try {
+            return Optional.of(LocalDateTime.parse(text, storedFormat));
+        } catch (DateTimeParseException e) {
+            // not a stored date time, so it is natural language
+        }
+
+        CacheKey key = new CacheKey(text, LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES));
+        synchronized (cache) {
+            Optional<LocalDateTime> cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Optional<LocalDateTime> result = parseNaturalLanguage(text).map(naturalLanguageAdjuster);
+        synchronized (cache) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    int getCachedCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private Optional<LocalDateTime> parseNaturalLanguage(String text) {
+        List<Date> dates;
+        // PrettyTimeParser is not thread-safe
+        synchronized (naturalLanguageParser) {
+            dates = naturalLanguageParser.parse(text);
+        }
+        if (dates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.ofInstant(Instant.ofEpochMilli(dates.get(0).getTime()),
+                ZoneId.systemDefault()));
+    }
+
+    /**
+     * The text to parse and the minute it is parsed in.
+     */
+    private static class CacheKey {
+        private final String text;
+        private final LocalDateTime referenceMinute;
+
+        CacheKey(String text, LocalDateTime referenceMinute) {
+            this.text = text;
+            this.referenceMinute = referenceMinute;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof CacheKey // instanceof handles nulls
+                    && text.equals(((CacheKey) other).text)
+                    && referenceMinute.equals(((CacheKey) other).referenceMinute));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, referenceMinute);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package seedu.whatsnext.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.util.OverlapTagUtil;
+
+/**
+ * An interval tree of the events in a {@link UniqueTaskList}, kept in sync by the list on every mutation, so that
+ * finding the events overlapping a period takes O(log n + k) time for k overlapping events rather than a pass over
+ * every task. Deadlines and floating tasks are not in the tree.
+ *
+ * The tree is an AVL tree ordered by start date time, then by name, in which every node also records the latest
+ * end date time in its subtree: a subtree ending before the period can be skipped, and so can the right subtree
+ * of a node starting after it. Two events overlap, as in {@link BasicTask#eventTaskOverlap(BasicTaskFeatures)},
+ * if each starts no later than the other ends.
+ */
+public class EventIntervalTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Returns the events overlapping the period from {@code start} to {@code end}, by start date time.
+     */
+    public List<BasicTask> findOverlapping(DateTime start, DateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        List<BasicTask> events = new ArrayList<>();
+        collectOverlapping(root, start, end, events);
+        return events;
+    }
+
+    /**
+     * Returns the events other than {@code event} that overlap it, by start date time,
+     * or no events if {@code event} is not an event.
+     */
+    public List<BasicTask> findOverlapping(BasicTaskFeatures event) {
+        List<BasicTask> events = new ArrayList<>();
+        if (isEvent(event)) {
+            for (BasicTask overlapping : findOverlapping(event.getStartDateTime(), event.getEndDateTime())) {
+                if (!overlapping.getName().equals(event.getName())) {
+                    events.add(overlapping);
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Returns true if an event other than {@code event} overlaps it. Stops at the first overlapping event found.
+     */
+    public boolean hasOverlapping(BasicTaskFeatures event) {
+        return isEvent(event)
+                && hasOverlapping(root, event.getStartDateTime(), event.getEndDateTime(), event.getName());
+    }
+
+    /**
+     * Returns the events overlapping the period from {@code start} to {@code end} whose
+     * {@link Tag#RESERVED_TAG_OVERLAP} tag no longer says whether another event overlaps them. After an event is
+     * added, moved or removed, only the events overlapping its old or new period can need their tag changed.
+     */
+    public List<BasicTask> findStaleOverlapTags(DateTime start, DateTime end) {
+        List<BasicTask> staleEvents = new ArrayList<>();
+        for (BasicTask event : findOverlapping(start, end)) {
+            if (OverlapTagUtil.hasOverlapTag(event) != hasOverlapping(event)) {
+                staleEvents.add(event);
+            }
+        }
+        return staleEvents;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code task} if it is an event.
+     */
+    void add(BasicTask task) {
+        if (isEvent(task)) {
+            root = insert(root, new Node(task));
+            size++;
+        }
+    }
+
+    /**
+     * Removes {@code task}, as it was when it was added.
+     */
+    void remove(BasicTask task) {
+        if (isEvent(task)) {
+            int sizeBefore = size;
+            root = delete(root, task.getStartDateTime(), task.getName().fullTaskName);
+            assert size == sizeBefore - 1 : "Indexed event must be in the tree";
+        }
+    }
+
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    private static boolean isEvent(BasicTaskFeatures task) {
+        return task.getTaskType().equals(BasicTask.TASK_TYPE_EVENT);
+    }
+
+    private static void collectOverlapping(Node node, DateTime start, DateTime end, List<BasicTask> events) {
+        if (node == null || node.maxEnd.isBefore(start)) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, events);
+        if (node.start.isBeforeOrEqual(end)) {
+            if (start.isBeforeOrEqual(node.end)) {
+                events.add(node.task);
+            }
+            collectOverlapping(node.right, start, end, events);
+        }
+    }
+
+    private static boolean hasOverlapping(Node node, DateTime start, DateTime end, TaskName excludedName) {
+        if (node == null || node.maxEnd.isBefore(start)) {
+            return false;
+        }
+        if (hasOverlapping(node.left, start, end, excludedName)) {
+            return true;
+        }
+        if (!node.start.isBeforeOrEqual(end)) {
+            return false;
+        }
+        return (start.isBeforeOrEqual(node.end) && !node.task.getName().equals(excludedName))
+                || hasOverlapping(node.right, start, end, excludedName);
+    }
+
+    private static int compare(DateTime start, String name, Node node) {
+        int startComparison = start.compareTo(node.start);
+        return startComparison != 0 ? startComparison : name.compareTo(node.name);
+    }
+
+    private static Node insert(Node node, Node toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+        if (compare(toInsert.start, toInsert.name, node) < 0) {
+            node.left = insert(node.left, toInsert);
+        } else {
+            node.right = insert(node.right, toInsert);
+        }
+        return rebalance(node);
+    }
+
+    private Node delete(Node node, DateTime start, String name) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(start, name, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, start, name);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, start, name);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    /**
+     * A node of the tree. The start, end and name are copied from the event when it is added, as the list
+     * changes tasks in place.
+     */
+    private static class Node {
+        private final BasicTask task;
+        private final DateTime start;
+        private final DateTime end;
+        private final String name;
+        /** The latest end date time of the events in the subtree rooted at this node. */
+        private DateTime maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        Node(BasicTask task) {
+            this.task = task;
+            this.start = task.getStartDateTime();
+            this.end = task.getEndDateTime();
+            this.name = task.getName().fullTaskName;
+            this.maxEnd = end;
+        }
+
+        void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            maxEnd = end;
+            if (left != null && left.maxEnd.compareTo(maxEnd) > 0) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.compareTo(maxEnd) > 0) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.whatsnext.model.task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Parses the ISO-8601 local date times that task data files store, such as {@code 2017-07-04T18:00} or
+ * {@code 2017-07-04T18:00:05.123}, as written by {@link DateTime#toStoredString()}.
+ *
+ * The fields are read straight from their fixed positions in the text, without the intermediate objects
+ * a {@link java.time.format.DateTimeFormatter} creates, as data files hold thousands of date times.
+ */
+final class StoredDateTimeParser {
+
+    private static final int MINUTE_LENGTH = 16; // yyyy-MM-ddTHH:mm
+    private static final int SECOND_LENGTH = 19; // yyyy-MM-ddTHH:mm:ss
+    private static final int MAX_FRACTION_DIGITS = 9;
+
+    private StoredDateTimeParser() {}
+
+    /**
+     * Returns the date time stored as {@code text}.
+     * @throws IllegalArgumentException if {@code text} is not an ISO-8601 local date time.
+     * @throws java.time.DateTimeException if a field is out of range, such as the 30th of February.
+     */
+    static LocalDateTime parse(String text) {
+        int length = text.length();
+        if (length < MINUTE_LENGTH || (length > MINUTE_LENGTH && length < SECOND_LENGTH)) {
+            throw invalid(text);
+        }
+        expect(text, 4, '-');
+        expect(text, 7, '-');
+        expect(text, 10, 'T');
+        expect(text, 13, ':');
+        int year = readDigits(text, 0, 4);
+        int month = readDigits(text, 5, 2);
+        int day = readDigits(text, 8, 2);
+        int hour = readDigits(text, 11, 2);
+        int minute = readDigits(text, 14, 2);
+
+        int second = 0;
+        int nano = 0;
+        if (length > MINUTE_LENGTH) {
+            expect(text, 16, ':');
+            second = readDigits(text, 17, 2);
+            if (length > SECOND_LENGTH) {
+                int fractionDigits = length - SECOND_LENGTH - 1;
+                if (fractionDigits < 1 || fractionDigits > MAX_FRACTION_DIGITS) {
+                    throw invalid(text);
+                }
+                expect(text, 19, '.');
+                nano = readDigits(text, 20, fractionDigits);
+                for (int i = fractionDigits; i < MAX_FRACTION_DIGITS; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    private static void expect(String text, int index, char expected) {
+        if (text.charAt(index) != expected) {
+            throw invalid(text);
+        }
+    }
+
+    private static int readDigits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw invalid(text);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException invalid(String text) {
+        return new IllegalArgumentException("Not a stored date time: " + text);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.whatsnext.model.task;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.whatsnext.model.tag.Tag;
+
+/**
+ * An inverted index of the tasks in a {@link UniqueTaskList}, from each lower case word of their names and each
+ * lower case tag name to the names of the tasks that have it. Kept in sync by the list on every mutation,
+ * so that finding tasks by keyword looks up a few posting lists instead of splitting every task name.
+ *
+ * A task matches a keyword if one of the words of its name, or one of its tags, is the keyword, ignoring case.
+ */
+public class TaskKeywordIndex {
+
+    private static final String WORD_SEPARATOR_REGEX = "\\s+";
+
+    private final Map<String, Set<TaskName>> tasksByNameWord = new HashMap<>();
+    private final Map<String, Set<TaskName>> tasksByTag = new HashMap<>();
+
+    /**
+     * Returns {@code keywords} in the form expected by {@link #matchesAny(BasicTaskFeatures, Collection)}
+     * and {@link #findAny(Collection)}, without blank keywords.
+     */
+    public static List<String> normalize(Collection<String> keywords) {
+        List<String> normalizedKeywords = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            String normalizedKeyword = normalize(keyword);
+            if (!normalizedKeyword.isEmpty()) {
+                normalizedKeywords.add(normalizedKeyword);
+            }
+        }
+        return normalizedKeywords;
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if {@code task} matches any of the {@code normalizedKeywords}.
+     * {@code task} must be in the indexed list.
+     */
+    public boolean matchesAny(BasicTaskFeatures task, Collection<String> normalizedKeywords) {
+        TaskName name = task.getName();
+        for (String keyword : normalizedKeywords) {
+            if (contains(tasksByNameWord, keyword, name) || contains(tasksByTag, keyword, name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the names of the tasks that match any of the {@code normalizedKeywords}.
+     */
+    public Set<TaskName> findAny(Collection<String> normalizedKeywords) {
+        Set<TaskName> names = new HashSet<>();
+        for (String keyword : normalizedKeywords) {
+            names.addAll(tasksByNameWord.getOrDefault(keyword, Collections.emptySet()));
+            names.addAll(tasksByTag.getOrDefault(keyword, Collections.emptySet()));
+        }
+        return names;
+    }
+
+    void add(BasicTaskFeatures task) {
+        TaskName name = task.getName();
+        for (String word : name.fullTaskName.split(WORD_SEPARATOR_REGEX)) {
+            tasksByNameWord.computeIfAbsent(normalize(word), unused -> new HashSet<>()).add(name);
+        }
+        for (Tag tag : task.getTags()) {
+            tasksByTag.computeIfAbsent(normalize(tag.tagName), unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes {@code task}, as it was when it was added.
+     */
+    void remove(BasicTaskFeatures task) {
+        TaskName name = task.getName();
+        for (String word : name.fullTaskName.split(WORD_SEPARATOR_REGEX)) {
+            removePosting(tasksByNameWord, normalize(word), name);
+        }
+        for (Tag tag : task.getTags()) {
+            removePosting(tasksByTag, normalize(tag.tagName), name);
+        }
+    }
+
+    void clear() {
+        tasksByNameWord.clear();
+        tasksByTag.clear();
+    }
+
+    private static boolean contains(Map<String, Set<TaskName>> index, String key, TaskName name) {
+        Set<TaskName> names = index.get(key);
+        return names != null && names.contains(name);
+    }
+
+    private static void removePosting(Map<String, Set<TaskName>> index, String key, TaskName name) {
+        Set<TaskName> names = index.get(key);
+        if (names != null && names.remove(name) && names.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package seedu.whatsnext.model.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import seedu.whatsnext.model.task.TaskSearchQuery.Term;
+
+/**
+ * A trie of the lower case words in the names and descriptions of the tasks in a {@link UniqueTaskList},
+ * kept in sync by the list on every mutation. Each word ends at a node holding the names of the tasks that
+ * have it, so a {@link TaskSearchQuery} is answered by walking the trie rather than every task:
+ * <ul>
+ *     <li>a whole word follows a single path,</li>
+ *     <li>a prefix follows its path and collects the subtree below it,</li>
+ *     <li>a typo-tolerant term walks the trie computing the edit distance row by row, and leaves any branch
+ *     whose row is already past {@link TaskSearchQuery#MAX_EDIT_DISTANCE}.</li>
+ * </ul>
+ *
+ * Tasks are ranked by the sum, over the terms, of the score of their best matching word: an exact word scores
+ * {@value #EXACT_SCORE}, a longer word starting with a prefix {@value #PREFIX_SCORE}, and a word one or two typos
+ * away {@value #ONE_TYPO_SCORE} or {@value #TWO_TYPOS_SCORE}. Scores of words in names count double.
+ */
+public class TaskSearchIndex {
+
+    public static final int EXACT_SCORE = 4;
+    public static final int PREFIX_SCORE = 3;
+    public static final int ONE_TYPO_SCORE = 2;
+    public static final int TWO_TYPOS_SCORE = 1;
+
+    private static final String WORD_SEPARATOR_REGEX = "\\s+";
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final Node root = new Node();
+
+    /**
+     * Returns the names of the tasks matching {@code query}, best match first, at most
+     * {@link TaskSearchQuery#getLimit()} of them. Tasks with the same score are ordered by name.
+     */
+    public List<TaskName> search(TaskSearchQuery query) {
+        Map<TaskName, Integer> scores = new HashMap<>();
+        for (Term term : query.getTerms()) {
+            Map<TaskName, Integer> termScores = new HashMap<>();
+            collectMatches(term, termScores);
+            termScores.forEach((name, score) -> scores.merge(name, score, Integer::sum));
+        }
+
+        // keep the best matches in a heap of the limit's size, worst of them on top, rather than sorting them all
+        Comparator<Map.Entry<TaskName, Integer>> bestFirst = Comparator
+                .<Map.Entry<TaskName, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                .thenComparing(entry -> entry.getKey().fullTaskName);
+        PriorityQueue<Map.Entry<TaskName, Integer>> best = new PriorityQueue<>(bestFirst.reversed());
+        for (Map.Entry<TaskName, Integer> entry : scores.entrySet()) {
+            best.add(entry);
+            if (best.size() > query.getLimit()) {
+                best.poll();
+            }
+        }
+        List<Map.Entry<TaskName, Integer>> ranked = new ArrayList<>(best);
+        ranked.sort(bestFirst);
+        List<TaskName> names = new ArrayList<>(ranked.size());
+        for (Map.Entry<TaskName, Integer> entry : ranked) {
+            names.add(entry.getKey());
+        }
+        return names;
+    }
+
+    /**
+     * Returns the names of the tasks matching {@code query} with their rank, best match first.
+     * @see #search(TaskSearchQuery)
+     */
+    public Map<TaskName, Integer> rank(TaskSearchQuery query) {
+        Map<TaskName, Integer> ranks = new LinkedHashMap<>();
+        for (TaskName name : search(query)) {
+            ranks.put(name, ranks.size());
+        }
+        return ranks;
+    }
+
+    void add(BasicTaskFeatures task) {
+        TaskName name = task.getName();
+        for (String word : getNameWords(task)) {
+            root.findOrCreate(word).addName(name);
+        }
+        for (String word : getDescriptionWords(task)) {
+            root.findOrCreate(word).addDescription(name);
+        }
+    }
+
+    /**
+     * Removes {@code task}, as it was when it was added.
+     */
+    void remove(BasicTaskFeatures task) {
+        TaskName name = task.getName();
+        for (String word : getNameWords(task)) {
+            root.remove(word, 0, name, true);
+        }
+        for (String word : getDescriptionWords(task)) {
+            root.remove(word, 0, name, false);
+        }
+    }
+
+    void clear() {
+        root.clear();
+    }
+
+    private static String[] getNameWords(BasicTaskFeatures task) {
+        return task.getName().fullTaskName.toLowerCase(Locale.ROOT).split(WORD_SEPARATOR_REGEX);
+    }
+
+    private static String[] getDescriptionWords(BasicTaskFeatures task) {
+        String description = task.getDescription().fullTaskDescription;
+        if (description.equals(TaskDescription.INIT_DECRIPTION_VALUE)) {
+            return new String[0];
+        }
+        return description.toLowerCase(Locale.ROOT).split(WORD_SEPARATOR_REGEX);
+    }
+
+    private void collectMatches(Term term, Map<TaskName, Integer> termScores) {
+        switch (term.matchType) {
+        case WORD:
+            Node node = root.find(term.word);
+            if (node != null) {
+                node.collect(EXACT_SCORE, termScores);
+            }
+            break;
+        case PREFIX:
+            Node prefixNode = root.find(term.word);
+            if (prefixNode != null) {
+                prefixNode.collect(EXACT_SCORE, termScores);
+                for (int i = 0; i < prefixNode.childCount; i++) {
+                    prefixNode.children[i].collectSubtree(PREFIX_SCORE, termScores);
+                }
+            }
+            break;
+        default:
+            int[] firstRow = new int[term.word.length() + 1];
+            for (int i = 0; i < firstRow.length; i++) {
+                firstRow[i] = i;
+            }
+            for (int i = 0; i < root.childCount; i++) {
+                collectFuzzyMatches(root.children[i], root.keys[i], term.word, firstRow, termScores);
+            }
+            break;
+        }
+    }
+
+    /**
+     * Collects the words below {@code node}, reached by the character {@code key}, that are at most
+     * {@link TaskSearchQuery#MAX_EDIT_DISTANCE} edits away from {@code word}.
+     * @param previousRow the edit distances from each prefix of {@code word} to the parent of {@code node}.
+     */
+    private static void collectFuzzyMatches(Node node, char key, String word, int[] previousRow,
+            Map<TaskName, Integer> termScores) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        int rowMinimum = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int substitutionCost = word.charAt(i - 1) == key ? 0 : 1;
+            row[i] = Math.min(Math.min(row[i - 1] + 1, previousRow[i] + 1), previousRow[i - 1] + substitutionCost);
+            rowMinimum = Math.min(rowMinimum, row[i]);
+        }
+
+        int distance = row[row.length - 1];
+        if (distance <= TaskSearchQuery.MAX_EDIT_DISTANCE && node.hasTasks()) {
+            node.collect(getFuzzyScore(distance), termScores);
+        }
+        if (rowMinimum <= TaskSearchQuery.MAX_EDIT_DISTANCE) {
+            for (int i = 0; i < node.childCount; i++) {
+                collectFuzzyMatches(node.children[i], node.keys[i], word, row, termScores);
+            }
+        }
+    }
+
+    private static int getFuzzyScore(int distance) {
+        switch (distance) {
+        case 0:
+            return EXACT_SCORE;
+        case 1:
+            return ONE_TYPO_SCORE;
+        default:
+            return TWO_TYPOS_SCORE;
+        }
+    }
+
+    /**
+     * A node of the trie. Its children are kept in arrays sorted by their character, which takes far less
+     * memory than a map per node for the mostly single child nodes of a word trie.
+     */
+    private static class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final char[] NO_KEYS = new char[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+        /** The tasks with the word ending at this node in their name, or null if none. */
+        private Set<TaskName> nameTasks;
+        /** The tasks with the word ending at this node in their description, or null if none. */
+        private Set<TaskName> descriptionTasks;
+
+        Node find(String word) {
+            Node node = this;
+            for (int i = 0; i < word.length() && node != null; i++) {
+                node = node.getChild(word.charAt(i));
+            }
+            return node;
+        }
+
+        Node findOrCreate(String word) {
+            Node node = this;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.getOrCreateChild(word.charAt(i));
+            }
+            return node;
+        }
+
+        void addName(TaskName name) {
+            if (nameTasks == null) {
+                nameTasks = new HashSet<>(2);
+            }
+            nameTasks.add(name);
+        }
+
+        void addDescription(TaskName name) {
+            if (descriptionTasks == null) {
+                descriptionTasks = new HashSet<>(2);
+            }
+            descriptionTasks.add(name);
+        }
+
+        boolean hasTasks() {
+            return nameTasks != null || descriptionTasks != null;
+        }
+
+        /**
+         * Removes {@code name} from the word {@code word.substring(depth)} below this node, and drops the nodes
+         * left without tasks or children.
+         */
+        void remove(String word, int depth, TaskName name, boolean isInName) {
+            if (depth == word.length()) {
+                if (isInName && nameTasks != null && nameTasks.remove(name) && nameTasks.isEmpty()) {
+                    nameTasks = null;
+                } else if (!isInName && descriptionTasks != null && descriptionTasks.remove(name)
+                        && descriptionTasks.isEmpty()) {
+                    descriptionTasks = null;
+                }
+                return;
+            }
+            int index = indexOf(word.charAt(depth));
+            if (index < 0) {
+                return;
+            }
+            Node child = children[index];
+            child.remove(word, depth + 1, name, isInName);
+            if (!child.hasTasks() && child.childCount == 0) {
+                System.arraycopy(keys, index + 1, keys, index, childCount - index - 1);
+                System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+                childCount--;
+                children[childCount] = null;
+            }
+        }
+
+        void clear() {
+            keys = NO_KEYS;
+            children = NO_CHILDREN;
+            childCount = 0;
+            nameTasks = null;
+            descriptionTasks = null;
+        }
+
+        /**
+         * Records {@code score}, weighted by field, for the tasks with the word ending at this node,
+         * keeping the best score of each task.
+         */
+        void collect(int score, Map<TaskName, Integer> termScores) {
+            if (nameTasks != null) {
+                for (TaskName name : nameTasks) {
+                    termScores.merge(name, score * NAME_WEIGHT, Math::max);
+                }
+            }
+            if (descriptionTasks != null) {
+                for (TaskName name : descriptionTasks) {
+                    termScores.merge(name, score * DESCRIPTION_WEIGHT, Math::max);
+                }
+            }
+        }
+
+        void collectSubtree(int score, Map<TaskName, Integer> termScores) {
+            collect(score, termScores);
+            for (int i = 0; i < childCount; i++) {
+                children[i].collectSubtree(score, termScores);
+            }
+        }
+
+        private Node getChild(char key) {
+            int index = indexOf(key);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node getOrCreateChild(char key) {
+            int index = indexOf(key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertionPoint = -(index + 1);
+            if (childCount == children.length) {
+                int capacity = Math.max(1, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, childCount - insertionPoint);
+            System.arraycopy(children, insertionPoint, children, insertionPoint + 1, childCount - insertionPoint);
+            Node child = new Node();
+            keys[insertionPoint] = key;
+            children[insertionPoint] = child;
+            childCount++;
+            return child;
+        }
+
+        private int indexOf(char key) {
+            return Arrays.binarySearch(keys, 0, childCount, key);
+        }
+    }
+}
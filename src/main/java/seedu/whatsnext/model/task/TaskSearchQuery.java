@@ -0,0 +1,139 @@
+package seedu.whatsnext.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.whatsnext.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+
+/**
+ * A ranked search for tasks whose name or description has words matching any of the search terms.
+ * A term is a whole word, a prefix ({@code meet*}) or a word to match with up to {@link #MAX_EDIT_DISTANCE}
+ * typos ({@code meeting~}). Only the {@code limit} best matching tasks are kept.
+ * Guarantees: immutable.
+ */
+public class TaskSearchQuery {
+
+    public static final int MAX_EDIT_DISTANCE = 2;
+    public static final String PREFIX_SUFFIX = "*";
+    public static final String FUZZY_SUFFIX = "~";
+    public static final String MESSAGE_TERM_CONSTRAINTS = "Search terms should be a word made of alphanumeric "
+            + "characters, optionally followed by " + PREFIX_SUFFIX + " or " + FUZZY_SUFFIX;
+    public static final String TERM_VALIDATION_REGEX = "\\p{Alnum}+";
+
+    private final List<Term> terms;
+    private final int limit;
+
+    /**
+     * @param terms the terms to search for, at least one.
+     * @param limit the maximum number of tasks to find, must be positive.
+     */
+    public TaskSearchQuery(List<Term> terms, int limit) {
+        requireNonNull(terms);
+        checkArgument(!terms.isEmpty(), "A search needs at least one term");
+        checkArgument(limit > 0, "Search limit must be positive");
+        this.terms = Collections.unmodifiableList(new ArrayList<>(terms));
+        this.limit = limit;
+    }
+
+    /**
+     * Returns true if {@code keyword} is a prefix or typo-tolerant search term, rather than a whole word.
+     */
+    public static boolean isPartialTerm(String keyword) {
+        return keyword.endsWith(PREFIX_SUFFIX) || keyword.endsWith(FUZZY_SUFFIX);
+    }
+
+    public List<Term> getTerms() {
+        return terms;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskSearchQuery // instanceof handles nulls
+                && terms.equals(((TaskSearchQuery) other).terms)
+                && limit == ((TaskSearchQuery) other).limit);
+    }
+
+    @Override
+    public int hashCode() {
+        return terms.hashCode() * 31 + limit;
+    }
+
+    @Override
+    public String toString() {
+        return "terms = " + terms + ", limit = " + limit;
+    }
+
+    /**
+     * How a term matches the words of a task.
+     */
+    public enum MatchType {
+        WORD, PREFIX, FUZZY
+    }
+
+    /**
+     * A single search term. Guarantees: immutable, the word is lower case and valid as declared in
+     * {@link #TERM_VALIDATION_REGEX}.
+     */
+    public static class Term {
+        public final String word;
+        public final MatchType matchType;
+
+        /**
+         * Parses {@code keyword}, as typed by the user.
+         *
+         * @throws IllegalValueException if {@code keyword} is not a valid search term.
+         */
+        public Term(String keyword) throws IllegalValueException {
+            requireNonNull(keyword);
+            String trimmedKeyword = keyword.trim();
+            if (trimmedKeyword.endsWith(PREFIX_SUFFIX)) {
+                matchType = MatchType.PREFIX;
+            } else if (trimmedKeyword.endsWith(FUZZY_SUFFIX)) {
+                matchType = MatchType.FUZZY;
+            } else {
+                matchType = MatchType.WORD;
+            }
+            String termWord = matchType == MatchType.WORD
+                    ? trimmedKeyword : trimmedKeyword.substring(0, trimmedKeyword.length() - 1);
+            if (!termWord.matches(TERM_VALIDATION_REGEX)) {
+                throw new IllegalValueException(MESSAGE_TERM_CONSTRAINTS);
+            }
+            word = termWord.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Term // instanceof handles nulls
+                    && word.equals(((Term) other).word)
+                    && matchType == ((Term) other).matchType);
+        }
+
+        @Override
+        public int hashCode() {
+            return word.hashCode() * 31 + matchType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            switch (matchType) {
+            case PREFIX:
+                return word + PREFIX_SUFFIX;
+            case FUZZY:
+                return word + FUZZY_SUFFIX;
+            default:
+                return word;
+            }
+        }
+    }
+}
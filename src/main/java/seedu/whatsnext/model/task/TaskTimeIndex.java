@@ -0,0 +1,163 @@
+package seedu.whatsnext.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Sorted indexes of the events and deadlines in a {@link UniqueTaskList} by their start and end date times, kept in
+ * sync by the list on every mutation, so that the tasks ending or starting in a period are found by a range scan.
+ * Floating tasks are not indexed.
+ *
+ * The {@link TimeRange} returned by a query is a live view of the index: it follows later changes to the list,
+ * and tells whether a task is in it with a lookup rather than date arithmetic.
+ */
+public class TaskTimeIndex {
+
+    private final NavigableSet<Entry> eventsByStart = new TreeSet<>();
+    private final NavigableSet<Entry> eventsByEnd = new TreeSet<>();
+    private final NavigableSet<Entry> deadlinesByEnd = new TreeSet<>();
+
+    /**
+     * Returns the events and deadlines ending before {@code time}.
+     */
+    public TimeRange findEndingBefore(DateTime time) {
+        Entry bound = Entry.lowest(time);
+        return new TimeRange(eventsByEnd.headSet(bound, false), false, deadlinesByEnd.headSet(bound, false));
+    }
+
+    /**
+     * Returns the events and deadlines ending at or after {@code time}.
+     */
+    public TimeRange findEndingFrom(DateTime time) {
+        Entry bound = Entry.lowest(time);
+        return new TimeRange(eventsByEnd.tailSet(bound, true), false, deadlinesByEnd.tailSet(bound, true));
+    }
+
+    /**
+     * Returns the events starting, and the deadlines ending, at or after {@code from} and before {@code to}.
+     */
+    public TimeRange findDueWithin(DateTime from, DateTime to) {
+        Entry fromBound = Entry.lowest(from);
+        Entry toBound = Entry.lowest(to);
+        if (fromBound.compareTo(toBound) > 0) {
+            toBound = fromBound;
+        }
+        return new TimeRange(eventsByStart.subSet(fromBound, true, toBound, false), true,
+                deadlinesByEnd.subSet(fromBound, true, toBound, false));
+    }
+
+    void add(BasicTaskFeatures task) {
+        switch (task.getTaskType()) {
+        case BasicTask.TASK_TYPE_EVENT:
+            eventsByStart.add(new Entry(task.getStartDateTime(), task.getName()));
+            eventsByEnd.add(new Entry(task.getEndDateTime(), task.getName()));
+            break;
+        case BasicTask.TASK_TYPE_DEADLINE:
+            deadlinesByEnd.add(new Entry(task.getEndDateTime(), task.getName()));
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Removes {@code task}, as it was when it was added.
+     */
+    void remove(BasicTaskFeatures task) {
+        switch (task.getTaskType()) {
+        case BasicTask.TASK_TYPE_EVENT:
+            eventsByStart.remove(new Entry(task.getStartDateTime(), task.getName()));
+            eventsByEnd.remove(new Entry(task.getEndDateTime(), task.getName()));
+            break;
+        case BasicTask.TASK_TYPE_DEADLINE:
+            deadlinesByEnd.remove(new Entry(task.getEndDateTime(), task.getName()));
+            break;
+        default:
+            break;
+        }
+    }
+
+    void clear() {
+        eventsByStart.clear();
+        eventsByEnd.clear();
+        deadlinesByEnd.clear();
+    }
+
+    /**
+     * The events and deadlines whose date time falls in a period, as a live view of a {@link TaskTimeIndex}.
+     */
+    public static class TimeRange {
+        private final NavigableSet<Entry> events;
+        private final boolean isEventsByStart;
+        private final NavigableSet<Entry> deadlines;
+
+        private TimeRange(NavigableSet<Entry> events, boolean isEventsByStart, NavigableSet<Entry> deadlines) {
+            this.events = events;
+            this.isEventsByStart = isEventsByStart;
+            this.deadlines = deadlines;
+        }
+
+        /**
+         * Returns true if {@code task}, which must be in the indexed list, is in this range.
+         */
+        public boolean contains(BasicTaskFeatures task) {
+            switch (task.getTaskType()) {
+            case BasicTask.TASK_TYPE_EVENT:
+                DateTime eventTime = isEventsByStart ? task.getStartDateTime() : task.getEndDateTime();
+                return events.contains(new Entry(eventTime, task.getName()));
+            case BasicTask.TASK_TYPE_DEADLINE:
+                return deadlines.contains(new Entry(task.getEndDateTime(), task.getName()));
+            default:
+                return false;
+            }
+        }
+
+        /**
+         * Returns the names of the events in this range, then of the deadlines, each by date time.
+         */
+        public List<TaskName> getNames() {
+            List<TaskName> names = new ArrayList<>(size());
+            events.forEach(entry -> names.add(entry.name));
+            deadlines.forEach(entry -> names.add(entry.name));
+            return names;
+        }
+
+        public int size() {
+            return events.size() + deadlines.size();
+        }
+    }
+
+    /**
+     * A task name at a date time, ordered by date time, then name.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final DateTime time;
+        /** The task name, or null for a bound before every task at {@link #time}. */
+        private final TaskName name;
+
+        Entry(DateTime time, TaskName name) {
+            this.time = requireNonNull(time);
+            this.name = name;
+        }
+
+        static Entry lowest(DateTime time) {
+            return new Entry(time, null);
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int timeComparison = time.compareTo(other.time);
+            if (timeComparison != 0) {
+                return timeComparison;
+            }
+            if (name == null || other.name == null) {
+                return name == other.name ? 0 : (name == null ? -1 : 1);
+            }
+            return name.fullTaskName.compareTo(other.name.fullTaskName);
+        }
+    }
+}
@@ -2,20 +2,34 @@ package seedu.whatsnext.model.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.collections.ModifiableObservableListBase;
+import seedu.whatsnext.commons.core.MetricsCenter;
+import seedu.whatsnext.commons.core.MetricsCenter.Phase;
 import seedu.whatsnext.commons.core.UnmodifiableObservableList;
 import seedu.whatsnext.commons.util.CollectionUtil;
+import seedu.whatsnext.model.tag.Tag;
 import seedu.whatsnext.model.task.exceptions.DuplicateTaskException;
 import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
 
 /**
  * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
+ * Tasks are also indexed by their {@link TaskName}, the identity used by {@link BasicTask#equals(Object)},
+ * so that duplicate checks and lookups do not need to scan the list.
+ * The list is kept sorted by {@link #TASK_ORDER}: each mutation is a binary search plus a single change
+ * reported to the listeners of {@link #asObservableList()}. The words of the task names and the tags are also
+ * indexed, in {@link #getKeywordIndex()}, and so are the words of the names and descriptions, in
+ * {@link #getSearchIndex()}. The periods of the events are kept in an interval tree, {@link #getEventIntervalTree()},
+ * and the start and end date times of events and deadlines in sorted indexes, {@link #getTimeIndex()}.
+ * The indexes are updated before the listeners of {@link #asObservableList()} see the change, so that filters
+ * backed by them see the list as it is after the change.
  *
  * Supports a minimal set of list operations.
  *
@@ -24,14 +38,44 @@ import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
  */
 public class UniqueTaskList implements Iterable<BasicTask> {
 
-    private final ObservableList<BasicTask> internalList = FXCollections.observableArrayList();
+    /**
+     * The order of the task types, which the UI shows in separate panels: events, then deadlines, then
+     * floating tasks.
+     */
+    public static final Comparator<BasicTaskFeatures> TASK_TYPE_ORDER = Comparator
+            .comparingInt(UniqueTaskList::getTypeRank);
+
+    /**
+     * The order in which tasks are kept: events, then deadlines, then floating tasks, each by start and
+     * end date time, then by priority. Ties are broken by name, in descending order, so that no two tasks
+     * in the list compare as equal.
+     */
+    public static final Comparator<BasicTaskFeatures> TASK_ORDER = TASK_TYPE_ORDER
+            .thenComparing(BasicTaskFeatures::getStartDateTime)
+            .thenComparing(BasicTaskFeatures::getEndDateTime)
+            .thenComparingInt(UniqueTaskList::getPriorityRank)
+            .thenComparing(task -> task.getName().toString(), Comparator.reverseOrder());
+
+    private final SortedTaskObservableList internalList = new SortedTaskObservableList();
+    /** Index of the tasks in {@link #internalList}, kept in sync on every mutation. */
+    private final Map<TaskName, BasicTask> tasksByName = new HashMap<>();
+    /** Index of the name words and tags of the tasks in {@link #internalList}, kept in sync on every mutation. */
+    private final TaskKeywordIndex keywordIndex = new TaskKeywordIndex();
+    /** Trie of the name and description words of the tasks in {@link #internalList}, kept in sync likewise. */
+    private final TaskSearchIndex searchIndex = new TaskSearchIndex();
+    /** Interval tree of the events in {@link #internalList}, kept in sync likewise. */
+    private final EventIntervalTree eventIntervalTree = new EventIntervalTree();
+    /** Start and end date times of the events and deadlines in {@link #internalList}, kept in sync likewise. */
+    private final TaskTimeIndex timeIndex = new TaskTimeIndex();
+    /** The number of changes made to the tasks in {@link #internalList}, counted before each change is shown. */
+    private long modificationCount;
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(BasicTaskFeatures toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return tasksByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -44,7 +88,11 @@ public class UniqueTaskList implements Iterable<BasicTask> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(new BasicTask(toAdd));
+        BasicTask taskToAdd = new BasicTask(toAdd);
+        modificationCount++;
+        tasksByName.put(taskToAdd.getName(), taskToAdd);
+        addToIndexes(taskToAdd);
+        internalList.add(insertionPointOf(taskToAdd), taskToAdd);
     }
 
     /**
@@ -58,18 +106,23 @@ public class UniqueTaskList implements Iterable<BasicTask> {
             throws DuplicateTaskException, TaskNotFoundException {
         requireNonNull(editedTask);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        BasicTask taskToUpdate = tasksByName.get(target.getName());
+        if (taskToUpdate == null) {
             throw new TaskNotFoundException();
         }
 
-        BasicTask taskToUpdate = internalList.get(index);
-        if (!taskToUpdate.equals(editedTask) && internalList.contains(editedTask)) {
+        if (!taskToUpdate.equals(editedTask) && contains(editedTask)) {
             throw new DuplicateTaskException();
         }
 
+        int index = indexOf(taskToUpdate);
+        modificationCount++;
+        tasksByName.remove(taskToUpdate.getName());
+        removeFromIndexes(taskToUpdate);
         taskToUpdate.resetData(editedTask);
-        internalList.set(index, taskToUpdate);
+        tasksByName.put(taskToUpdate.getName(), taskToUpdate);
+        addToIndexes(taskToUpdate);
+        internalList.reposition(index);
     }
 
     /**
@@ -79,152 +132,168 @@ public class UniqueTaskList implements Iterable<BasicTask> {
      */
     public boolean remove(BasicTaskFeatures toRemove) throws TaskNotFoundException {
         requireNonNull(toRemove);
-        final boolean taskFoundAndDeleted = internalList.remove(toRemove);
-        if (!taskFoundAndDeleted) {
+        final BasicTask taskToRemove = tasksByName.remove(toRemove.getName());
+        if (taskToRemove == null) {
             throw new TaskNotFoundException();
         }
-        return taskFoundAndDeleted;
+        modificationCount++;
+        removeFromIndexes(taskToRemove);
+        internalList.remove(indexOf(taskToRemove));
+        return true;
     }
 
     public void setTasks(UniqueTaskList replacement) {
+        modificationCount++;
+        this.tasksByName.clear();
+        this.tasksByName.putAll(replacement.tasksByName);
+        rebuildIndexes(replacement.internalList);
         this.internalList.setAll(replacement.internalList);
     }
 
+    /**
+     * Replaces the contents of this list with copies of {@code baseTasksList}, sorted once.
+     *
+     * @throws DuplicateTaskException if {@code baseTasksList} contains equivalent tasks.
+     */
     public void setTasks(List<? extends BasicTaskFeatures> baseTasksList) throws DuplicateTaskException {
-        final UniqueTaskList replacement = new UniqueTaskList();
+        final Map<TaskName, BasicTask> replacementByName = new HashMap<>();
+        final List<BasicTask> replacement = new ArrayList<>(baseTasksList.size());
         for (final BasicTaskFeatures task : baseTasksList) {
-            replacement.add(new BasicTask(task));
+            BasicTask taskToAdd = new BasicTask(task);
+            if (replacementByName.put(taskToAdd.getName(), taskToAdd) != null) {
+                throw new DuplicateTaskException();
+            }
+            replacement.add(taskToAdd);
         }
-        setTasks(replacement);
+        long sortStart = System.nanoTime();
+        replacement.sort(TASK_ORDER);
+        recordSortTime(sortStart);
+        modificationCount++;
+        tasksByName.clear();
+        tasksByName.putAll(replacementByName);
+        rebuildIndexes(replacement);
+        internalList.setAll(replacement);
     }
 
-    //@@author A0154986L
-    /***
-     * Sorts all tasks by Event tasks first, then Deadline tasks then Floating tasks
-     */
-    public void sort() {
-        ObservableList<BasicTask> eventList = FXCollections.observableArrayList();
-        ObservableList<BasicTask> deadlineList = FXCollections.observableArrayList();
-        ObservableList<BasicTask> floatingList = FXCollections.observableArrayList();
-        for (BasicTask basicTask : internalList) {
-            if (basicTask.getTaskType().equals("event")) {
-                eventList.add(basicTask);
-            }
-            if (basicTask.getTaskType().equals("deadline")) {
-                deadlineList.add(basicTask);
-            }
-            if (basicTask.getTaskType().equals("floating")) {
-                floatingList.add(basicTask);
-            }
-        }
+    private void rebuildIndexes(List<BasicTask> tasks) {
+        keywordIndex.clear();
+        searchIndex.clear();
+        eventIntervalTree.clear();
+        timeIndex.clear();
+        tasks.forEach(this::addToIndexes);
+    }
 
-        internalList.clear();
-        sortEvents(eventList);
-        sortDeadlines(deadlineList);
-        sortFloating(floatingList);
+    private void addToIndexes(BasicTask task) {
+        keywordIndex.add(task);
+        searchIndex.add(task);
+        eventIntervalTree.add(task);
+        timeIndex.add(task);
+    }
 
-        for (BasicTask basicTask : eventList) {
-            internalList.add(basicTask);
-        }
-        for (BasicTask basicTask : deadlineList) {
-            internalList.add(basicTask);
-        }
-        for (BasicTask basicTask : floatingList) {
-            internalList.add(basicTask);
-        }
+    /**
+     * Removes {@code task} from the indexes, as it was when it was added.
+     */
+    private void removeFromIndexes(BasicTask task) {
+        keywordIndex.remove(task);
+        searchIndex.remove(task);
+        eventIntervalTree.remove(task);
+        timeIndex.remove(task);
     }
 
-    //@@author A0154986L
-    /***
-     * Sorts event tasks by end date and time first, then start date and time.
+    /**
+     * Returns the number of changes made to the tasks so far. It grows before listeners of the list are told of a
+     * change, so a value read while filtering tells whether the tasks changed since an earlier read.
      */
-    private void sortEvents(ObservableList<BasicTask> eventList) {
-        Collections.sort(eventList, new TaskNameComparator());
-        Collections.sort(eventList, new EndDateTimeComparator());
-        Collections.sort(eventList, new StartDateTimeComparator());
+    public long getModificationCount() {
+        return modificationCount;
     }
 
-    //@@author A0154986L
-    /***
-     * Sorts deadline tasks by end date and time only.
+    /**
+     * Returns the index of the name words and tags of the tasks in this list.
      */
-    private void sortDeadlines(ObservableList<BasicTask> deadlineList) {
-        Collections.sort(deadlineList, new TaskNameComparator());
-        Collections.sort(deadlineList, new EndDateTimeComparator());
+    public TaskKeywordIndex getKeywordIndex() {
+        return keywordIndex;
     }
 
-    //@@author A0154986L
-    /***
-     * Sorts floating tasks by priority tags only.
-     * Ordered by HIGH, MEDIUM, LOW
+    /**
+     * Returns the trie of the name and description words of the tasks in this list.
      */
-    private void sortFloating(ObservableList<BasicTask> floatingList) {
-        ObservableList<BasicTask> highList = FXCollections.observableArrayList();
-        ObservableList<BasicTask> mediumList = FXCollections.observableArrayList();
-        ObservableList<BasicTask> lowList = FXCollections.observableArrayList();
-        ObservableList<BasicTask> otherList = FXCollections.observableArrayList();
+    public TaskSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
 
-        for (BasicTask basicTask : floatingList) {
-            if (basicTask.getAllTags().contains("HIGH")) {
-                highList.add(basicTask);
-            } else if (basicTask.getAllTags().contains("MEDIUM")) {
-                mediumList.add(basicTask);
-            } else if (basicTask.getAllTags().contains("LOW")) {
-                lowList.add(basicTask);
-            } else {
-                otherList.add(basicTask);
-            }
-        }
+    /**
+     * Returns the interval tree of the events in this list.
+     */
+    public EventIntervalTree getEventIntervalTree() {
+        return eventIntervalTree;
+    }
 
-        floatingList.clear();
+    /**
+     * Returns the index of the start and end date times of the events and deadlines in this list.
+     */
+    public TaskTimeIndex getTimeIndex() {
+        return timeIndex;
+    }
 
-        for (BasicTask basicTask : highList) {
-            floatingList.add(basicTask);
-        }
-        for (BasicTask basicTask : mediumList) {
-            floatingList.add(basicTask);
-        }
-        for (BasicTask basicTask : lowList) {
-            floatingList.add(basicTask);
+    /**
+     * Returns the position of {@code task} in {@link #internalList}, found by binary search on {@link #TASK_ORDER}.
+     */
+    private int indexOf(BasicTask task) {
+        int index = Collections.binarySearch(internalList, task, TASK_ORDER);
+        if (index >= 0 && internalList.get(index) == task) {
+            return index;
         }
-        for (BasicTask basicTask : otherList) {
-            floatingList.add(basicTask);
+        // the task was changed in place without going through this list, so its sort key may be stale
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == task) {
+                return i;
+            }
         }
+        throw new AssertionError("Indexed task must be in the list");
     }
 
-    //@@author A0154986L
-    /***
-     * Compares the start data time value of the tasks.
+    /**
+     * Returns the position at which {@code task} should be inserted to keep {@link #internalList} sorted.
      */
-    static class StartDateTimeComparator implements Comparator<BasicTask> {
-        public int compare(BasicTask c1, BasicTask c2) {
-            if (c1.getStartDateTime().isBefore(c2.getStartDateTime()) == true) {
-                return -1;
-            }
-            return 1;
-        }
+    private int insertionPointOf(BasicTask task) {
+        long start = System.nanoTime();
+        int index = Collections.binarySearch(internalList, task, TASK_ORDER);
+        assert index < 0 : "Task to insert must not be in the list";
+        recordSortTime(start);
+        return -(index + 1);
+    }
+
+    private static void recordSortTime(long startNanos) {
+        MetricsCenter.getInstance().recordTime(Phase.SORT, System.nanoTime() - startNanos);
     }
 
-    //@@author A0154986L
-    /***
-     * Compares the end data time value of the tasks.
+    /**
+     * Returns the rank of the priority tag of {@code task}: HIGH, MEDIUM, LOW, then untagged.
      */
-    static class EndDateTimeComparator implements Comparator<BasicTask> {
-        public int compare(BasicTask c1, BasicTask c2) {
-            if (c1.getEndDateTime().isBefore(c2.getEndDateTime()) == true) {
-                return -1;
+    private static int getPriorityRank(BasicTaskFeatures task) {
+        int rank = Tag.RESERVEREDTAGS.length;
+        for (Tag tag : task.getTags()) {
+            for (int i = 0; i < rank; i++) {
+                if (Tag.RESERVEREDTAGS[i].equals(tag.tagName)) {
+                    rank = i;
+                }
             }
-            return 1;
         }
+        return rank;
     }
 
-    //@@author A0154986L
-    /***
-     * Compares the task name value of the tasks.
+    /**
+     * Returns the rank of the type of {@code task}: events, then deadlines, then floating tasks.
      */
-    class TaskNameComparator implements Comparator<BasicTask> {
-        public int compare(BasicTask c1, BasicTask c2) {
-            return c2.getName().toString().compareTo(c1.getName().toString());
+    private static int getTypeRank(BasicTaskFeatures task) {
+        switch (task.getTaskType()) {
+        case BasicTask.TASK_TYPE_EVENT:
+            return 0;
+        case BasicTask.TASK_TYPE_DEADLINE:
+            return 1;
+        default:
+            return 2;
         }
     }
 
@@ -238,6 +307,54 @@ public class UniqueTaskList implements Iterable<BasicTask> {
         return internalList.iterator();
     }
 
+    /**
+     * An observable array list of tasks that can move a task to its sorted position in a single change.
+     */
+    private static class SortedTaskObservableList extends ModifiableObservableListBase<BasicTask> {
+        private final List<BasicTask> tasks = new ArrayList<>();
+
+        /**
+         * Moves the task at {@code index}, whose sort key has just changed, to its position in {@link #TASK_ORDER}.
+         * Listeners see one change: a replacement if the task stays in place, a removal and an addition otherwise.
+         */
+        void reposition(int index) {
+            long start = System.nanoTime();
+            beginChange();
+            BasicTask task = tasks.remove(index);
+            nextRemove(index, task);
+            int newIndex = -(Collections.binarySearch(tasks, task, TASK_ORDER) + 1);
+            tasks.add(newIndex, task);
+            nextAdd(newIndex, newIndex + 1);
+            recordSortTime(start);
+            endChange();
+        }
+
+        @Override
+        public BasicTask get(int index) {
+            return tasks.get(index);
+        }
+
+        @Override
+        public int size() {
+            return tasks.size();
+        }
+
+        @Override
+        protected void doAdd(int index, BasicTask element) {
+            tasks.add(index, element);
+        }
+
+        @Override
+        protected BasicTask doSet(int index, BasicTask element) {
+            return tasks.set(index, element);
+        }
+
+        @Override
+        protected BasicTask doRemove(int index) {
+            return tasks.remove(index);
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
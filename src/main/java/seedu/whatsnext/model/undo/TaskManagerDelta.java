@@ -0,0 +1,393 @@
+package seedu.whatsnext.model.undo;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.TaskManagerSnapshot;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.BasicTaskFeatures;
+import seedu.whatsnext.model.task.TaskName;
+import seedu.whatsnext.model.task.exceptions.DuplicateTaskException;
+import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
+
+/**
+ * An invertible change made to a {@link TaskManager} by a single command.
+ * Only the tasks touched by the command are retained, so replaying a delta costs O(changed tasks).
+ */
+public abstract class TaskManagerDelta {
+
+    private static final TaskManagerDelta UNCHANGED = new UnchangedDelta();
+
+    /**
+     * Reverts this change on {@code taskManager}.
+     */
+    public abstract void undo(TaskManager taskManager);
+
+    /**
+     * Re-applies this change on {@code taskManager}.
+     */
+    public abstract void redo(TaskManager taskManager);
+
+    /**
+     * Returns the number of task records held by this delta, used to bound the memory of the journal.
+     */
+    public abstract int getRetainedTaskCount();
+
+    /**
+     * Returns the tasks that {@link #redo(TaskManager)} removes. Only their names are significant.
+     */
+    public abstract List<BasicTask> getRemovedTasks();
+
+    /**
+     * Returns the tasks that {@link #redo(TaskManager)} adds, after removing {@link #getRemovedTasks()}.
+     */
+    public abstract List<BasicTask> getAddedTasks();
+
+    /**
+     * Returns true if this delta replaces the whole content of the task manager.
+     */
+    public boolean isReset() {
+        return false;
+    }
+
+    /**
+     * Returns true if this delta leaves the content of the task manager as it was, e.g. a change of the
+     * filtered view, so there is nothing to save.
+     */
+    public boolean isUnchanged() {
+        return !isReset() && getRemovedTasks().isEmpty() && getAddedTasks().isEmpty();
+    }
+
+    /**
+     * Returns the delta that undoes this one on redo.
+     */
+    public TaskManagerDelta inverse() {
+        return new InverseDelta(this);
+    }
+
+    /**
+     * Returns a delta that leaves the task manager unchanged, e.g. for a change of the filtered view.
+     */
+    public static TaskManagerDelta unchanged() {
+        return UNCHANGED;
+    }
+
+    /**
+     * Returns a delta recording that {@code added} was added.
+     */
+    public static TaskManagerDelta added(BasicTaskFeatures added) {
+        return new AddDelta(new BasicTask(requireNonNull(added)));
+    }
+
+    /**
+     * Returns a delta recording that {@code removed} was removed.
+     */
+    public static TaskManagerDelta removed(BasicTaskFeatures removed) {
+        return new InverseDelta(added(removed));
+    }
+
+    /**
+     * Returns a delta recording that {@code before} was replaced by {@code after}.
+     * Both tasks are copied, so later in-place changes to the live task do not affect the delta.
+     */
+    public static TaskManagerDelta replaced(BasicTaskFeatures before, BasicTaskFeatures after) {
+        return new ReplaceDelta(new BasicTask(requireNonNull(before)), new BasicTask(requireNonNull(after)));
+    }
+
+    /**
+     * Returns a delta recording that the whole content of the task manager was replaced,
+     * e.g. by a {@code clear} command.
+     */
+    public static TaskManagerDelta reset(ReadOnlyTaskManager before, ReadOnlyTaskManager after) {
+        return new ResetDelta(new TaskManagerSnapshot(before), new TaskManagerSnapshot(after));
+    }
+
+    /**
+     * Returns a delta made of {@code deltas}, applied in order, e.g. for the commands of a batch.
+     */
+    public static TaskManagerDelta batch(List<TaskManagerDelta> deltas) {
+        requireNonNull(deltas);
+        if (deltas.isEmpty()) {
+            return UNCHANGED;
+        }
+        return deltas.size() == 1 ? deltas.get(0) : new BatchDelta(new ArrayList<>(deltas));
+    }
+
+    /**
+     * Adds a single task on redo and removes it on undo.
+     */
+    private static class AddDelta extends TaskManagerDelta {
+        private final BasicTask task;
+
+        AddDelta(BasicTask task) {
+            this.task = task;
+        }
+
+        @Override
+        public void undo(TaskManager taskManager) {
+            try {
+                taskManager.removeTask(task);
+            } catch (TaskNotFoundException e) {
+                throw new AssertionError("Task to undo must be in the task manager", e);
+            }
+        }
+
+        @Override
+        public void redo(TaskManager taskManager) {
+            try {
+                taskManager.addTask(task);
+            } catch (DuplicateTaskException e) {
+                throw new AssertionError("Task to redo must not be in the task manager", e);
+            }
+        }
+
+        @Override
+        public int getRetainedTaskCount() {
+            return 1;
+        }
+
+        @Override
+        public List<BasicTask> getRemovedTasks() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<BasicTask> getAddedTasks() {
+            return Collections.singletonList(task);
+        }
+    }
+
+    /**
+     * Swaps the undo and redo directions of another delta.
+     */
+    private static class InverseDelta extends TaskManagerDelta {
+        private final TaskManagerDelta inverse;
+
+        InverseDelta(TaskManagerDelta inverse) {
+            this.inverse = inverse;
+        }
+
+        @Override
+        public void undo(TaskManager taskManager) {
+            inverse.redo(taskManager);
+        }
+
+        @Override
+        public void redo(TaskManager taskManager) {
+            inverse.undo(taskManager);
+        }
+
+        @Override
+        public int getRetainedTaskCount() {
+            return inverse.getRetainedTaskCount();
+        }
+
+        @Override
+        public List<BasicTask> getRemovedTasks() {
+            return inverse.getAddedTasks();
+        }
+
+        @Override
+        public List<BasicTask> getAddedTasks() {
+            return inverse.getRemovedTasks();
+        }
+
+        @Override
+        public boolean isReset() {
+            return inverse.isReset();
+        }
+
+        @Override
+        public TaskManagerDelta inverse() {
+            return inverse;
+        }
+    }
+
+    /**
+     * Replaces a single task with another one.
+     */
+    private static class ReplaceDelta extends TaskManagerDelta {
+        private final BasicTask before;
+        private final BasicTask after;
+
+        ReplaceDelta(BasicTask before, BasicTask after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(TaskManager taskManager) {
+            replace(taskManager, after, before);
+        }
+
+        @Override
+        public void redo(TaskManager taskManager) {
+            replace(taskManager, before, after);
+        }
+
+        private void replace(TaskManager taskManager, BasicTask target, BasicTask replacement) {
+            try {
+                taskManager.updateTask(target, new BasicTask(replacement));
+            } catch (DuplicateTaskException | TaskNotFoundException e) {
+                throw new AssertionError("Task to replace must be the only one with its name", e);
+            }
+        }
+
+        @Override
+        public int getRetainedTaskCount() {
+            return 2;
+        }
+
+        @Override
+        public List<BasicTask> getRemovedTasks() {
+            return Collections.singletonList(before);
+        }
+
+        @Override
+        public List<BasicTask> getAddedTasks() {
+            return Collections.singletonList(after);
+        }
+    }
+
+    /**
+     * Replaces the whole content of the task manager.
+     */
+    private static class ResetDelta extends TaskManagerDelta {
+        private final TaskManagerSnapshot before;
+        private final TaskManagerSnapshot after;
+
+        ResetDelta(TaskManagerSnapshot before, TaskManagerSnapshot after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(TaskManager taskManager) {
+            taskManager.resetData(before);
+        }
+
+        @Override
+        public void redo(TaskManager taskManager) {
+            taskManager.resetData(after);
+        }
+
+        @Override
+        public int getRetainedTaskCount() {
+            return before.getTaskList().size() + after.getTaskList().size();
+        }
+
+        @Override
+        public List<BasicTask> getRemovedTasks() {
+            return new ArrayList<>(before.getTaskList());
+        }
+
+        @Override
+        public List<BasicTask> getAddedTasks() {
+            return new ArrayList<>(after.getTaskList());
+        }
+
+        @Override
+        public boolean isReset() {
+            return true;
+        }
+    }
+
+    /**
+     * Applies several deltas in order on redo, and undoes them in reverse order on undo.
+     */
+    private static class BatchDelta extends TaskManagerDelta {
+        private final List<TaskManagerDelta> deltas;
+        /** The tasks present before the batch and removed or replaced by it, by name. */
+        private final Map<TaskName, BasicTask> removedTasks = new LinkedHashMap<>();
+        /** The tasks added by the batch and still present after it, by name. */
+        private final Map<TaskName, BasicTask> addedTasks = new LinkedHashMap<>();
+
+        BatchDelta(List<TaskManagerDelta> deltas) {
+            this.deltas = deltas;
+            // keeps only the net change, so that a task added then removed by the batch is in neither list
+            for (TaskManagerDelta delta : deltas) {
+                for (BasicTask task : delta.getRemovedTasks()) {
+                    if (addedTasks.remove(task.getName()) == null) {
+                        removedTasks.putIfAbsent(task.getName(), task);
+                    }
+                }
+                for (BasicTask task : delta.getAddedTasks()) {
+                    addedTasks.put(task.getName(), task);
+                }
+            }
+        }
+
+        @Override
+        public void undo(TaskManager taskManager) {
+            for (int i = deltas.size() - 1; i >= 0; i--) {
+                deltas.get(i).undo(taskManager);
+            }
+        }
+
+        @Override
+        public void redo(TaskManager taskManager) {
+            deltas.forEach(delta -> delta.redo(taskManager));
+        }
+
+        @Override
+        public int getRetainedTaskCount() {
+            return deltas.stream().mapToInt(TaskManagerDelta::getRetainedTaskCount).sum();
+        }
+
+        @Override
+        public List<BasicTask> getRemovedTasks() {
+            return new ArrayList<>(removedTasks.values());
+        }
+
+        @Override
+        public List<BasicTask> getAddedTasks() {
+            return new ArrayList<>(addedTasks.values());
+        }
+
+        @Override
+        public boolean isReset() {
+            return deltas.stream().anyMatch(TaskManagerDelta::isReset);
+        }
+    }
+
+    /**
+     * Changes nothing.
+     */
+    private static class UnchangedDelta extends TaskManagerDelta {
+
+        @Override
+        public void undo(TaskManager taskManager) {
+        }
+
+        @Override
+        public void redo(TaskManager taskManager) {
+        }
+
+        @Override
+        public int getRetainedTaskCount() {
+            return 0;
+        }
+
+        @Override
+        public List<BasicTask> getRemovedTasks() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<BasicTask> getAddedTasks() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public TaskManagerDelta inverse() {
+            return this;
+        }
+    }
+}
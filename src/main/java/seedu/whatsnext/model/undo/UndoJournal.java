@@ -0,0 +1,122 @@
+package seedu.whatsnext.model.undo;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.whatsnext.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EmptyStackException;
+
+import seedu.whatsnext.model.TaskManager;
+
+/**
+ * Records the {@link TaskManagerDelta}s of the commands executed on a {@link TaskManager}
+ * so that they can be undone and redone.
+ *
+ * The undo history is bounded both by the number of entries ({@code maxDepth}) and by the total
+ * number of task records held by those entries ({@code maxRetainedTasks}). The oldest entries are
+ * dropped first. The newest entry is always kept, even if it alone exceeds {@code maxRetainedTasks},
+ * so that the last command can always be undone.
+ */
+public class UndoJournal {
+
+    public static final int DEFAULT_MAX_DEPTH = 100;
+    public static final int DEFAULT_MAX_RETAINED_TASKS = 100000;
+
+    private final Deque<TaskManagerDelta> undoDeltas = new ArrayDeque<>();
+    private final Deque<TaskManagerDelta> redoDeltas = new ArrayDeque<>();
+    private final int maxDepth;
+    private final int maxRetainedTasks;
+    private int retainedTasks;
+
+    public UndoJournal() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_RETAINED_TASKS);
+    }
+
+    /**
+     * @param maxDepth maximum number of commands that can be undone, must be positive.
+     * @param maxRetainedTasks maximum number of task records kept across the undo and redo history,
+     *                         must be positive.
+     */
+    public UndoJournal(int maxDepth, int maxRetainedTasks) {
+        checkArgument(maxDepth > 0, "Undo depth must be positive");
+        checkArgument(maxRetainedTasks > 0, "Undo memory cap must be positive");
+        this.maxDepth = maxDepth;
+        this.maxRetainedTasks = maxRetainedTasks;
+    }
+
+    /**
+     * Records a change that has just been applied. Clears the redo history.
+     */
+    public void record(TaskManagerDelta delta) {
+        requireNonNull(delta);
+        clearRedo();
+        undoDeltas.push(delta);
+        retainedTasks += delta.getRetainedTaskCount();
+        trim();
+    }
+
+    /**
+     * Reverts the most recent change on {@code taskManager}.
+     *
+     * @return the change made to {@code taskManager}, i.e. the inverse of the reverted change.
+     * @throws EmptyStackException if there is nothing to undo.
+     */
+    public TaskManagerDelta undo(TaskManager taskManager) {
+        if (undoDeltas.isEmpty()) {
+            throw new EmptyStackException();
+        }
+        TaskManagerDelta delta = undoDeltas.pop();
+        delta.undo(taskManager);
+        redoDeltas.push(delta);
+        return delta.inverse();
+    }
+
+    /**
+     * Re-applies the most recently undone change on {@code taskManager}.
+     *
+     * @return the change made to {@code taskManager}.
+     * @throws EmptyStackException if there is nothing to redo.
+     */
+    public TaskManagerDelta redo(TaskManager taskManager) {
+        if (redoDeltas.isEmpty()) {
+            throw new EmptyStackException();
+        }
+        TaskManagerDelta delta = redoDeltas.pop();
+        delta.redo(taskManager);
+        undoDeltas.push(delta);
+        return delta;
+    }
+
+    /**
+     * Discards the redo history.
+     */
+    private void clearRedo() {
+        for (TaskManagerDelta delta : redoDeltas) {
+            retainedTasks -= delta.getRetainedTaskCount();
+        }
+        redoDeltas.clear();
+    }
+
+    public int getUndoDepth() {
+        return undoDeltas.size();
+    }
+
+    public int getRedoDepth() {
+        return redoDeltas.size();
+    }
+
+    public int getRetainedTaskCount() {
+        return retainedTasks;
+    }
+
+    /**
+     * Drops the oldest undo entries until both limits are respected.
+     */
+    private void trim() {
+        while (undoDeltas.size() > maxDepth
+                || (retainedTasks > maxRetainedTasks && undoDeltas.size() > 1)) {
+            retainedTasks -= undoDeltas.removeLast().getRetainedTaskCount();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.whatsnext.model.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.BasicTaskFeatures;
+
+/**
+ * Reads and sets the {@link Tag#RESERVED_TAG_OVERLAP} tag, which marks an event that another event overlaps.
+ */
+public class OverlapTagUtil {
+
+    /**
+     * Returns true if {@code task} is tagged as overlapping another event.
+     */
+    public static boolean hasOverlapTag(BasicTaskFeatures task) {
+        assert task != null;
+        for (Tag tag : task.getTags()) {
+            if (tag.tagName.equals(Tag.RESERVED_TAG_OVERLAP)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a copy of {@code task} tagged as overlapping another event.
+     */
+    public static BasicTask withOverlapTag(BasicTaskFeatures task) {
+        assert task != null;
+        BasicTask taggedTask = new BasicTask(task);
+        Set<Tag> tags = new HashSet<>(taggedTask.getTags());
+        try {
+            tags.add(new Tag(Tag.RESERVED_TAG_OVERLAP));
+        } catch (IllegalValueException e) {
+            throw new AssertionError("The overlap tag is a valid tag", e);
+        }
+        taggedTask.setTags(tags);
+        return taggedTask;
+    }
+
+    /**
+     * Returns a copy of {@code task} without the overlap tag.
+     */
+    public static BasicTask withoutOverlapTag(BasicTaskFeatures task) {
+        assert task != null;
+        BasicTask untaggedTask = new BasicTask(task);
+        Set<Tag> tags = new HashSet<>();
+        for (Tag tag : untaggedTask.getTags()) {
+            if (!tag.tagName.equals(Tag.RESERVED_TAG_OVERLAP)) {
+                tags.add(tag);
+            }
+        }
+        untaggedTask.setTags(tags);
+        return untaggedTask;
+    }
+}
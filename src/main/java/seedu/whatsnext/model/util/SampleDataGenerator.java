@@ -0,0 +1,256 @@
+package seedu.whatsnext.model.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+import seedu.whatsnext.commons.util.AppUtil;
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.DateTime;
+import seedu.whatsnext.model.task.TaskDescription;
+import seedu.whatsnext.model.task.TaskName;
+import seedu.whatsnext.model.task.exceptions.DuplicateTaskException;
+
+/**
+ * Generates any number of tasks, to try the app at a larger scale than the fixed tasks of {@link SampleDataUtil}.
+ * The same seed and settings always give the same tasks, so runs with generated data can be compared.
+ *
+ * The tasks are spread over a period centred on a start time, so that some of them are upcoming and some have
+ * expired. Events are laid out one after another, and some of them run on into the next event; both are then
+ * tagged as overlapping, as the add command would tag them.
+ */
+public class SampleDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103L;
+    /** The default time the tasks are spread around, 1 January 2018 00:00 UTC, fixed so that a seed is enough. */
+    public static final long DEFAULT_START_MILLIS = 1514764800000L;
+
+    private static final String[] VERBS = {"Submit", "Prepare", "Review", "Buy", "Call", "Plan", "Attend", "Finish",
+        "Book", "Clean", "Read", "Write"};
+    private static final String[] NOUNS = {"report", "meeting", "exam", "groceries", "lecture", "project",
+        "dinner", "tutorial", "gym", "assignment", "presentation", "tickets", "budget", "slides", "essay"};
+    private static final String[] TAG_WORDS = {"work", "home", "school", "family", "health", "finance", "travel",
+        "errands", "sports", "reading"};
+
+    private static final long MINUTE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long DAY_MINUTES = TimeUnit.DAYS.toMinutes(1);
+    /** The least time between the starts of two events, so that an event that does not overlap has a length. */
+    private static final long MIN_EVENT_SLOT_MINUTES = 4;
+
+    private final long seed;
+    private int floatingWeight = 1;
+    private int deadlineWeight = 1;
+    private int eventWeight = 1;
+    private int tagCount = TAG_WORDS.length;
+    private int maxTagsPerTask = 2;
+    private double overlapRatio = 0.1;
+    private double completedRatio = 0.25;
+    private int spanDays = 365;
+    private long startMillis = DEFAULT_START_MILLIS;
+
+    public SampleDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the relative numbers of floating tasks, deadlines and events. The default is a third of each.
+     */
+    public SampleDataGenerator withTaskMix(int floatingWeight, int deadlineWeight, int eventWeight) {
+        AppUtil.checkArgument(floatingWeight >= 0 && deadlineWeight >= 0 && eventWeight >= 0
+                && floatingWeight + deadlineWeight + eventWeight > 0, "Task mix weights must be positive");
+        this.floatingWeight = floatingWeight;
+        this.deadlineWeight = deadlineWeight;
+        this.eventWeight = eventWeight;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct tags the tasks are tagged with, and the most tags a task has.
+     */
+    public SampleDataGenerator withTags(int tagCount, int maxTagsPerTask) {
+        AppUtil.checkArgument(tagCount >= 0 && maxTagsPerTask >= 0 && maxTagsPerTask <= tagCount,
+                "A task cannot have more tags than there are");
+        this.tagCount = tagCount;
+        this.maxTagsPerTask = maxTagsPerTask;
+        return this;
+    }
+
+    /**
+     * Sets the share of events that run on into the next event.
+     */
+    public SampleDataGenerator withOverlapRatio(double overlapRatio) {
+        AppUtil.checkArgument(overlapRatio >= 0 && overlapRatio <= 1, "Overlap ratio must be between 0 and 1");
+        this.overlapRatio = overlapRatio;
+        return this;
+    }
+
+    /**
+     * Sets the share of tasks that are completed.
+     */
+    public SampleDataGenerator withCompletedRatio(double completedRatio) {
+        AppUtil.checkArgument(completedRatio >= 0 && completedRatio <= 1, "Completed ratio must be between 0 and 1");
+        this.completedRatio = completedRatio;
+        return this;
+    }
+
+    /**
+     * Sets the time that the deadlines and events are spread around, and the number of days they are spread
+     * over. The default is a year around {@link #DEFAULT_START_MILLIS}.
+     */
+    public SampleDataGenerator withPeriod(long startMillis, int spanDays) {
+        AppUtil.checkArgument(spanDays > 0, "The tasks must be spread over at least a day");
+        this.startMillis = startMillis;
+        this.spanDays = spanDays;
+        return this;
+    }
+
+    /**
+     * Sets the time that the deadlines and events are spread around, keeping the number of days they are spread
+     * over.
+     */
+    public SampleDataGenerator withStart(long startMillis) {
+        return withPeriod(startMillis, spanDays);
+    }
+
+    /**
+     * Returns {@code count} tasks with distinct names.
+     */
+    public List<BasicTask> generateTasks(int count) {
+        AppUtil.checkArgument(count >= 0, "Task count cannot be negative");
+        try {
+            return createTasks(count);
+        } catch (IllegalValueException e) {
+            throw new AssertionError("generated data cannot be invalid", e);
+        }
+    }
+
+    /**
+     * Returns a task manager holding {@link #generateTasks(int)}, with their tags in its tag list.
+     * Any {@link seedu.whatsnext.storage.TaskManagerStorage} can save it as it is.
+     */
+    public TaskManager generateTaskManager(int count) {
+        TaskManager taskManager = new TaskManager();
+        try {
+            taskManager.setTasks(generateTasks(count));
+        } catch (DuplicateTaskException e) {
+            throw new AssertionError("generated data cannot contain duplicate tasks", e);
+        }
+        taskManager.syncMasterTagListWith(taskManager.getTasks());
+        return taskManager;
+    }
+
+    private List<BasicTask> createTasks(int count) throws IllegalValueException {
+        Random random = new Random(seed);
+        List<Tag> tags = createTags();
+        Tag overlapTag = new Tag(Tag.RESERVED_TAG_OVERLAP);
+        String[] types = new String[count];
+        int eventCount = 0;
+        for (int i = 0; i < count; i++) {
+            types[i] = pickTaskType(random);
+            if (types[i].equals(BasicTask.TASK_TYPE_EVENT)) {
+                eventCount++;
+            }
+        }
+
+        long spanMinutes = spanDays * DAY_MINUTES;
+        long firstMinute = startMillis / MINUTE_MILLIS - spanMinutes / 2;
+        long eventSlotMinutes = Math.max(MIN_EVENT_SLOT_MINUTES, spanMinutes / Math.max(1, eventCount));
+        boolean isOverlappingPrevious = false;
+        int eventIndex = 0;
+
+        List<BasicTask> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TaskName name = new TaskName(pick(random, VERBS) + " " + pick(random, NOUNS) + " " + (i + 1));
+            TaskDescription description = createDescription(random);
+            boolean isCompleted = random.nextDouble() < completedRatio;
+            Set<Tag> taskTags = pickTags(random, tags);
+
+            switch (types[i]) {
+            case BasicTask.TASK_TYPE_EVENT:
+                long slotStart = firstMinute + eventIndex * eventSlotMinutes;
+                boolean isOverlappingNext = eventIndex < eventCount - 1 && random.nextDouble() < overlapRatio;
+                // a longer event reaches into the slot of the next event, but not the one after it
+                long length = isOverlappingNext
+                        ? eventSlotMinutes + 1 + random.nextInt((int) (eventSlotMinutes / 2))
+                        : eventSlotMinutes / 4 + random.nextInt((int) (eventSlotMinutes / 2));
+                if (isOverlappingPrevious || isOverlappingNext) {
+                    taskTags.add(overlapTag);
+                }
+                tasks.add(new BasicTask(name, description, isCompleted, toDateTime(slotStart),
+                        toDateTime(slotStart + length), taskTags));
+                isOverlappingPrevious = isOverlappingNext;
+                eventIndex++;
+                break;
+            case BasicTask.TASK_TYPE_DEADLINE:
+                long deadline = firstMinute + (long) (random.nextDouble() * spanMinutes);
+                tasks.add(new BasicTask(name, description, isCompleted, toDateTime(deadline), taskTags));
+                break;
+            default:
+                tasks.add(new BasicTask(name, description, isCompleted, taskTags));
+                break;
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns {@code tagCount} distinct tags, named after the words of {@link #TAG_WORDS}, then the same words
+     * numbered.
+     */
+    private List<Tag> createTags() throws IllegalValueException {
+        List<Tag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            String word = TAG_WORDS[i % TAG_WORDS.length];
+            tags.add(new Tag(i < TAG_WORDS.length ? word : word + (i / TAG_WORDS.length)));
+        }
+        return tags;
+    }
+
+    private String pickTaskType(Random random) {
+        int pick = random.nextInt(floatingWeight + deadlineWeight + eventWeight);
+        if (pick < floatingWeight) {
+            return BasicTask.TASK_TYPE_FLOATING;
+        } else if (pick < floatingWeight + deadlineWeight) {
+            return BasicTask.TASK_TYPE_DEADLINE;
+        }
+        return BasicTask.TASK_TYPE_EVENT;
+    }
+
+    private Set<Tag> pickTags(Random random, List<Tag> tags) {
+        Set<Tag> taskTags = new HashSet<>();
+        int taskTagCount = random.nextInt(maxTagsPerTask + 1);
+        while (taskTags.size() < taskTagCount) {
+            taskTags.add(tags.get(random.nextInt(tags.size())));
+        }
+        return taskTags;
+    }
+
+    /**
+     * Returns a description of a few words for half of the tasks, and an empty description for the others.
+     */
+    private static TaskDescription createDescription(Random random) throws IllegalValueException {
+        if (random.nextBoolean()) {
+            return new TaskDescription();
+        }
+        StringBuilder description = new StringBuilder(pick(random, VERBS));
+        int wordCount = 1 + random.nextInt(4);
+        for (int i = 0; i < wordCount; i++) {
+            description.append(' ').append(pick(random, NOUNS));
+        }
+        return new TaskDescription(description.toString());
+    }
+
+    private static String pick(Random random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+
+    private static DateTime toDateTime(long epochMinute) {
+        return DateTime.fromEpochMillis(epochMinute * MINUTE_MILLIS);
+    }
+}
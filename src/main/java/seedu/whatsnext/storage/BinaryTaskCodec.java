@@ -0,0 +1,121 @@
+package seedu.whatsnext.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.DateTime;
+import seedu.whatsnext.model.task.TaskDescription;
+import seedu.whatsnext.model.task.TaskName;
+
+/**
+ * Writes and reads a task in the binary form shared by {@link BinaryTaskManagerStorage} and
+ * {@link JournaledTaskManagerStorage}: name, description, a flags byte (completed, has start, has end),
+ * the start and end date times if present, and the number of tags followed by the tags, written in a form chosen
+ * by the caller.
+ * Date times are written by {@link DateTime#toStoredEpochMillis()}, which does not depend on the time zone.
+ * Data written before that held epoch milliseconds in the system time zone, and is read by
+ * {@link #readLegacyTask(DataInputStream, TagReader)}.
+ * Strings are UTF-8 bytes prefixed by their length.
+ */
+class BinaryTaskCodec {
+
+    private static final int FLAG_COMPLETED = 1;
+    private static final int FLAG_HAS_START = 1 << 1;
+    private static final int FLAG_HAS_END = 1 << 2;
+
+    /**
+     * Writes a tag of a task.
+     */
+    @FunctionalInterface
+    interface TagWriter {
+        void write(DataOutputStream out, Tag tag) throws IOException;
+    }
+
+    /**
+     * Reads a tag written by the matching {@link TagWriter}.
+     */
+    @FunctionalInterface
+    interface TagReader {
+        Tag read(DataInputStream in) throws IOException, IllegalValueException;
+    }
+
+    private BinaryTaskCodec() {
+    }
+
+    static void writeTask(DataOutputStream out, BasicTask task, TagWriter tagWriter) throws IOException {
+        writeString(out, task.getName().fullTaskName);
+        writeString(out, task.getDescription().fullTaskDescription);
+
+        boolean hasStart = !task.getStartDateTime().isEmpty();
+        boolean hasEnd = !task.getEndDateTime().isEmpty();
+        out.writeByte((task.getIsCompleted() ? FLAG_COMPLETED : 0)
+                | (hasStart ? FLAG_HAS_START : 0)
+                | (hasEnd ? FLAG_HAS_END : 0));
+        if (hasStart) {
+            out.writeLong(task.getStartDateTime().toStoredEpochMillis());
+        }
+        if (hasEnd) {
+            out.writeLong(task.getEndDateTime().toStoredEpochMillis());
+        }
+
+        Set<Tag> tags = task.getTags();
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            tagWriter.write(out, tag);
+        }
+    }
+
+    static BasicTask readTask(DataInputStream in, TagReader tagReader) throws IOException, IllegalValueException {
+        return readTask(in, tagReader, DateTime::fromStoredEpochMillis);
+    }
+
+    /**
+     * Reads a task whose date times are epoch milliseconds in the system time zone.
+     */
+    static BasicTask readLegacyTask(DataInputStream in, TagReader tagReader)
+            throws IOException, IllegalValueException {
+        return readTask(in, tagReader, DateTime::fromEpochMillis);
+    }
+
+    private static BasicTask readTask(DataInputStream in, TagReader tagReader,
+            LongFunction<DateTime> dateTimeReader) throws IOException, IllegalValueException {
+        TaskName name = new TaskName(readString(in));
+        TaskDescription description = new TaskDescription(readString(in));
+        int flags = in.readByte();
+        DateTime startDateTime = (flags & FLAG_HAS_START) != 0
+                ? dateTimeReader.apply(in.readLong()) : DateTime.EMPTY;
+        DateTime endDateTime = (flags & FLAG_HAS_END) != 0
+                ? dateTimeReader.apply(in.readLong()) : DateTime.EMPTY;
+
+        int tagCount = in.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(tagReader.read(in));
+        }
+        return new BasicTask(name, description, (flags & FLAG_COMPLETED) != 0, startDateTime, endDateTime, tags);
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.whatsnext.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.whatsnext.commons.core.LogsCenter;
+import seedu.whatsnext.commons.exceptions.DataConversionException;
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+import seedu.whatsnext.commons.util.FileUtil;
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
+
+/**
+ * A class to access TaskManager data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a 16 byte header: the magic number {@link #MAGIC}, the format version,
+ * the length of the payload and the CRC32 checksum of the payload. Version 2 of the payload holds:
+ * <ul>
+ *     <li>the tag table: every distinct tag name, referred to by its position in the table</li>
+ *     <li>the tags of the task manager, as tag table positions</li>
+ *     <li>the tasks, written by {@link BinaryTaskCodec} with the tags as tag table positions</li>
+ * </ul>
+ * Counts are 4 byte ints and strings are UTF-8 bytes prefixed by their length. Version 1 is the same, except that
+ * date times depend on the time zone of the system that wrote them; it is still read.
+ *
+ * A file written by {@link XmlTaskManagerStorage} is also read, so that it is migrated to this format
+ * the next time the data is saved.
+ */
+public class BinaryTaskManagerStorage extends FileTaskManagerStorage {
+
+    public static final int MAGIC = 0x574E544D; // "WNTM"
+    public static final int VERSION = 2;
+    /** The version whose date times are epoch milliseconds in the system time zone. It is still read. */
+    public static final int LEGACY_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskManagerStorage.class);
+
+    private static final int HEADER_LENGTH = 16;
+
+    public BinaryTaskManagerStorage(String filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskManager()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskManager> readTaskManager(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File taskManagerFile = new File(filePath);
+
+        if (!taskManagerFile.exists()) {
+            logger.info("TaskManager file "  + taskManagerFile + " not found");
+            return Optional.empty();
+        }
+
+        if (!isBinaryFile(taskManagerFile)) {
+            logger.info("TaskManager file " + taskManagerFile + " is in xml format, it will be saved as binary");
+            return Optional.of(XmlFileStorage.loadDataFromSaveFile(taskManagerFile));
+        }
+
+        return Optional.of(loadDataFromFile(taskManagerFile));
+    }
+
+    /**
+     * Similar to {@link #saveTaskManager(ReadOnlyTaskManager)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
+        requireNonNull(taskManager);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(new File(filePath), BACKUP_COUNT, file -> saveDataToFile(taskManager, file));
+    }
+
+    /**
+     * Returns true if {@code file} starts with the binary task manager {@link #MAGIC} number.
+     */
+    public static boolean isBinaryFile(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return file.length() >= HEADER_LENGTH && in.readInt() == MAGIC;
+        }
+    }
+
+    /**
+     * Reads the TaskManager data from an existing binary {@code file}.
+     * @throws DataConversionException if the file is not a valid binary task manager file.
+     */
+    public static ReadOnlyTaskManager loadDataFromFile(File file) throws DataConversionException, IOException {
+        byte[] payload;
+        int version;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new DataConversionException(new IllegalValueException(file + " is not a binary data file"));
+            }
+            version = in.readInt();
+            if (version != VERSION && version != LEGACY_VERSION) {
+                throw new DataConversionException(new IllegalValueException(
+                        "Unsupported binary data file version " + version + " in " + file));
+            }
+            int payloadLength = in.readInt();
+            int checksum = in.readInt();
+            if (payloadLength < 0 || payloadLength != file.length() - HEADER_LENGTH) {
+                throw new DataConversionException(new IllegalValueException(file + " is truncated"));
+            }
+            payload = new byte[payloadLength];
+            in.readFully(payload);
+            if (checksum != computeChecksum(payload)) {
+                throw new DataConversionException(new IllegalValueException(file + " is corrupted"));
+            }
+        }
+
+        try {
+            return readPayload(new DataInputStream(new ByteArrayInputStream(payload)), version == LEGACY_VERSION);
+        } catch (IOException | IllegalValueException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes {@code taskManager} to an existing {@code file} in binary format.
+     */
+    public static void saveDataToFile(ReadOnlyTaskManager taskManager, File file) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            writePayload(taskManager, out);
+        }
+        byte[] payloadBytes = payload.toByteArray();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(payloadBytes.length);
+            out.writeInt(computeChecksum(payloadBytes));
+            out.write(payloadBytes);
+        }
+    }
+
+    private static int computeChecksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+
+    private static void writePayload(ReadOnlyTaskManager taskManager, DataOutputStream out) throws IOException {
+        Map<String, Integer> tagIds = new HashMap<>();
+        List<String> tagTable = new ArrayList<>();
+        for (Tag tag : taskManager.getTagList()) {
+            internTag(tag, tagIds, tagTable);
+        }
+        for (BasicTask task : taskManager.getTaskList()) {
+            for (Tag tag : task.getTags()) {
+                internTag(tag, tagIds, tagTable);
+            }
+        }
+
+        out.writeInt(tagTable.size());
+        for (String tagName : tagTable) {
+            BinaryTaskCodec.writeString(out, tagName);
+        }
+
+        out.writeInt(taskManager.getTagList().size());
+        for (Tag tag : taskManager.getTagList()) {
+            out.writeInt(tagIds.get(tag.tagName));
+        }
+
+        out.writeInt(taskManager.getTaskList().size());
+        for (BasicTask task : taskManager.getTaskList()) {
+            BinaryTaskCodec.writeTask(out, task, (tagOut, tag) -> tagOut.writeInt(tagIds.get(tag.tagName)));
+        }
+    }
+
+    private static ReadOnlyTaskManager readPayload(DataInputStream in, boolean isLegacy)
+            throws IOException, IllegalValueException {
+        int tagTableSize = in.readInt();
+        List<Tag> tagTable = new ArrayList<>(tagTableSize);
+        for (int i = 0; i < tagTableSize; i++) {
+            tagTable.add(new Tag(BinaryTaskCodec.readString(in)));
+        }
+
+        int tagCount = in.readInt();
+        List<Tag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(tagTable.get(in.readInt()));
+        }
+
+        int taskCount = in.readInt();
+        List<BasicTask> tasks = new ArrayList<>(taskCount);
+        BinaryTaskCodec.TagReader tagReader = tagIn -> tagTable.get(tagIn.readInt());
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(isLegacy
+                    ? BinaryTaskCodec.readLegacyTask(in, tagReader)
+                    : BinaryTaskCodec.readTask(in, tagReader));
+        }
+
+        if (in.read() != -1) {
+            throw new IllegalValueException("Unexpected data after the last task");
+        }
+        return new LoadedTaskManager(tasks, tags);
+    }
+
+    private static void internTag(Tag tag, Map<String, Integer> tagIds, List<String> tagTable) {
+        if (!tagIds.containsKey(tag.tagName)) {
+            tagIds.put(tag.tagName, tagTable.size());
+            tagTable.add(tag.tagName);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.whatsnext.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.whatsnext.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.whatsnext.commons.core.LogsCenter;
+import seedu.whatsnext.commons.util.StringUtil;
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+
+/**
+ * Saves task manager data on a background thread, so that callers never wait for the disk.
+ *
+ * Data submitted within {@code debounceMillis} of the first unsaved submission is coalesced:
+ * only the latest data is written, once, at the end of that window.
+ * Callers must not modify the data they submit; submit a {@link seedu.whatsnext.model.TaskManagerSnapshot}.
+ */
+public class DebouncedTaskManagerWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(DebouncedTaskManagerWriter.class);
+
+    private final TaskManagerStorage taskManagerStorage;
+    private final Consumer<IOException> failureHandler;
+    private final long debounceMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TaskManager writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ReadOnlyTaskManager pendingData;
+    private int coalescedCount;
+
+    /**
+     * @param taskManagerStorage where the data is saved.
+     * @param failureHandler called on the writer thread when a save fails.
+     * @param debounceMillis how long to wait for more data before saving, must not be negative.
+     */
+    public DebouncedTaskManagerWriter(TaskManagerStorage taskManagerStorage, Consumer<IOException> failureHandler,
+            long debounceMillis) {
+        checkArgument(debounceMillis >= 0, "Save debounce window must not be negative");
+        this.taskManagerStorage = requireNonNull(taskManagerStorage);
+        this.failureHandler = requireNonNull(failureHandler);
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Schedules {@code data} to be saved, replacing any data that has not been saved yet.
+     */
+    public synchronized void submit(ReadOnlyTaskManager data) {
+        requireNonNull(data);
+        if (pendingData == null) {
+            executor.schedule(this::savePendingData, debounceMillis, TimeUnit.MILLISECONDS);
+        }
+        pendingData = data;
+        coalescedCount++;
+    }
+
+    /**
+     * Saves any data that has not been saved yet, waiting until it is written.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::savePendingData).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Failed to flush pending data " + StringUtil.getDetails(e.getCause()));
+        }
+    }
+
+    /**
+     * Writes the pending data, if any. Only runs on the writer thread, so writes never overlap.
+     */
+    private void savePendingData() {
+        ReadOnlyTaskManager dataToSave;
+        int savedCount;
+        synchronized (this) {
+            dataToSave = pendingData;
+            savedCount = coalescedCount;
+            pendingData = null;
+            coalescedCount = 0;
+        }
+        if (dataToSave == null) {
+            return;
+        }
+
+        logger.fine(() -> "Saving " + savedCount + " coalesced change(s) to "
+                + taskManagerStorage.getTaskManagerFilePath());
+        try {
+            taskManagerStorage.saveTaskManager(dataToSave);
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.whatsnext.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.whatsnext.commons.exceptions.DataConversionException;
+import seedu.whatsnext.commons.util.FileUtil;
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+
+/**
+ * A {@link TaskManagerStorage} that keeps the TaskManager data in a single file on the hard disk.
+ * The file path is shared by all file storages so that it can be changed while the app runs,
+ * whichever file format is in use.
+ *
+ * The file is replaced atomically on every save, see {@link FileUtil#writeAtomically}, and its previous
+ * {@link #BACKUP_COUNT} versions are kept next to it.
+ */
+public abstract class FileTaskManagerStorage implements TaskManagerStorage {
+
+    public static final int BACKUP_COUNT = 3;
+
+    private static String filePath;
+
+    public FileTaskManagerStorage(String newFilePath) {
+        FileTaskManagerStorage.filePath = newFilePath;
+    }
+
+    //@@A0149894H
+    @Override
+    public String getTaskManagerFilePath() {
+        return filePath;
+    }
+
+    //@@A0149894H
+    public static void changeTaskManagerFilePath(String newFilePath) {
+        filePath = newFilePath;
+    }
+
+    //@@author
+    @Override
+    public Optional<ReadOnlyTaskManager> readTaskManager() throws DataConversionException, IOException {
+        return readTaskManager(filePath);
+    }
+
+    @Override
+    public void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException {
+        saveTaskManager(taskManager, filePath);
+    }
+
+}
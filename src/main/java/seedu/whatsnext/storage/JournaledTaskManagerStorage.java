@@ -0,0 +1,299 @@
+package seedu.whatsnext.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.whatsnext.commons.util.AppUtil.checkArgument;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.whatsnext.commons.core.LogsCenter;
+import seedu.whatsnext.commons.exceptions.DataConversionException;
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.TaskName;
+import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
+import seedu.whatsnext.model.undo.TaskManagerDelta;
+
+/**
+ * A {@link TaskManagerStorage} that saves each change as a small record appended to a journal file,
+ * next to a snapshot of the whole TaskManager kept by another {@link TaskManagerStorage}.
+ * Saving a change therefore costs the same whatever the number of tasks.
+ *
+ * Reading returns the snapshot with the journal replayed on top of it. Once the journal grows past
+ * {@code compactionThresholdBytes}, the next save writes a new snapshot and empties the journal.
+ *
+ * Each record is a task to remove (by name) or a task to add, prefixed by its length and CRC32 checksum.
+ * Tasks are written by {@link BinaryTaskCodec}, with their tag names. The records of a change are synced to
+ * the disk before the save returns, so a saved change survives a crash.
+ * A record cut short by a crash is dropped, together with anything after it, when the journal is read.
+ * Replaying a record is idempotent: an added task replaces any task with the same name, and removing
+ * a missing task is ignored. So a crash between writing a snapshot and emptying the journal is harmless.
+ */
+public class JournaledTaskManagerStorage implements TaskManagerStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTaskManagerStorage.class);
+
+    private static final byte RECORD_REMOVE = 1;
+    /** A task to add whose date times are epoch milliseconds in the system time zone, written by older versions. */
+    private static final byte RECORD_ADD_LEGACY = 2;
+    private static final byte RECORD_ADD = 3;
+
+    private final TaskManagerStorage snapshotStorage;
+    private final long compactionThresholdBytes;
+
+    public JournaledTaskManagerStorage(TaskManagerStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD_BYTES);
+    }
+
+    /**
+     * @param snapshotStorage where the snapshots are saved.
+     * @param compactionThresholdBytes size of the journal above which a new snapshot is saved, must be positive.
+     */
+    public JournaledTaskManagerStorage(TaskManagerStorage snapshotStorage, long compactionThresholdBytes) {
+        checkArgument(compactionThresholdBytes > 0, "Journal compaction threshold must be positive");
+        this.snapshotStorage = requireNonNull(snapshotStorage);
+        this.compactionThresholdBytes = compactionThresholdBytes;
+    }
+
+    /**
+     * Returns the journal file kept next to the snapshot at {@code filePath}.
+     */
+    public static File getJournalFile(String filePath) {
+        return new File(filePath + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public String getTaskManagerFilePath() {
+        return snapshotStorage.getTaskManagerFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskManager> readTaskManager() throws DataConversionException, IOException {
+        return readTaskManager(getTaskManagerFilePath());
+    }
+
+    /**
+     * Similar to {@link #readTaskManager()}
+     * @param filePath location of the snapshot. Cannot be null
+     * @throws DataConversionException if the snapshot or a complete journal record is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskManager> readTaskManager(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyTaskManager> snapshot = snapshotStorage.readTaskManager(filePath);
+        File journalFile = getJournalFile(filePath);
+        if (!journalFile.exists() || journalFile.length() == 0) {
+            return snapshot;
+        }
+
+        TaskManager taskManager = snapshot.map(TaskManager::new).orElseGet(TaskManager::new);
+        int replayedCount = replay(journalFile, taskManager);
+        logger.info("Replayed " + replayedCount + " journal record(s) from " + journalFile);
+        return Optional.of(taskManager);
+    }
+
+    @Override
+    public void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException {
+        saveTaskManager(taskManager, getTaskManagerFilePath());
+    }
+
+    /**
+     * Saves a snapshot of {@code taskManager} at {@code filePath} and empties its journal.
+     */
+    @Override
+    public void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
+        requireNonNull(taskManager);
+        requireNonNull(filePath);
+
+        snapshotStorage.saveTaskManager(taskManager, filePath);
+        File journalFile = getJournalFile(filePath);
+        if (journalFile.exists()) {
+            new FileOutputStream(journalFile).close();
+        }
+    }
+
+    @Override
+    public boolean canSaveChangeAlone() {
+        return true;
+    }
+
+    /**
+     * Appends {@code change} to the journal, or saves a snapshot of {@code taskManager} if the change is
+     * not known, replaces the whole content, or would take the journal past the compaction threshold.
+     * Without {@code taskManager}, a journal past the threshold is appended to and then compacted into a snapshot
+     * of the saved data.
+     */
+    @Override
+    public void saveTaskManagerChange(ReadOnlyTaskManager taskManager, TaskManagerDelta change) throws IOException {
+        String filePath = getTaskManagerFilePath();
+        File journalFile = getJournalFile(filePath);
+        if (change == null || change.isReset()) {
+            saveTaskManager(requireNonNull(taskManager), filePath);
+            return;
+        }
+        boolean isCompactionDue = !new File(filePath).exists() || journalFile.length() >= compactionThresholdBytes;
+        if (isCompactionDue && taskManager != null) {
+            logger.fine(() -> "Compacting journal " + journalFile + " into a new snapshot");
+            saveTaskManager(taskManager, filePath);
+            return;
+        }
+        if (!change.isUnchanged()) {
+            appendChange(journalFile, change);
+        }
+        if (isCompactionDue) {
+            compact(filePath);
+        }
+    }
+
+    private static void appendChange(File journalFile, TaskManagerDelta change) throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(records)) {
+            for (BasicTask task : change.getRemovedTasks()) {
+                writeRecord(out, encodeRemove(task));
+            }
+            for (BasicTask task : change.getAddedTasks()) {
+                writeRecord(out, encodeAdd(task));
+            }
+        }
+        try (FileOutputStream out = new FileOutputStream(journalFile, true)) {
+            records.writeTo(out);
+            out.getFD().sync();
+        }
+    }
+
+    /**
+     * Saves the snapshot at {@code filePath} with its journal replayed as a new snapshot, and empties the journal.
+     * If the snapshot cannot be read, the journal is kept, so no change is lost.
+     */
+    private void compact(String filePath) throws IOException {
+        Optional<ReadOnlyTaskManager> savedData;
+        try {
+            savedData = readTaskManager(filePath);
+        } catch (DataConversionException e) {
+            logger.warning("Cannot compact the journal of unreadable " + filePath + ": " + e.getMessage());
+            return;
+        }
+        logger.fine(() -> "Compacting journal " + getJournalFile(filePath) + " into a new snapshot");
+        saveTaskManager(savedData.orElseGet(TaskManager::new), filePath);
+    }
+
+    /**
+     * Applies the records of {@code journalFile} to {@code taskManager}, in order.
+     * A torn record at the end of the file is truncated away.
+     * @return the number of records applied.
+     */
+    private static int replay(File journalFile, TaskManager taskManager) throws DataConversionException,
+                                                                              IOException {
+        int replayedCount = 0;
+        long validLength = 0;
+        try (RandomAccessFile in = new RandomAccessFile(journalFile, "rw")) {
+            while (true) {
+                byte[] record;
+                try {
+                    int length = in.readInt();
+                    int checksum = in.readInt();
+                    if (length < 0 || length > in.length() - in.getFilePointer()) {
+                        break;
+                    }
+                    record = new byte[length];
+                    in.readFully(record);
+                    if (checksum != computeChecksum(record)) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+                apply(record, taskManager);
+                replayedCount++;
+                validLength = in.getFilePointer();
+            }
+            if (validLength < in.length()) {
+                logger.warning("Dropping " + (in.length() - validLength) + " byte(s) of incomplete journal records "
+                        + "from " + journalFile);
+                in.setLength(validLength);
+            }
+        }
+        return replayedCount;
+    }
+
+    private static void apply(byte[] record, TaskManager taskManager) throws DataConversionException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte type = in.readByte();
+            switch (type) {
+            case RECORD_REMOVE:
+                removeIfPresent(taskManager, new TaskName(BinaryTaskCodec.readString(in)));
+                break;
+            case RECORD_ADD:
+            case RECORD_ADD_LEGACY:
+                BinaryTaskCodec.TagReader tagReader = tagIn -> new Tag(BinaryTaskCodec.readString(tagIn));
+                BasicTask task = type == RECORD_ADD
+                        ? BinaryTaskCodec.readTask(in, tagReader)
+                        : BinaryTaskCodec.readLegacyTask(in, tagReader);
+                removeIfPresent(taskManager, task.getName());
+                taskManager.addTask(task);
+                break;
+            default:
+                throw new IllegalValueException("Unknown journal record type " + type);
+            }
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static void removeIfPresent(TaskManager taskManager, TaskName name) throws IllegalValueException {
+        try {
+            taskManager.removeTask(new BasicTask(name, Collections.emptySet()));
+        } catch (TaskNotFoundException e) {
+            // already removed before the last snapshot was saved
+        }
+    }
+
+    private static byte[] encodeRemove(BasicTask task) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(record)) {
+            out.writeByte(RECORD_REMOVE);
+            BinaryTaskCodec.writeString(out, task.getName().fullTaskName);
+        }
+        return record.toByteArray();
+    }
+
+    private static byte[] encodeAdd(BasicTask task) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(record)) {
+            out.writeByte(RECORD_ADD);
+            BinaryTaskCodec.writeTask(out, task, (tagOut, tag) -> BinaryTaskCodec.writeString(tagOut, tag.tagName));
+        }
+        return record.toByteArray();
+    }
+
+    private static void writeRecord(DataOutputStream out, byte[] record) throws IOException {
+        out.writeInt(record.length);
+        out.writeInt(computeChecksum(record));
+        out.write(record);
+    }
+
+    private static int computeChecksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.whatsnext.storage;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
+
+/**
+ * The tasks and tags read from a file. Nothing else refers to them, so they are not copied.
+ */
+class LoadedTaskManager implements ReadOnlyTaskManager {
+
+    private final ObservableList<BasicTask> tasks;
+    private final ObservableList<Tag> tags;
+
+    LoadedTaskManager(List<BasicTask> tasks, List<Tag> tags) {
+        this.tasks = FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks));
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+    }
+
+    @Override
+    public ObservableList<BasicTask> getTaskList() {
+        return tasks;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+}
@@ -32,7 +32,13 @@ public interface Storage extends TaskManagerStorage, UserPrefsStorage {
     /**
      * Saves the current version of the Task Manager to the hard disk.
      *   Creates the data file if it is missing.
+     *   The save may happen later on a background thread, see {@link #flushPendingSaves()}.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleTaskManagerChangedEvent(TaskManagerChangedEvent abce);
+
+    /**
+     * Writes any change of the Task Manager that has not been saved yet, waiting until it is written.
+     */
+    void flushPendingSaves();
 }
@@ -7,12 +7,17 @@ import java.util.logging.Logger;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.whatsnext.commons.core.ComponentManager;
+import seedu.whatsnext.commons.core.EventsCenter.Dispatch;
 import seedu.whatsnext.commons.core.LogsCenter;
+import seedu.whatsnext.commons.core.MetricsCenter;
+import seedu.whatsnext.commons.core.MetricsCenter.Phase;
 import seedu.whatsnext.commons.events.model.TaskManagerChangedEvent;
 import seedu.whatsnext.commons.events.storage.DataSavingExceptionEvent;
 import seedu.whatsnext.commons.exceptions.DataConversionException;
 import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.TaskManagerSnapshot;
 import seedu.whatsnext.model.UserPrefs;
+import seedu.whatsnext.model.undo.TaskManagerDelta;
 
 /**
  * Manages storage of TaskManager data in local storage.
@@ -22,10 +27,36 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TaskManagerStorage taskManagerStorage;
     private UserPrefsStorage userPrefsStorage;
+    /** Saves changes in the background, or null if changes are saved as soon as they happen. */
+    private DebouncedTaskManagerWriter taskManagerWriter;
 
 
+    /**
+     * Creates a StorageManager that saves every change to the task manager before returning.
+     * If {@code taskManagerStorage} can save a change without the task manager, and dispatch is not synchronous,
+     * changes are saved on the {@link Dispatch#IO} thread instead.
+     */
     public StorageManager(TaskManagerStorage taskManagerStorage, UserPrefsStorage userPrefsStorage) {
-        super();
+        this(taskManagerStorage, userPrefsStorage,
+                taskManagerStorage.canSaveChangeAlone() ? Dispatch.IO : Dispatch.POSTING_THREAD);
+    }
+
+    /**
+     * Creates a StorageManager that saves changes to the task manager on a background thread,
+     * coalescing the changes made within {@code saveDebounceMillis} of each other into one write.
+     * The whole task manager is written each time, even if {@code taskManagerStorage} can save single changes,
+     * so each change event is handled on the thread that posts it, to take the snapshot that is written.
+     */
+    public StorageManager(TaskManagerStorage taskManagerStorage, UserPrefsStorage userPrefsStorage,
+            long saveDebounceMillis) {
+        this(taskManagerStorage, userPrefsStorage, Dispatch.POSTING_THREAD);
+        this.taskManagerWriter = new DebouncedTaskManagerWriter(this,
+            e -> raise(new DataSavingExceptionEvent(e)), saveDebounceMillis);
+    }
+
+    private StorageManager(TaskManagerStorage taskManagerStorage, UserPrefsStorage userPrefsStorage,
+            Dispatch dispatch) {
+        super(dispatch);
         this.taskManagerStorage = taskManagerStorage;
         this.userPrefsStorage = userPrefsStorage;
     }
@@ -63,7 +94,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyTaskManager> readTaskManager(String filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return taskManagerStorage.readTaskManager(filePath);
     }
 
@@ -74,17 +105,61 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        taskManagerStorage.saveTaskManager(taskManager, filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        long start = System.nanoTime();
+        try {
+            taskManagerStorage.saveTaskManager(taskManager, filePath);
+        } finally {
+            recordSaveTime(start);
+        }
+    }
+
+    @Override
+    public void saveTaskManagerChange(ReadOnlyTaskManager taskManager, TaskManagerDelta change) throws IOException {
+        logger.fine(() -> "Attempting to write change to data file: " + taskManagerStorage.getTaskManagerFilePath());
+        long start = System.nanoTime();
+        try {
+            taskManagerStorage.saveTaskManagerChange(taskManager, change);
+        } finally {
+            recordSaveTime(start);
+        }
+    }
+
+    /**
+     * Records the time since {@code startNanos} as spent saving. Saves made in the background are recorded
+     * under {@link MetricsCenter#NO_COMMAND}.
+     */
+    private static void recordSaveTime(long startNanos) {
+        MetricsCenter.getInstance().recordTime(Phase.SAVE, System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        eventsCenter.flush();
+        if (taskManagerWriter != null) {
+            taskManagerWriter.flush();
+        }
     }
 
 
     @Override
     @Subscribe
     public void handleTaskManagerChangedEvent(TaskManagerChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (event.isDataUnchanged()) {
+            return;
+        }
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (taskManagerWriter != null) {
+            taskManagerWriter.submit(TaskManagerSnapshot.of(event.data));
+            return;
+        }
         try {
-            saveTaskManager(event.data);
+            if (event.changeSinceData != null) {
+                saveTaskManager(event.data);
+                saveTaskManagerChange(null, event.changeSinceData);
+            } else {
+                saveTaskManagerChange(event.data, event.change);
+            }
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
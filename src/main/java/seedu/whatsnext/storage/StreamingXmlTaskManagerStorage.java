@@ -0,0 +1,176 @@
+package seedu.whatsnext.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.whatsnext.commons.exceptions.DataConversionException;
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+import seedu.whatsnext.commons.util.XmlUtil;
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
+
+/**
+ * A class to access TaskManager data stored as an xml file on the hard disk, one task at a time.
+ *
+ * The file has the same format as the one written by {@link XmlTaskManagerStorage}, but the document is
+ * streamed with StAX: each {@code <tasks>} element is converted to a {@link BasicTask} as soon as it is read,
+ * and each task is written as soon as it is converted, so no {@link XmlSerializableTaskManager} holding a
+ * second copy of the whole data is ever built.
+ */
+public class StreamingXmlTaskManagerStorage extends XmlTaskManagerStorage {
+
+    private static final String ROOT_ELEMENT = "taskManager";
+    private static final String TASK_ELEMENT = "tasks";
+    private static final String TAG_ELEMENT = "tags";
+    private static final String ENCODING = "UTF-8";
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newFactory();
+
+    public StreamingXmlTaskManagerStorage(String filePath) {
+        super(filePath);
+    }
+
+    @Override
+    protected ReadOnlyTaskManager loadDataFromFile(File file) throws DataConversionException, IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return readTaskManager(in);
+        } catch (XMLStreamException | JAXBException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    protected void saveDataToFile(ReadOnlyTaskManager taskManager, File file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            writeTaskManager(taskManager, out);
+        } catch (XMLStreamException | JAXBException e) {
+            throw new IOException("Could not write " + file, e);
+        }
+    }
+
+    private ReadOnlyTaskManager readTaskManager(InputStream in)
+            throws XMLStreamException, JAXBException, IllegalValueException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+        Unmarshaller unmarshaller = XmlUtil.getContext(XmlSerializableTaskManager.class).createUnmarshaller();
+        List<BasicTask> tasks = new ArrayList<>();
+        List<Tag> tags = new ArrayList<>();
+
+        try {
+            reader.nextTag(); // the root element, whatever its name
+            int schemaVersion = readSchemaVersion(reader);
+            reader.nextTag();
+            while (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                case TASK_ELEMENT:
+                    tasks.add(unmarshaller.unmarshal(reader, XmlAdaptedTask.class).getValue()
+                            .toModelType(schemaVersion));
+                    break;
+                case TAG_ELEMENT:
+                    tags.add(unmarshaller.unmarshal(reader, XmlAdaptedTag.class).getValue().toModelType());
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
+                }
+                skipToNextTag(reader);
+            }
+        } finally {
+            reader.close();
+        }
+        return new LoadedTaskManager(tasks, tags);
+    }
+
+    private void writeTaskManager(ReadOnlyTaskManager taskManager, OutputStream out)
+            throws XMLStreamException, JAXBException {
+        XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, ENCODING);
+        Marshaller marshaller = XmlUtil.getContext(XmlSerializableTaskManager.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+        try {
+            writer.writeStartDocument(ENCODING, "1.0");
+            writer.writeCharacters("\n");
+            writer.writeStartElement(ROOT_ELEMENT);
+            writer.writeAttribute(XmlSerializableTaskManager.SCHEMA_VERSION_ATTRIBUTE,
+                    String.valueOf(XmlSerializableTaskManager.SCHEMA_VERSION));
+            for (BasicTask task : taskManager.getTaskList()) {
+                // one task per line
+                writer.writeCharacters("\n\t");
+                marshaller.marshal(new JAXBElement<>(new QName(TASK_ELEMENT), XmlAdaptedTask.class,
+                        new XmlAdaptedTask(task)), writer);
+            }
+            for (Tag tag : taskManager.getTagList()) {
+                writer.writeCharacters("\n\t");
+                marshaller.marshal(new JAXBElement<>(new QName(TAG_ELEMENT), XmlAdaptedTag.class,
+                        new XmlAdaptedTag(tag)), writer);
+            }
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeEndDocument();
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Returns the schema version of the root element {@code reader} is at.
+     */
+    private static int readSchemaVersion(XMLStreamReader reader) throws IllegalValueException {
+        String version = reader.getAttributeValue(null, XmlSerializableTaskManager.SCHEMA_VERSION_ATTRIBUTE);
+        if (version == null) {
+            return XmlSerializableTaskManager.LEGACY_SCHEMA_VERSION;
+        }
+        try {
+            return Integer.parseInt(version.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException("Invalid schema version " + version);
+        }
+    }
+
+    /**
+     * Moves {@code reader} from the start of an element to just after its end.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        reader.next();
+    }
+
+    /**
+     * Moves {@code reader} past whitespace and comments to the next start or end of an element.
+     */
+    private static void skipToNextTag(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.getEventType() != XMLStreamConstants.START_ELEMENT
+                && reader.getEventType() != XMLStreamConstants.END_ELEMENT) {
+            reader.next();
+        }
+    }
+}
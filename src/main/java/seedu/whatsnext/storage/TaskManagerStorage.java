@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import seedu.whatsnext.commons.exceptions.DataConversionException;
 import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.undo.TaskManagerDelta;
 
 /**
  * Represents a storage for {@link seedu.whatsnext.model.TaskManager}.
@@ -42,5 +43,26 @@ public interface TaskManagerStorage {
      */
     void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) throws IOException;
 
+    /**
+     * Saves {@code taskManager}, which {@code change} has just been applied to.
+     * The default implementation saves the whole of {@code taskManager}; storages that can record
+     * a single change override this to write only {@code change}.
+     * @param taskManager the task manager after the change. Storages that {@link #canSaveChangeAlone()} are
+     *        given null when {@code change} is known and is not a reset.
+     * @param change the only change since the last save, or null if it is not known.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveTaskManagerChange(ReadOnlyTaskManager taskManager, TaskManagerDelta change)
+            throws IOException {
+        saveTaskManager(taskManager);
+    }
+
+    /**
+     * Returns true if {@link #saveTaskManagerChange} can save a known change that is not a reset without
+     * the task manager it was applied to, so that the task manager does not have to be copied for each change.
+     */
+    default boolean canSaveChangeAlone() {
+        return false;
+    }
 
 }
@@ -16,6 +16,9 @@ import seedu.whatsnext.model.task.TaskName;
 
 /**
  * JAXB-friendly version of the BasicTask.
+ *
+ * Date times are written in ISO-8601 local format, as of {@link XmlSerializableTaskManager#SCHEMA_VERSION} 2.
+ * Files of the legacy schema hold them in the display format instead, which is still read.
  */
 public class XmlAdaptedTask {
 
@@ -54,10 +57,10 @@ public class XmlAdaptedTask {
         tagged = new ArrayList<>();
         taskDescription = source.getDescription().toString();
         if (!source.getStartDateTime().toString().equals(DateTime.INIT_DATETIME_VALUE)) {
-            startDateTime = source.getStartDateTime().displayDateTime();
+            startDateTime = source.getStartDateTime().toStoredString();
         }
         if (!source.getEndDateTime().toString().equals(DateTime.INIT_DATETIME_VALUE)) {
-            endDateTime = source.getEndDateTime().displayDateTime();
+            endDateTime = source.getEndDateTime().toStoredString();
         }
 
         taskType = source.getTaskType();
@@ -66,13 +69,24 @@ public class XmlAdaptedTask {
         }
     }
 
+    /**
+     * Converts this jaxb-friendly adapted BasicTask object, written with the current schema, into the model's
+     * Task object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted task
+     */
+    public BasicTask toModelType() throws IllegalValueException {
+        return toModelType(XmlSerializableTaskManager.SCHEMA_VERSION);
+    }
+
     //@@author A0156106M
     /**
      * Converts this jaxb-friendly adapted BasicTask object into the model's Task object.
      *
+     * @param schemaVersion the schema version of the file this task was read from.
      * @throws IllegalValueException if there were any data constraints violated in the adapted task
      */
-    public BasicTask toModelType() throws IllegalValueException {
+    public BasicTask toModelType(int schemaVersion) throws IllegalValueException {
         final List<Tag> taskTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             taskTags.add(tag.toModelType());
@@ -89,15 +103,22 @@ public class XmlAdaptedTask {
 
         // Event Task
         if (this.startDateTime != null && this.endDateTime != null) {
-            startDateTime = new DateTime(this.startDateTime);
-            endDateTime = new DateTime(this.endDateTime);
+            startDateTime = toDateTime(this.startDateTime, schemaVersion);
+            endDateTime = toDateTime(this.endDateTime, schemaVersion);
             return new BasicTask(name, taskDescription, isCompleted, startDateTime, endDateTime, tags);
         } else if (this.endDateTime != null) {
-            endDateTime = new DateTime(this.endDateTime);
+            endDateTime = toDateTime(this.endDateTime, schemaVersion);
             return new BasicTask(name, taskDescription, isCompleted, endDateTime, tags);
         } else {
             return new BasicTask(name, taskDescription, isCompleted, tags);
         }
 
     }
+
+    private static DateTime toDateTime(String storedValue, int schemaVersion) throws IllegalValueException {
+        if (schemaVersion < XmlSerializableTaskManager.SCHEMA_VERSION) {
+            return new DateTime(storedValue);
+        }
+        return DateTime.fromStoredString(storedValue);
+    }
 }
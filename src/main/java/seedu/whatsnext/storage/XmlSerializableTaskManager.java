@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -17,10 +18,21 @@ import seedu.whatsnext.model.task.BasicTask;
 
 /**
  * An Immutable TaskManager that is serializable to XML format
+ *
+ * The root element carries the {@link #SCHEMA_VERSION} the file was written with. Files written before
+ * the version was recorded have none, and are read as {@link #LEGACY_SCHEMA_VERSION}.
  */
 @XmlRootElement(name = "taskManager")
 public class XmlSerializableTaskManager implements ReadOnlyTaskManager {
 
+    /** Date times are stored in ISO-8601 local format. */
+    public static final int SCHEMA_VERSION = 2;
+    /** Date times are stored in the display format, for example "Tue 4 Jul 2017 06:00 PM". */
+    public static final int LEGACY_SCHEMA_VERSION = 1;
+    public static final String SCHEMA_VERSION_ATTRIBUTE = "version";
+
+    @XmlAttribute(name = SCHEMA_VERSION_ATTRIBUTE)
+    private Integer version;
     @XmlElement
     private List<XmlAdaptedTask> tasks;
     @XmlElement
@@ -40,15 +52,24 @@ public class XmlSerializableTaskManager implements ReadOnlyTaskManager {
      */
     public XmlSerializableTaskManager(ReadOnlyTaskManager src) {
         this();
+        version = SCHEMA_VERSION;
         tasks.addAll(src.getTaskList().stream().map(XmlAdaptedTask::new).collect(Collectors.toList()));
         tags.addAll(src.getTagList().stream().map(XmlAdaptedTag::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the schema version the data was written with.
+     */
+    public int getSchemaVersion() {
+        return version == null ? LEGACY_SCHEMA_VERSION : version;
+    }
+
     @Override
     public ObservableList<BasicTask> getTaskList() {
+        final int schemaVersion = getSchemaVersion();
         final ObservableList<BasicTask> tasks = this.tasks.stream().map(p -> {
             try {
-                return p.toModelType();
+                return p.toModelType(schemaVersion);
             } catch (IllegalValueException e) {
                 e.printStackTrace();
                 return null;
@@ -3,7 +3,6 @@ package seedu.whatsnext.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -16,40 +15,24 @@ import seedu.whatsnext.model.ReadOnlyTaskManager;
 /**
  * A class to access TaskManager data stored as an xml file on the hard disk.
  */
-public class XmlTaskManagerStorage implements TaskManagerStorage {
+public class XmlTaskManagerStorage extends FileTaskManagerStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlTaskManagerStorage.class);
 
-    private static String filePath;
-
     public XmlTaskManagerStorage(String newFilePath) {
-        XmlTaskManagerStorage.filePath = newFilePath;
-    }
-
-    //@@A0149894H
-    @Override
-    public String getTaskManagerFilePath() {
-        return filePath;
-    }
-
-    //@@A0149894H
-    public static void changeTaskManagerFilePath(String newFilePath) {
-        filePath = newFilePath;
-    }
-
-    @Override
-    public Optional<ReadOnlyTaskManager> readTaskManager() throws DataConversionException, IOException {
-        return readTaskManager(filePath);
+        super(newFilePath);
     }
 
     /**
      * Similar to {@link #readTaskManager()}
+     * A file written by {@link BinaryTaskManagerStorage} is also read, so that it is migrated to xml
+     * the next time the data is saved.
      * @param filePath location of the data. Cannot be null
      * @throws DataConversionException if the file is not in the correct format.
      */
     @Override
     public Optional<ReadOnlyTaskManager> readTaskManager(String filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+                                                                                 IOException {
         requireNonNull(filePath);
 
         File taskManagerFile = new File(filePath);
@@ -59,14 +42,14 @@ public class XmlTaskManagerStorage implements TaskManagerStorage {
             return Optional.empty();
         }
 
-        ReadOnlyTaskManager taskManagerOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        if (BinaryTaskManagerStorage.isBinaryFile(taskManagerFile)) {
+            logger.info("TaskManager file " + taskManagerFile + " is in binary format, it will be saved as xml");
+            return Optional.of(BinaryTaskManagerStorage.loadDataFromFile(taskManagerFile));
+        }
 
-        return Optional.of(taskManagerOptional);
-    }
+        ReadOnlyTaskManager taskManagerOptional = loadDataFromFile(taskManagerFile);
 
-    @Override
-    public void saveTaskManager(ReadOnlyTaskManager taskManager) throws IOException {
-        saveTaskManager(taskManager, filePath);
+        return Optional.of(taskManagerOptional);
     }
 
     /**
@@ -78,8 +61,20 @@ public class XmlTaskManagerStorage implements TaskManagerStorage {
         requireNonNull(taskManager);
         requireNonNull(filePath);
 
-        File file = new File(filePath);
-        FileUtil.createIfMissing(file);
+        FileUtil.writeAtomically(new File(filePath), BACKUP_COUNT, file -> saveDataToFile(taskManager, file));
+    }
+
+    /**
+     * Reads the TaskManager data from an existing xml {@code file}.
+     */
+    protected ReadOnlyTaskManager loadDataFromFile(File file) throws DataConversionException, IOException {
+        return XmlFileStorage.loadDataFromSaveFile(file);
+    }
+
+    /**
+     * Writes {@code taskManager} to an existing {@code file} in xml format.
+     */
+    protected void saveDataToFile(ReadOnlyTaskManager taskManager, File file) throws IOException {
         XmlFileStorage.saveDataToFile(file, new XmlSerializableTaskManager(taskManager));
     }
 
@@ -3,7 +3,6 @@ package seedu.whatsnext.ui;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -12,6 +11,7 @@ import javafx.scene.layout.Region;
 import javafx.util.Pair;
 import seedu.whatsnext.commons.core.LogsCenter;
 import seedu.whatsnext.commons.events.ui.TaskPanelSelectionChangedEvent;
+import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
 
 /**
@@ -32,9 +32,12 @@ public class DeadlineListPanel extends UiPart<Region> {
         registerAsAnEventHandler(this);
     }
 
-    public void setConnections(ObservableList<BasicTaskFeatures> taskList) {
-        ObservableList<Pair<BasicTaskFeatures, Integer>> deadlineList = extractDeadlineTasks(taskList);
-        deadlineListView.setItems(deadlineList);
+    /**
+     * Binds the panel to the live view of the {@code deadline} tasks in {@code taskList}, once: the view follows the
+     * changes to the list from then on.
+     */
+    private void setConnections(ObservableList<BasicTaskFeatures> taskList) {
+        deadlineListView.setItems(new TaskTypeList(taskList, BasicTask.TASK_TYPE_DEADLINE));
         deadlineListView.setCellFactory(listView -> new TaskListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -43,7 +46,7 @@ public class DeadlineListPanel extends UiPart<Region> {
         deadlineListView.getSelectionModel().selectedItemProperty()
                 .addListener((observable, oldValue, newValue) -> {
                     if (newValue != null) {
-                        logger.fine("Selection in task list panel changed to : '" + newValue + "'");
+                        logger.fine(() -> "Selection in task list panel changed to : '" + newValue + "'");
                         raise(new TaskPanelSelectionChangedEvent(newValue.getKey()));
                     }
                 });
@@ -60,7 +63,11 @@ public class DeadlineListPanel extends UiPart<Region> {
         return this.deadlineListView;
     }
 
+    /**
+     * A cell that builds its card once, for its first task, and then rebinds the card to each task it shows.
+     */
     class TaskListViewCell extends ListCell<Pair<BasicTaskFeatures, Integer>> {
+        private DeadlineTaskCard card;
 
         @Override
         protected void updateItem(Pair<BasicTaskFeatures, Integer> task, boolean empty) {
@@ -69,27 +76,14 @@ public class DeadlineListPanel extends UiPart<Region> {
             if (empty || task == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (card == null) {
+                card = new DeadlineTaskCard(task.getKey(), task.getValue() + 1);
+                setGraphic(card.getRoot());
             } else {
-                setGraphic(new DeadlineTaskCard(task.getKey(), task.getValue() + 1).getRoot());
+                card.bind(task.getKey(), task.getValue() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
 
-    /**
-     * @param taskList
-     * @return ObserableList containing only deadline tasks with their respective index from original list
-     */
-    private ObservableList<Pair<BasicTaskFeatures, Integer>> extractDeadlineTasks(
-            ObservableList<BasicTaskFeatures> taskList) {
-        ObservableList<Pair<BasicTaskFeatures, Integer>> deadlineList = FXCollections.observableArrayList();
-        for (int index = 0; taskList.size() != index; index++) {
-            BasicTaskFeatures taskToConsider = taskList.get(index);
-            if (taskToConsider.getTaskType().equals("deadline")) {
-                Pair<BasicTaskFeatures, Integer> deadlineTask =
-                        new Pair<BasicTaskFeatures, Integer>(taskToConsider, index);
-                deadlineList.add(deadlineTask);
-            }
-        }
-        return deadlineList;
-    }
 }
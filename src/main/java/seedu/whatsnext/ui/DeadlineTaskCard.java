@@ -2,8 +2,9 @@ package seedu.whatsnext.ui;
 
 import java.util.Date;
 
-import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.OverrunStyle;
+import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
@@ -17,25 +18,41 @@ import seedu.whatsnext.model.task.BasicTaskFeatures;
  */
 public class DeadlineTaskCard extends UiPart<Region> {
 
-    private static final String FXML = "DeadlineTaskCard.fxml";
+    private static final String STYLE_OVERDUE = "-fx-background-color : #ff0000;";
 
-    @FXML
     private HBox cardPane;
-    @FXML
     private Label name;
-    @FXML
     private Label id;
-    @FXML
     private Label status;
-    @FXML
     private GridPane cardBackground;
-    @FXML
     private Label dueBy;
-    @FXML
     private FlowPane tags;
 
     public DeadlineTaskCard(BasicTaskFeatures task, int displayedIndex) {
-        super(FXML);
+        super(new HBox());
+        buildLayout();
+        bind(task, displayedIndex);
+    }
+
+    /**
+     * Builds the layout of DeadlineTaskCard.fxml, which {@code TaskCardLayoutTest} checks it against.
+     */
+    private void buildLayout() {
+        cardPane = (HBox) getRoot();
+        id = TaskCardLayout.createLabel("id");
+        id.setTextOverrun(OverrunStyle.LEADING_ELLIPSIS);
+        name = TaskCardLayout.createLabel("name");
+        status = TaskCardLayout.createLabel("status", 20.0, 23.0);
+        tags = TaskCardLayout.createTags(19.0, 62.0, 131.0);
+        dueBy = TaskCardLayout.createLabel("dueBy", 20.0, 42.0);
+        cardBackground = TaskCardLayout.layOutCard(cardPane, id, name, new AnchorPane(status, tags, dueBy));
+    }
+
+    /**
+     * Shows {@code task} on this card in place of the task it showed before, so that a list cell can keep
+     * its card and only rebind it as it is scrolled.
+     */
+    public void bind(BasicTaskFeatures task, int displayedIndex) {
         id.setText(displayedIndex + ".");
         name.setText(task.getName().fullTaskName);
         status.setText(task.getStatusString());
@@ -44,12 +61,11 @@ public class DeadlineTaskCard extends UiPart<Region> {
         initTags(task);
 
         //changes the color of the time label to indicate task being overdue
-        if (task.getEndDateTime().isBefore(new Date())) {
-            dueBy.setStyle("-fx-background-color : #ff0000;");
-        }
+        dueBy.setStyle(task.getEndDateTime().isBefore(new Date()) ? STYLE_OVERDUE : "");
     }
 
     private void initTags(BasicTaskFeatures task) {
+        tags.getChildren().clear();
         task.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
 
@@ -66,6 +82,8 @@ public class DeadlineTaskCard extends UiPart<Region> {
         } else if (task.getAllTags().contains("LOW")) {
             cardBackground.setStyle("-fx-border-color : #27e833; "
                     + "-fx-border-width : 5px");
+        } else {
+            cardBackground.setStyle("");
         }
     }
 }
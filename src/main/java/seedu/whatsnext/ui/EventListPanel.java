@@ -3,7 +3,6 @@ package seedu.whatsnext.ui;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -12,6 +11,7 @@ import javafx.scene.layout.Region;
 import javafx.util.Pair;
 import seedu.whatsnext.commons.core.LogsCenter;
 import seedu.whatsnext.commons.events.ui.TaskPanelSelectionChangedEvent;
+import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
 
 /**
@@ -30,9 +30,12 @@ public class EventListPanel extends UiPart<Region> {
         registerAsAnEventHandler(this);
     }
 
-    public void setConnections(ObservableList<BasicTaskFeatures> taskList) {
-        ObservableList<Pair<BasicTaskFeatures, Integer>> eventList = extracteventTasks(taskList);
-        eventListView.setItems(eventList);
+    /**
+     * Binds the panel to the live view of the {@code event} tasks in {@code taskList}, once: the view follows the
+     * changes to the list from then on.
+     */
+    private void setConnections(ObservableList<BasicTaskFeatures> taskList) {
+        eventListView.setItems(new TaskTypeList(taskList, BasicTask.TASK_TYPE_EVENT));
         eventListView.setCellFactory(listView -> new TaskListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -41,7 +44,7 @@ public class EventListPanel extends UiPart<Region> {
         eventListView.getSelectionModel().selectedItemProperty()
                 .addListener((observable, oldValue, newValue) -> {
                     if (newValue != null) {
-                        logger.fine("Selection in task list panel changed to : '" + newValue + "'");
+                        logger.fine(() -> "Selection in task list panel changed to : '" + newValue + "'");
                         raise(new TaskPanelSelectionChangedEvent(newValue.getKey()));
                     }
                 });
@@ -58,7 +61,11 @@ public class EventListPanel extends UiPart<Region> {
         return this.eventListView;
     }
 
+    /**
+     * A cell that builds its card once, for its first task, and then rebinds the card to each task it shows.
+     */
     class TaskListViewCell extends ListCell<Pair<BasicTaskFeatures, Integer>> {
+        private EventTaskCard card;
 
         @Override
         protected void updateItem(Pair<BasicTaskFeatures, Integer> task, boolean empty) {
@@ -67,28 +74,14 @@ public class EventListPanel extends UiPart<Region> {
             if (empty || task == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (card == null) {
+                card = new EventTaskCard(task.getKey(), task.getValue() + 1);
+                setGraphic(card.getRoot());
             } else {
-                setGraphic(new EventTaskCard(task.getKey(), task.getValue() + 1).getRoot());
+                card.bind(task.getKey(), task.getValue() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
 
-    /**
-     * @param taskList
-     * @return ObserableList containing only event tasks with their respective index from original list
-     */
-    //@@author A0154987J
-    private ObservableList<Pair<BasicTaskFeatures, Integer>> extracteventTasks(
-            ObservableList<BasicTaskFeatures> taskList) {
-        ObservableList<Pair<BasicTaskFeatures, Integer>> eventList = FXCollections.observableArrayList();
-        for (int index = 0; taskList.size() != index; index++) {
-            BasicTaskFeatures taskToConsider = taskList.get(index);
-            if (taskToConsider.getTaskType().equals("event")) {
-                Pair<BasicTaskFeatures, Integer> eventTask =
-                        new Pair<BasicTaskFeatures, Integer>(taskToConsider, index);
-                eventList.add(eventTask);
-            }
-        }
-        return eventList;
-    }
 }
@@ -2,14 +2,14 @@ package seedu.whatsnext.ui;
 
 import java.util.Date;
 
-import javafx.fxml.FXML;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.whatsnext.commons.util.AppUtil;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
 
 //@@author A0154987J
@@ -18,29 +18,46 @@ import seedu.whatsnext.model.task.BasicTaskFeatures;
  */
 public class EventTaskCard extends UiPart<Region> {
 
-    private static final String FXML = "EventTaskCard.fxml";
+    private static final String ICON_NOTICE = "/images/notice_icon.png";
+    private static final String STYLE_OVERDUE = "-fx-background-color : #ff0000;";
 
-    @FXML
     private HBox cardPane;
-    @FXML
     private Label name;
-    @FXML
     private Label id;
-    @FXML
     private Label status;
-    @FXML
     private GridPane cardBackground;
-    @FXML
     private Label from;
-    @FXML
     private Label to;
-    @FXML
     private FlowPane tags;
-    @FXML
     private ImageView notice;
 
     public EventTaskCard(BasicTaskFeatures task, int displayedIndex) {
-        super(FXML);
+        super(new HBox());
+        buildLayout();
+        notice.setImage(AppUtil.getImage(ICON_NOTICE));
+        bind(task, displayedIndex);
+    }
+
+    /**
+     * Builds the layout of EventTaskCard.fxml, which {@code TaskCardLayoutTest} checks it against.
+     */
+    private void buildLayout() {
+        cardPane = (HBox) getRoot();
+        id = TaskCardLayout.createLabel("id");
+        name = TaskCardLayout.createLabel("name");
+        status = TaskCardLayout.createLabel("status", 20.0, 24.0);
+        tags = TaskCardLayout.createTags(19.0, 78.0, 131.0);
+        from = TaskCardLayout.createLabel("from", 20.0, 41.0);
+        to = TaskCardLayout.createLabel("to", 20.0, 58.0);
+        notice = TaskCardLayout.createNotice(73.0);
+        cardBackground = TaskCardLayout.layOutCard(cardPane, id, name, new AnchorPane(status, tags, from, to, notice));
+    }
+
+    /**
+     * Shows {@code task} on this card in place of the task it showed before, so that a list cell can keep
+     * its card and only rebind it as it is scrolled.
+     */
+    public void bind(BasicTaskFeatures task, int displayedIndex) {
         id.setText(displayedIndex + ".");
         name.setText(task.getName().fullTaskName);
         status.setText(task.getStatusString());
@@ -48,21 +65,18 @@ public class EventTaskCard extends UiPart<Region> {
         to.setText("To: " + task.getEndDateTime().displayDateTime());
         setPriorityColors(task);
         initTags(task);
-        notice.setImage(new Image("/images/notice_icon.png"));
 
         //shows indicator sign when the task period overlaps with another event task
-        if (!task.getAllTags().contains("OVERLAP")) {
-            notice.setVisible(false);
-        }
+        notice.setVisible(task.getAllTags().contains("OVERLAP"));
 
         //changes the color of the time label to indicate task being overdue
-        if (task.getEndDateTime().isBefore(new Date())) {
-            from.setStyle("-fx-background-color : #ff0000;");
-            to.setStyle("-fx-background-color : #ff0000;");
-        }
+        String timeStyle = task.getEndDateTime().isBefore(new Date()) ? STYLE_OVERDUE : "";
+        from.setStyle(timeStyle);
+        to.setStyle(timeStyle);
     }
 
     private void initTags(BasicTaskFeatures task) {
+        tags.getChildren().clear();
         task.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
 
@@ -79,6 +93,8 @@ public class EventTaskCard extends UiPart<Region> {
         } else if (task.getAllTags().contains("LOW")) {
             cardBackground.setStyle("-fx-border-color : #27e833; "
                     + "-fx-border-width : 5px");
+        } else {
+            cardBackground.setStyle("");
         }
     }
 }
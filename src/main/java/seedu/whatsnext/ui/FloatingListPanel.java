@@ -3,7 +3,6 @@ package seedu.whatsnext.ui;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -12,6 +11,7 @@ import javafx.scene.layout.Region;
 import javafx.util.Pair;
 import seedu.whatsnext.commons.core.LogsCenter;
 import seedu.whatsnext.commons.events.ui.TaskPanelSelectionChangedEvent;
+import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
 
 /**
@@ -29,29 +29,14 @@ public class FloatingListPanel extends UiPart<Region> {
         setConnections(taskList);
     }
 
-    public void setConnections(ObservableList<BasicTaskFeatures> taskList) {
-        ObservableList<Pair<BasicTaskFeatures, Integer>> floatingTaskList = extractFloatingTasks(taskList);
-        floatingListView.setItems(floatingTaskList);
-        floatingListView.setCellFactory(listView -> new TaskListViewCell());
-        setEventHandlerForSelectionChangeEvent();
-    }
-
     /**
-     * @param taskList
-     * @return ObserableList containing only floating tasks with their respective index from original list
+     * Binds the panel to the live view of the {@code floating} tasks in {@code taskList}, once: the view follows the
+     * changes to the list from then on.
      */
-    private ObservableList<Pair<BasicTaskFeatures, Integer>> extractFloatingTasks(
-            ObservableList<BasicTaskFeatures> taskList) {
-        ObservableList<Pair<BasicTaskFeatures, Integer>> floatingTaskList = FXCollections.observableArrayList();
-        for (int index = 0; taskList.size() != index; index++) {
-            BasicTaskFeatures taskToConsider = taskList.get(index);
-            if (taskToConsider.getTaskType().equals("floating")) {
-                Pair<BasicTaskFeatures, Integer> floatTask =
-                        new Pair<BasicTaskFeatures, Integer>(taskToConsider, index);
-                floatingTaskList.add(floatTask);
-            }
-        }
-        return floatingTaskList;
+    private void setConnections(ObservableList<BasicTaskFeatures> taskList) {
+        floatingListView.setItems(new TaskTypeList(taskList, BasicTask.TASK_TYPE_FLOATING));
+        floatingListView.setCellFactory(listView -> new TaskListViewCell());
+        setEventHandlerForSelectionChangeEvent();
     }
 
     public ListView<Pair<BasicTaskFeatures, Integer>> getFloatingListView() {
@@ -62,7 +47,7 @@ public class FloatingListPanel extends UiPart<Region> {
         floatingListView.getSelectionModel().selectedItemProperty()
                 .addListener((observablse, oldValue, newValue) -> {
                     if (newValue != null) {
-                        logger.fine("Selection in task list panel changed to : '" + newValue + "'");
+                        logger.fine(() -> "Selection in task list panel changed to : '" + newValue + "'");
                         raise(new TaskPanelSelectionChangedEvent(newValue.getKey()));
                     }
                 });
@@ -77,7 +62,11 @@ public class FloatingListPanel extends UiPart<Region> {
         });
     }
 
+    /**
+     * A cell that builds its card once, for its first task, and then rebinds the card to each task it shows.
+     */
     class TaskListViewCell extends ListCell<Pair<BasicTaskFeatures, Integer>> {
+        private FloatingTaskCard card;
 
         @Override
         protected void updateItem(Pair<BasicTaskFeatures, Integer> task, boolean empty) {
@@ -86,8 +75,12 @@ public class FloatingListPanel extends UiPart<Region> {
             if (empty || task == null) {
                 setGraphic(null);
                 setText(null);
+            } else if (card == null) {
+                card = new FloatingTaskCard(task.getKey(), task.getValue() + 1);
+                setGraphic(card.getRoot());
             } else {
-                setGraphic(new FloatingTaskCard(task.getKey(), task.getValue() + 1).getRoot());
+                card.bind(task.getKey(), task.getValue() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
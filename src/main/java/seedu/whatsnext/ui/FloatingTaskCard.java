@@ -1,7 +1,7 @@
 package seedu.whatsnext.ui;
 
-import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
@@ -14,23 +14,37 @@ import seedu.whatsnext.model.task.BasicTaskFeatures;
  */
 public class FloatingTaskCard extends UiPart<Region> {
 
-    private static final String FXML = "FloatingTaskCard.fxml";
 
-    @FXML
     private HBox cardPane;
-    @FXML
     private Label name;
-    @FXML
     private Label id;
-    @FXML
     private Label status;
-    @FXML
     private GridPane cardBackground;
-    @FXML
     private FlowPane tags;
 
     public FloatingTaskCard(BasicTaskFeatures task, int displayedIndex) {
-        super(FXML);
+        super(new HBox());
+        buildLayout();
+        bind(task, displayedIndex);
+    }
+
+    /**
+     * Builds the layout of FloatingTaskCard.fxml, which {@code TaskCardLayoutTest} checks it against.
+     */
+    private void buildLayout() {
+        cardPane = (HBox) getRoot();
+        id = TaskCardLayout.createLabel("id");
+        name = TaskCardLayout.createLabel("name");
+        status = TaskCardLayout.createLabel("status", 21.0, 29.0);
+        tags = TaskCardLayout.createTags(21.0, 58.0, 129.0);
+        cardBackground = TaskCardLayout.layOutCard(cardPane, id, name, new AnchorPane(status, tags));
+    }
+
+    /**
+     * Shows {@code task} on this card in place of the task it showed before, so that a list cell can keep
+     * its card and only rebind it as it is scrolled.
+     */
+    public void bind(BasicTaskFeatures task, int displayedIndex) {
         id.setText(displayedIndex + ".");
         name.setText(task.getName().fullTaskName);
         status.setText(task.getStatusString());
@@ -39,6 +53,7 @@ public class FloatingTaskCard extends UiPart<Region> {
     }
 
     private void initTags(BasicTaskFeatures task) {
+        tags.getChildren().clear();
         task.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
 
@@ -55,6 +70,8 @@ public class FloatingTaskCard extends UiPart<Region> {
         } else if (task.getAllTags().contains("LOW")) {
             cardBackground.setStyle("-fx-border-color : #27e833; "
                     + "-fx-border-width : 5px");
+        } else {
+            cardBackground.setStyle("");
         }
     }
 }
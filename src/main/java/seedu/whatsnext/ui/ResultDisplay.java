@@ -40,7 +40,7 @@ public class ResultDisplay extends UiPart<Region> {
 
     @Subscribe
     private void handleNewResultAvailableEvent(NewResultAvailableEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         displayed.setValue(event.message);
     }
 
@@ -0,0 +1,96 @@
+package seedu.whatsnext.ui;
+
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.RowConstraints;
+
+/**
+ * Builds the parts shared by the layouts of the task cards, as laid out in their FXML files.
+ * The cards build their scene graph in code because a list creates many of them, and parsing an FXML file
+ * takes many times longer than creating the nodes it describes.
+ */
+final class TaskCardLayout {
+
+    private TaskCardLayout() {}
+
+    /**
+     * Lays out {@code cardPane} with the number and name of the task along the top, over {@code details}.
+     * @return the grid holding the number, name and details, which shows the priority of the task.
+     */
+    static GridPane layOutCard(HBox cardPane, Label id, Label name, AnchorPane details) {
+        cardPane.setId("cardPane");
+
+        id.setMinWidth(20.0);
+        id.setPadding(new Insets(0.0, 0.0, 0.0, 5.0));
+        HBox title = new HBox(id, name);
+        title.setPrefSize(150.0, 75.0);
+
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(10.0);
+        RowConstraints row = new RowConstraints();
+        row.setMinHeight(10.0);
+        row.setVgrow(Priority.SOMETIMES);
+        GridPane cardBackground = new GridPane();
+        cardBackground.setId("cardBackground");
+        cardBackground.getColumnConstraints().add(column);
+        cardBackground.getRowConstraints().add(row);
+        cardBackground.getChildren().addAll(title, details);
+        HBox.setHgrow(cardBackground, Priority.ALWAYS);
+
+        cardPane.getChildren().add(cardBackground);
+        return cardBackground;
+    }
+
+    static Label createLabel(String id) {
+        Label label = new Label();
+        label.setId(id);
+        return label;
+    }
+
+    static Label createLabel(String id, double layoutX, double layoutY) {
+        return relocate(createLabel(id), layoutX, layoutY);
+    }
+
+    /**
+     * Creates the pane of tags, anchored to the bottom and right of the details, and at its layout position to
+     * the top and left.
+     */
+    static FlowPane createTags(double layoutX, double layoutY, double prefWidth) {
+        FlowPane tags = relocate(new FlowPane(), layoutX, layoutY);
+        tags.setId("tags");
+        tags.setPrefSize(prefWidth, 17.0);
+        AnchorPane.setBottomAnchor(tags, 0.0);
+        AnchorPane.setLeftAnchor(tags, layoutX);
+        AnchorPane.setRightAnchor(tags, 0.0);
+        AnchorPane.setTopAnchor(tags, layoutY);
+        return tags;
+    }
+
+    /**
+     * Creates the indicator shown beside the tags when an event overlaps another.
+     */
+    static ImageView createNotice(double layoutY) {
+        ImageView notice = relocate(new ImageView(), 0.0, layoutY);
+        notice.setId("notice");
+        notice.setFitHeight(17.0);
+        notice.setFitWidth(17.0);
+        notice.setPickOnBounds(true);
+        notice.setPreserveRatio(true);
+        return notice;
+    }
+
+    private static <T extends Node> T relocate(T node, double layoutX, double layoutY) {
+        node.setLayoutX(layoutX);
+        node.setLayoutY(layoutY);
+        return node;
+    }
+}
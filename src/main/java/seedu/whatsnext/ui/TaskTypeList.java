@@ -0,0 +1,118 @@
+package seedu.whatsnext.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.TransformationList;
+import javafx.util.Pair;
+import seedu.whatsnext.model.task.BasicTaskFeatures;
+
+/**
+ * A live view of the tasks of one type in a task list, each paired with its index in the whole list, for the
+ * panel showing that type. Changes to the list are passed on as they happen, so a panel binds to its view once
+ * and a single edit only changes the cells it touches.
+ *
+ * The task list must keep the task types grouped, as the task list of the model does. The index of a task in the
+ * whole list is then its index in this view plus the number of tasks of the types before it, so when that number
+ * changes, every task of this view is reported as updated, and the panel only redraws its visible cells.
+ */
+public class TaskTypeList extends TransformationList<Pair<BasicTaskFeatures, Integer>, BasicTaskFeatures> {
+
+    private final FilteredList<BasicTaskFeatures> tasksOfType;
+    /** Index in the whole list of the first task of this view, as last reported. */
+    private int offset;
+    private final ListChangeListener<BasicTaskFeatures> offsetListener = change -> updateOffset();
+
+    /**
+     * @param tasks the whole task list, with the task types grouped.
+     * @param taskType the type of the tasks to show, as returned by {@link BasicTaskFeatures#getTaskType()}.
+     */
+    public TaskTypeList(ObservableList<BasicTaskFeatures> tasks, String taskType) {
+        this(new FilteredList<>(tasks, task -> task.getTaskType().equals(taskType)), tasks);
+    }
+
+    private TaskTypeList(FilteredList<BasicTaskFeatures> tasksOfType, ObservableList<BasicTaskFeatures> tasks) {
+        super(tasksOfType);
+        this.tasksOfType = tasksOfType;
+        // registered after the filtered list's own listener, so the filtered list is up to date when it runs
+        tasks.addListener(new WeakListChangeListener<>(offsetListener));
+        offset = computeOffset();
+    }
+
+    @Override
+    public Pair<BasicTaskFeatures, Integer> get(int index) {
+        return new Pair<>(tasksOfType.get(index), tasksOfType.getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return tasksOfType.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return index;
+    }
+
+    // not an override on JavaFX 8, which has no such method
+    public int getViewIndex(int index) {
+        return index;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends BasicTaskFeatures> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    List<Pair<BasicTaskFeatures, Integer>> removed = new ArrayList<>(change.getRemovedSize());
+                    for (BasicTaskFeatures task : change.getRemoved()) {
+                        removed.add(new Pair<>(task, offset + change.getFrom() + removed.size()));
+                    }
+                    nextRemove(change.getFrom(), removed);
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Reports every task of this view as updated if the index of its first task in the whole list has changed.
+     */
+    private void updateOffset() {
+        int newOffset = computeOffset();
+        if (newOffset == offset) {
+            return;
+        }
+        offset = newOffset;
+        if (isEmpty()) {
+            return;
+        }
+        beginChange();
+        for (int i = 0; i < size(); i++) {
+            nextUpdate(i);
+        }
+        endChange();
+    }
+
+    private int computeOffset() {
+        return tasksOfType.isEmpty() ? 0 : tasksOfType.getSourceIndex(0);
+    }
+}
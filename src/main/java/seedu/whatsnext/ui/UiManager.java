@@ -12,6 +12,7 @@ import javafx.stage.Stage;
 import seedu.whatsnext.MainApp;
 import seedu.whatsnext.commons.core.ComponentManager;
 import seedu.whatsnext.commons.core.Config;
+import seedu.whatsnext.commons.core.EventsCenter.Dispatch;
 import seedu.whatsnext.commons.core.LogsCenter;
 import seedu.whatsnext.commons.events.model.TaskManagerChangedEvent;
 import seedu.whatsnext.commons.events.storage.DataSavingExceptionEvent;
@@ -40,7 +41,7 @@ public class UiManager extends ComponentManager implements Ui {
 
 
     public UiManager(Logic logic, Config config, UserPrefs prefs) {
-        super();
+        super(Dispatch.UI);
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
@@ -139,13 +140,19 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        // saves may fail on the storage writer thread, but the alert can only be shown on the JavaFX thread
+        if (Platform.isFxApplicationThread()) {
+            showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
+        } else {
+            Platform.runLater(() -> showFileOperationAlertAndWait("Could not save data", "Could not save data to file",
+                    event.exception));
+        }
     }
 
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         mainWindow.handleHelp();
     }
 
@@ -154,7 +161,7 @@ public class UiManager extends ComponentManager implements Ui {
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
         clearSelect();
         findAndScroll(event);
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
     }
 
     private void findAndScroll(JumpToListRequestEvent event) {
@@ -186,18 +193,18 @@ public class UiManager extends ComponentManager implements Ui {
         mainWindow.getFloatingListPanel().getFloatingListView().getSelectionModel().clearSelection();
     }
 
+    /**
+     * The task list panels are bound to live views of the filtered task list, which already follow the change.
+     */
     @Subscribe
     public void handleTaskManagerChangedEvent(TaskManagerChangedEvent abce) {
-        mainWindow.getEventListPanel().setConnections(logic.getFilteredTaskList());
-        mainWindow.getDeadlineListPanel().setConnections(logic.getFilteredTaskList());
-        mainWindow.getFloatingListPanel().setConnections(logic.getFilteredTaskList());
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Updating Task List Panels"
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(abce, "Updating Task List Panels"
                 + Integer.toString(mainWindow.getEventListPanel().getEventListView().getItems().size())));
     }
 
     @Subscribe
     public void handleTaskPanelSelectionChangedEvent(TaskPanelSelectionChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         if (event.getNewSelection().getTaskType().equals("event")) {
             mainWindow.getDeadlineListPanel().getDeadlineListView().getSelectionModel().clearSelection();
             mainWindow.getFloatingListPanel().getFloatingListView().getSelectionModel().clearSelection();
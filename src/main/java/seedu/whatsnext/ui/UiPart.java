@@ -11,6 +11,7 @@ import javafx.stage.Modality;
 import javafx.stage.Stage;
 import seedu.whatsnext.MainApp;
 import seedu.whatsnext.commons.core.EventsCenter;
+import seedu.whatsnext.commons.core.EventsCenter.Dispatch;
 import seedu.whatsnext.commons.events.BaseEvent;
 
 /**
@@ -22,7 +23,7 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private FXMLLoader fxmlLoader;
+    private final T root;
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
@@ -30,13 +31,14 @@ public abstract class UiPart<T> {
      */
     public UiPart(URL fxmlFileUrl) {
         requireNonNull(fxmlFileUrl);
-        fxmlLoader = new FXMLLoader(fxmlFileUrl);
+        FXMLLoader fxmlLoader = new FXMLLoader(fxmlFileUrl);
         fxmlLoader.setController(this);
         try {
             fxmlLoader.load();
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        root = fxmlLoader.getRoot();
     }
 
     /**
@@ -47,11 +49,19 @@ public abstract class UiPart<T> {
         this(fxmlFileName != null ? MainApp.class.getResource(FXML_FILE_FOLDER + fxmlFileName) : null);
     }
 
+    /**
+     * Constructs a UiPart with a scene graph built in code, for parts created too often to load an FXML file
+     * each time. The subclass builds the rest of the scene graph under {@code root}.
+     */
+    protected UiPart(T root) {
+        this.root = requireNonNull(root);
+    }
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return root;
     }
 
     /**
@@ -63,11 +73,12 @@ public abstract class UiPart<T> {
     }
 
     /**
-     * Registers the object as an event handler at the {@link EventsCenter}
+     * Registers the object as an event handler at the {@link EventsCenter}, to handle events on the
+     * JavaFX application thread
      * @param handler usually {@code this}
      */
     protected void registerAsAnEventHandler(Object handler) {
-        EventsCenter.getInstance().registerHandler(handler);
+        EventsCenter.getInstance().registerHandler(handler, Dispatch.UI);
     }
 
     /**
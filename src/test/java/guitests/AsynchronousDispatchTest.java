@@ -0,0 +1,58 @@
+package guitests;
+
+import static org.junit.Assert.assertTrue;
+import static seedu.whatsnext.logic.commands.DeleteCommand.MESSAGE_DELETE_TASK_SUCCESS;
+import static seedu.whatsnext.testutil.TypicalTasks.INDEX_FIRST_TASK;
+
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import seedu.whatsnext.commons.core.EventsCenter;
+import seedu.whatsnext.logic.commands.DeleteCommand;
+import seedu.whatsnext.logic.commands.UndoCommand;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.testutil.TestUtil;
+
+/**
+ * Gui tests for commands whose events are handled on other threads, as they are outside of tests.
+ */
+public class AsynchronousDispatchTest extends TaskManagerGuiTest {
+
+    @Override
+    protected boolean isSynchronousDispatch() {
+        return false;
+    }
+
+    @Test
+    public void deleteAndUndo_asynchronousDispatch_uiUpdated() {
+        commandBox.pressEnter();
+        runCommandAndWait("list all");
+
+        BasicTask[] currentList = td.getTypicalTasks();
+        BasicTask taskToDelete = currentList[INDEX_FIRST_TASK.getZeroBased()];
+        BasicTask[] expectedRemainder = TestUtil.removeTasksFromList(currentList, INDEX_FIRST_TASK);
+
+        runCommandAndWait(DeleteCommand.COMMAND_WORD + " " + INDEX_FIRST_TASK.getOneBased());
+        assertListMatching(expectedRemainder);
+        assertResultMessage(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
+
+        runCommandAndWait(UndoCommand.COMMAND_WORD);
+        assertListMatching(currentList);
+        assertListSize(currentList.length);
+    }
+
+    /**
+     * Runs {@code command} and waits until the events it posted are handled and the UI has been updated.
+     */
+    private void runCommandAndWait(String command) {
+        commandBox.runCommand(command);
+        EventsCenter.getInstance().flush();
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
+    private void assertListMatching(BasicTask... tasks) {
+        assertTrue(eventListPanel.isListMatching(tasks));
+        assertTrue(deadlineListPanel.isListMatching(tasks));
+        assertTrue(floatingListPanel.isListMatching(tasks));
+    }
+}
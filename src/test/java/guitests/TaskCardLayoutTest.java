@@ -0,0 +1,141 @@
+package guitests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Labeled;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.RowConstraints;
+import seedu.whatsnext.MainApp;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.BasicTaskFeatures;
+import seedu.whatsnext.testutil.TaskBuilder;
+import seedu.whatsnext.ui.DeadlineTaskCard;
+import seedu.whatsnext.ui.EventTaskCard;
+import seedu.whatsnext.ui.FloatingTaskCard;
+import seedu.whatsnext.ui.UiPart;
+
+/**
+ * Checks that the task cards, which build their scene graph in code, lay it out as their FXML files do.
+ * The properties that a card sets when it is bound to a task, such as texts and styles, are not compared.
+ */
+public class TaskCardLayoutTest {
+
+    private static final String FUTURE_DATE_TIME = "Oct 30 2099";
+
+    @BeforeClass
+    public static void setupToolkit() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Test
+    public void eventTaskCard_sameLayoutAsFxml() throws Exception {
+        BasicTaskFeatures event = new TaskBuilder(BasicTask.TASK_TYPE_EVENT).withTags()
+                .withEndDateTime(FUTURE_DATE_TIME).build();
+        assertSameLayout(loadFxml("EventTaskCard.fxml"), new EventTaskCard(event, 1).getRoot(), "cardPane");
+    }
+
+    @Test
+    public void deadlineTaskCard_sameLayoutAsFxml() throws Exception {
+        BasicTaskFeatures deadline = new TaskBuilder(BasicTask.TASK_TYPE_DEADLINE).withTags()
+                .withEndDateTime(FUTURE_DATE_TIME).build();
+        assertSameLayout(loadFxml("DeadlineTaskCard.fxml"), new DeadlineTaskCard(deadline, 1).getRoot(),
+                "cardPane");
+    }
+
+    @Test
+    public void floatingTaskCard_sameLayoutAsFxml() throws Exception {
+        BasicTaskFeatures floating = new TaskBuilder(BasicTask.TASK_TYPE_FLOATING).withTags().build();
+        assertSameLayout(loadFxml("FloatingTaskCard.fxml"), new FloatingTaskCard(floating, 1).getRoot(),
+                "cardPane");
+    }
+
+    private static Node loadFxml(String fxmlFileName) throws IOException {
+        return FXMLLoader.load(MainApp.class.getResource(UiPart.FXML_FILE_FOLDER + fxmlFileName));
+    }
+
+    /**
+     * Asserts that {@code actual} and its descendants have the same types, ids and layout as {@code expected}
+     * and its descendants.
+     * @param path the ids of the nodes down to {@code expected}, to tell which node differs.
+     */
+    private static void assertSameLayout(Node expected, Node actual, String path) {
+        assertEquals(path, expected.getClass(), actual.getClass());
+        assertEquals(path, expected.getId(), actual.getId());
+        assertEquals(path, expected.getStyleClass(), actual.getStyleClass());
+        assertEquals(path, expected.getLayoutX(), actual.getLayoutX(), 0.0);
+        assertEquals(path, expected.getLayoutY(), actual.getLayoutY(), 0.0);
+        assertEquals(path, expected.isPickOnBounds(), actual.isPickOnBounds());
+        // holds the constraints set by layout panes, such as HBox.hgrow and the anchors of AnchorPane
+        assertEquals(path, expected.getProperties(), actual.getProperties());
+
+        if (expected instanceof Region) {
+            Region expectedRegion = (Region) expected;
+            Region actualRegion = (Region) actual;
+            assertEquals(path, expectedRegion.getMinWidth(), actualRegion.getMinWidth(), 0.0);
+            assertEquals(path, expectedRegion.getMinHeight(), actualRegion.getMinHeight(), 0.0);
+            assertEquals(path, expectedRegion.getPrefWidth(), actualRegion.getPrefWidth(), 0.0);
+            assertEquals(path, expectedRegion.getPrefHeight(), actualRegion.getPrefHeight(), 0.0);
+            assertEquals(path, expectedRegion.getMaxWidth(), actualRegion.getMaxWidth(), 0.0);
+            assertEquals(path, expectedRegion.getMaxHeight(), actualRegion.getMaxHeight(), 0.0);
+            assertEquals(path, expectedRegion.getPadding(), actualRegion.getPadding());
+        }
+        if (expected instanceof Labeled) {
+            assertEquals(path, ((Labeled) expected).getTextOverrun(), ((Labeled) actual).getTextOverrun());
+        }
+        if (expected instanceof ImageView) {
+            ImageView expectedImage = (ImageView) expected;
+            ImageView actualImage = (ImageView) actual;
+            assertEquals(path, expectedImage.getFitWidth(), actualImage.getFitWidth(), 0.0);
+            assertEquals(path, expectedImage.getFitHeight(), actualImage.getFitHeight(), 0.0);
+            assertEquals(path, expectedImage.isPreserveRatio(), actualImage.isPreserveRatio());
+        }
+        if (expected instanceof GridPane) {
+            assertSameConstraints((GridPane) expected, (GridPane) actual, path);
+        }
+        if (expected instanceof Parent) {
+            List<Node> expectedChildren = ((Parent) expected).getChildrenUnmodifiable();
+            List<Node> actualChildren = ((Parent) actual).getChildrenUnmodifiable();
+            assertEquals(path, expectedChildren.size(), actualChildren.size());
+            for (int i = 0; i < expectedChildren.size(); i++) {
+                Node expectedChild = expectedChildren.get(i);
+                String childPath = path + "/" + (expectedChild.getId() != null ? expectedChild.getId() : i);
+                assertSameLayout(expectedChild, actualChildren.get(i), childPath);
+            }
+        }
+    }
+
+    private static void assertSameConstraints(GridPane expected, GridPane actual, String path) {
+        assertEquals(path, expected.getColumnConstraints().size(), actual.getColumnConstraints().size());
+        for (int i = 0; i < expected.getColumnConstraints().size(); i++) {
+            ColumnConstraints expectedColumn = expected.getColumnConstraints().get(i);
+            ColumnConstraints actualColumn = actual.getColumnConstraints().get(i);
+            assertEquals(path, expectedColumn.getHgrow(), actualColumn.getHgrow());
+            assertEquals(path, expectedColumn.getMinWidth(), actualColumn.getMinWidth(), 0.0);
+            assertEquals(path, expectedColumn.getPrefWidth(), actualColumn.getPrefWidth(), 0.0);
+            assertEquals(path, expectedColumn.getMaxWidth(), actualColumn.getMaxWidth(), 0.0);
+        }
+        assertEquals(path, expected.getRowConstraints().size(), actual.getRowConstraints().size());
+        for (int i = 0; i < expected.getRowConstraints().size(); i++) {
+            RowConstraints expectedRow = expected.getRowConstraints().get(i);
+            RowConstraints actualRow = actual.getRowConstraints().get(i);
+            assertEquals(path, expectedRow.getVgrow(), actualRow.getVgrow());
+            assertEquals(path, expectedRow.getMinHeight(), actualRow.getMinHeight(), 0.0);
+            assertEquals(path, expectedRow.getPrefHeight(), actualRow.getPrefHeight(), 0.0);
+            assertEquals(path, expectedRow.getMaxHeight(), actualRow.getMaxHeight(), 0.0);
+        }
+    }
+}
@@ -81,7 +81,8 @@ public abstract class TaskManagerGuiTest {
             this.stage = stage;
         });
         EventsCenter.clearSubscribers();
-        FxToolkit.setupApplication(() -> new TestApp(this::getInitialData, getDataFileLocation()));
+        FxToolkit.setupApplication(() -> new TestApp(this::getInitialData, getDataFileLocation(),
+                isSynchronousDispatch()));
         FxToolkit.showStage();
         while (!stage.isShowing());
         mainGui.focusOnMainApp();
@@ -104,9 +105,17 @@ public abstract class TaskManagerGuiTest {
         return TestApp.SAVE_LOCATION_FOR_TESTING;
     }
 
+    /**
+      * Override this in child classes to handle events on other threads, as the app does outside of tests.
+      */
+    protected boolean isSynchronousDispatch() {
+        return true;
+    }
+
     @After
      public void cleanup() throws TimeoutException {
         FxToolkit.cleanupStages();
+        EventsCenter.getInstance().setSynchronous(true);
     }
 
     /**
@@ -26,14 +26,21 @@ public class TestApp extends MainApp {
     protected static final String TASK_MANAGER_NAME = "Test";
     protected Supplier<ReadOnlyTaskManager> initialDataSupplier = () -> null;
     protected String saveFileLocation = SAVE_LOCATION_FOR_TESTING;
+    protected boolean isSynchronousDispatch = true;
 
     public TestApp() {
     }
 
     public TestApp(Supplier<ReadOnlyTaskManager> initialDataSupplier, String saveFileLocation) {
+        this(initialDataSupplier, saveFileLocation, true);
+    }
+
+    public TestApp(Supplier<ReadOnlyTaskManager> initialDataSupplier, String saveFileLocation,
+            boolean isSynchronousDispatch) {
         super();
         this.initialDataSupplier = initialDataSupplier;
         this.saveFileLocation = saveFileLocation;
+        this.isSynchronousDispatch = isSynchronousDispatch;
 
         // If some initial local data has been provided, write those to the file
         if (initialDataSupplier.get() != null) {
@@ -43,6 +50,17 @@ public class TestApp extends MainApp {
         }
     }
 
+    /**
+     * Unless asynchronous dispatch is asked for, keeps handling events on the thread that posts them, so that
+     * the UI has been updated when a command returns.
+     */
+    @Override
+    protected void initEventDispatch() {
+        if (!isSynchronousDispatch) {
+            super.initEventDispatch();
+        }
+    }
+
     @Override
     protected Config initConfig(String configFilePath) {
         Config config = super.initConfig(configFilePath);
@@ -0,0 +1,137 @@
+package seedu.whatsnext.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler recordingHandler = new RecordingHandler();
+    private AsyncLogHandler asyncHandler;
+
+    @After
+    public void tearDown() {
+        recordingHandler.release.countDown();
+        if (asyncHandler != null) {
+            asyncHandler.close();
+        }
+    }
+
+    @Test
+    public void flush_publishedRecords_passedOnInOrder() {
+        asyncHandler = new AsyncLogHandler(16, recordingHandler);
+        recordingHandler.release.countDown();
+
+        for (int i = 0; i < 10; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncHandler.flush();
+
+        List<String> messages = recordingHandler.getMessages();
+        assertEquals(10, messages.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("message " + i, messages.get(i));
+        }
+        assertEquals(1, recordingHandler.flushCount);
+    }
+
+    @Test
+    public void publish_handlerBlocked_doesNotWait() throws Exception {
+        asyncHandler = new AsyncLogHandler(4, recordingHandler);
+        asyncHandler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(recordingHandler.isPublishing.await(5, TimeUnit.SECONDS));
+
+        // the writer thread is stuck in the handler, so these wait in the buffer, then overflow it
+        for (int i = 0; i < 10; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(6, asyncHandler.getDroppedCount());
+
+        recordingHandler.release.countDown();
+        asyncHandler.flush();
+        List<String> messages = recordingHandler.getMessages();
+        assertEquals(6, messages.size());
+        assertEquals("first", messages.get(0));
+        assertTrue(messages.get(1).contains("Dropped 6 log record(s)"));
+        assertEquals("message 6", messages.get(2));
+        assertEquals("message 9", messages.get(5));
+    }
+
+    @Test
+    public void publish_belowLevel_discarded() {
+        asyncHandler = new AsyncLogHandler(16, recordingHandler);
+        asyncHandler.setLevel(Level.INFO);
+        recordingHandler.release.countDown();
+
+        asyncHandler.publish(new LogRecord(Level.FINE, "fine"));
+        asyncHandler.publish(new LogRecord(Level.WARNING, "warning"));
+        asyncHandler.flush();
+
+        assertEquals(1, recordingHandler.getMessages().size());
+        assertEquals("warning", recordingHandler.getMessages().get(0));
+    }
+
+    @Test
+    public void close_pendingRecords_writtenThenHandlerClosed() {
+        asyncHandler = new AsyncLogHandler(16, recordingHandler);
+        recordingHandler.release.countDown();
+
+        asyncHandler.publish(new LogRecord(Level.INFO, "before close"));
+        asyncHandler.close();
+        asyncHandler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(1, recordingHandler.getMessages().size());
+        assertTrue(recordingHandler.isClosed);
+    }
+
+    /**
+     * A handler that keeps the messages of the records published to it, and waits until it is released before
+     * taking the first record.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch isPublishing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private int flushCount;
+        private boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            isPublishing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (messages) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        private List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+    }
+}
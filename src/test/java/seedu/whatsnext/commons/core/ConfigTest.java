@@ -18,7 +18,8 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : WhatsNext App\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Metrics file Location : null";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,211 @@
+package seedu.whatsnext.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.whatsnext.commons.core.EventsCenter.Dispatch;
+import seedu.whatsnext.commons.events.model.TaskManagerChangedEvent;
+import seedu.whatsnext.commons.events.ui.NewResultAvailableEvent;
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.TaskManagerSnapshot;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.undo.TaskManagerDelta;
+import seedu.whatsnext.testutil.TypicalTasks;
+
+public class EventsCenterTest {
+
+    private final TypicalTasks typicalTasks = new TypicalTasks();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_synchronous_handledOnPostingThread() {
+        ChangeHandler handler = new ChangeHandler();
+        EventsCenter.getInstance().registerHandler(handler, Dispatch.IO);
+
+        EventsCenter.getInstance().post(new TaskManagerChangedEvent(new TaskManager()));
+
+        assertEquals(1, handler.changes.size());
+        assertEquals(Thread.currentThread(), handler.handlingThread);
+    }
+
+    @Test
+    public void post_synchronousIo_eventNotDetached() {
+        ChangeHandler handler = new ChangeHandler();
+        EventsCenter.getInstance().registerHandler(handler, Dispatch.IO);
+        TaskManager taskManager = new TaskManager();
+
+        EventsCenter.getInstance().post(new TaskManagerChangedEvent(taskManager));
+
+        assertSame(taskManager, handler.changes.get(0).data);
+    }
+
+    @Test
+    public void post_asynchronousIoKnownChange_detachedWithOnlyChange() throws Exception {
+        ChangeHandler handler = new ChangeHandler();
+        EventsCenter eventsCenter = EventsCenter.getInstance().setSynchronous(false);
+        eventsCenter.registerHandler(handler, Dispatch.IO);
+        TaskManager taskManager = new TaskManager();
+        taskManager.addTask(typicalTasks.camping);
+
+        eventsCenter.post(new TaskManagerChangedEvent(taskManager, TaskManagerDelta.added(typicalTasks.camping)));
+        eventsCenter.flush();
+
+        assertEquals(1, handler.changes.size());
+        assertNull(handler.changes.get(0).data);
+        assertEquals(1, handler.changes.get(0).change.getAddedTasks().size());
+    }
+
+    @Test
+    public void post_asynchronousIo_handledOnOtherThreadWithSnapshot() throws Exception {
+        ChangeHandler handler = new ChangeHandler();
+        EventsCenter eventsCenter = EventsCenter.getInstance().setSynchronous(false);
+        eventsCenter.registerHandler(handler, Dispatch.IO);
+        TaskManager taskManager = new TaskManager();
+        taskManager.addTask(typicalTasks.camping);
+
+        eventsCenter.post(new TaskManagerChangedEvent(taskManager));
+        taskManager.addTask(typicalTasks.tester);
+        eventsCenter.flush();
+
+        assertEquals(1, handler.changes.size());
+        assertNotEquals(Thread.currentThread(), handler.handlingThread);
+        assertTrue(handler.changes.get(0).data instanceof TaskManagerSnapshot);
+        assertEquals(1, handler.changes.get(0).data.getTaskList().size());
+    }
+
+    @Test
+    public void post_changesWhileEarlierChangeWaits_mergedIntoOneEvent() throws Exception {
+        ChangeHandler handler = new ChangeHandler();
+        BlockingHandler blockingHandler = new BlockingHandler();
+        EventsCenter eventsCenter = EventsCenter.getInstance().setSynchronous(false);
+        eventsCenter.registerHandler(handler, Dispatch.IO).registerHandler(blockingHandler, Dispatch.IO);
+        eventsCenter.post(new NewResultAvailableEvent("blocks the thread"));
+        assertTrue(blockingHandler.isBlocking.await(5, TimeUnit.SECONDS));
+
+        TaskManager taskManager = new TaskManager();
+        for (BasicTask task : Arrays.asList(typicalTasks.camping, typicalTasks.tester, typicalTasks.meetTomForLunch)) {
+            taskManager.addTask(task);
+            eventsCenter.post(new TaskManagerChangedEvent(taskManager, TaskManagerDelta.added(task)));
+        }
+        blockingHandler.release.countDown();
+        eventsCenter.flush();
+
+        assertEquals(1, handler.changes.size());
+        TaskManagerChangedEvent merged = handler.changes.get(0);
+        assertNull(merged.data);
+        assertEquals(3, merged.change.getAddedTasks().size());
+    }
+
+    @Test
+    public void post_changeWithUnknownChangeMerged_changeUnknown() throws Exception {
+        ChangeHandler handler = new ChangeHandler();
+        BlockingHandler blockingHandler = new BlockingHandler();
+        EventsCenter eventsCenter = EventsCenter.getInstance().setSynchronous(false);
+        eventsCenter.registerHandler(handler, Dispatch.IO).registerHandler(blockingHandler, Dispatch.IO);
+        eventsCenter.post(new NewResultAvailableEvent("blocks the thread"));
+        assertTrue(blockingHandler.isBlocking.await(5, TimeUnit.SECONDS));
+
+        TaskManager taskManager = new TaskManager();
+        taskManager.addTask(typicalTasks.camping);
+        eventsCenter.post(new TaskManagerChangedEvent(taskManager, TaskManagerDelta.added(typicalTasks.camping)));
+        eventsCenter.post(new TaskManagerChangedEvent(taskManager));
+        blockingHandler.release.countDown();
+        eventsCenter.flush();
+
+        assertEquals(1, handler.changes.size());
+        assertNull(handler.changes.get(0).change);
+        assertEquals(1, handler.changes.get(0).data.getTaskList().size());
+    }
+
+    @Test
+    public void post_knownChangeAfterUnknownChangeMerged_snapshotKeptWithChangeSinceIt() throws Exception {
+        ChangeHandler handler = new ChangeHandler();
+        BlockingHandler blockingHandler = new BlockingHandler();
+        EventsCenter eventsCenter = EventsCenter.getInstance().setSynchronous(false);
+        eventsCenter.registerHandler(handler, Dispatch.IO).registerHandler(blockingHandler, Dispatch.IO);
+        eventsCenter.post(new NewResultAvailableEvent("blocks the thread"));
+        assertTrue(blockingHandler.isBlocking.await(5, TimeUnit.SECONDS));
+
+        TaskManager taskManager = new TaskManager();
+        taskManager.addTask(typicalTasks.camping);
+        eventsCenter.post(new TaskManagerChangedEvent(taskManager));
+        taskManager.addTask(typicalTasks.tester);
+        eventsCenter.post(new TaskManagerChangedEvent(taskManager, TaskManagerDelta.added(typicalTasks.tester)));
+        blockingHandler.release.countDown();
+        eventsCenter.flush();
+
+        assertEquals(1, handler.changes.size());
+        TaskManagerChangedEvent merged = handler.changes.get(0);
+        assertNull(merged.change);
+        assertEquals(1, merged.data.getTaskList().size());
+        assertEquals(Arrays.asList(typicalTasks.tester), merged.changeSinceData.getAddedTasks());
+    }
+
+    @Test
+    public void post_asynchronousIoUnchanged_notHandled() throws Exception {
+        ChangeHandler handler = new ChangeHandler();
+        EventsCenter eventsCenter = EventsCenter.getInstance().setSynchronous(false);
+        eventsCenter.registerHandler(handler, Dispatch.IO);
+
+        eventsCenter.post(new TaskManagerChangedEvent(new TaskManager(), TaskManagerDelta.unchanged()));
+        eventsCenter.flush();
+
+        assertTrue(handler.changes.isEmpty());
+    }
+
+    @Test
+    public void post_asynchronous_postingThreadHandlersHandleBeforeReturning() {
+        ChangeHandler handler = new ChangeHandler();
+        EventsCenter.getInstance().setSynchronous(false).registerHandler(handler);
+
+        EventsCenter.getInstance().post(new TaskManagerChangedEvent(new TaskManager()));
+
+        assertEquals(1, handler.changes.size());
+        assertEquals(Thread.currentThread(), handler.handlingThread);
+    }
+
+    private static class ChangeHandler {
+        private final List<TaskManagerChangedEvent> changes = new ArrayList<>();
+        private volatile Thread handlingThread;
+
+        @Subscribe
+        private void handleTaskManagerChangedEvent(TaskManagerChangedEvent event) {
+            handlingThread = Thread.currentThread();
+            synchronized (changes) {
+                changes.add(event);
+            }
+        }
+    }
+
+    /**
+     * Keeps the thread it handles events on busy until it is released.
+     */
+    private static class BlockingHandler {
+        private final CountDownLatch isBlocking = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Subscribe
+        private void handleNewResultAvailableEvent(NewResultAvailableEvent event) throws InterruptedException {
+            isBlocking.countDown();
+            release.await();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.whatsnext.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.whatsnext.commons.core.MetricsCenter.Phase;
+
+public class MetricsCenterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final MetricsCenter metrics = MetricsCenter.getInstance();
+
+    @Before
+    public void setUp() {
+        metrics.clear();
+    }
+
+    @After
+    public void tearDown() {
+        metrics.startCommand(MetricsCenter.NO_COMMAND);
+        metrics.clear();
+    }
+
+    @Test
+    public void recordTime_currentCommandOfThread_recordedUnderCommand() throws Exception {
+        metrics.startCommand("edit");
+        metrics.recordTime(Phase.SAVE, TimeUnit.MILLISECONDS.toNanos(3));
+        Thread backgroundThread = new Thread(() -> metrics.recordTime(Phase.SAVE, TimeUnit.MILLISECONDS.toNanos(5)));
+        backgroundThread.start();
+        backgroundThread.join();
+
+        String summary = metrics.getSummary();
+        assertTrue(summary, summary.contains("\nedit save: 1, 3.00, 3.00, 3.00"));
+        assertTrue(summary, summary.contains("\n" + MetricsCenter.NO_COMMAND + " save: 1, 5.00, 5.00, 5.00"));
+    }
+
+    @Test
+    public void writeCsv_timesAndCounts_oneLineEach() throws Exception {
+        metrics.startCommand("add");
+        metrics.recordTime(Phase.PARSE, TimeUnit.MICROSECONDS.toNanos(10));
+        metrics.recordTime(Phase.PARSE, TimeUnit.MICROSECONDS.toNanos(12));
+        metrics.recordCount(MetricsCenter.SNAPSHOT_TASKS, 7);
+
+        Path file = testFolder.getRoot().toPath().resolve("metrics.csv");
+        metrics.writeCsv(file);
+
+        assertEquals(Arrays.asList("metric,unit,count,mean,p50,p95,p99,max",
+                "add.parse,us,2,11.0,10,12,12,12",
+                MetricsCenter.SNAPSHOT_TASKS + ",,1,7.0,7,7,7,7"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void registerMBeans_histogramsShownThroughJmx() throws Exception {
+        metrics.startCommand("delete");
+        metrics.recordTime(Phase.MODEL, TimeUnit.MICROSECONDS.toNanos(40));
+        metrics.registerMBeans();
+        metrics.recordCount(MetricsCenter.SNAPSHOT_TASKS, 9);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1L, server.getAttribute(
+                new ObjectName("seedu.whatsnext:type=CommandLatency,command=\"delete\",phase=model"), "Count"));
+        assertEquals(9L, server.getAttribute(
+                new ObjectName("seedu.whatsnext:type=Count,name=\"" + MetricsCenter.SNAPSHOT_TASKS + "\""), "Max"));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.whatsnext.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getP50());
+        assertEquals(0, histogram.getMean(), 0.0);
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.getCount());
+        assertEquals(55, histogram.getTotal());
+        assertEquals(5.5, histogram.getMean(), 0.0);
+        assertEquals(5, histogram.getP50());
+        assertEquals(10, histogram.getP95());
+        assertEquals(10, histogram.getMax());
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinBucketPrecision() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertWithinPrecision(50000000, histogram.getP50());
+        assertWithinPrecision(95000000, histogram.getP95());
+        assertWithinPrecision(99000000, histogram.getP99());
+        assertEquals(100000000, histogram.getMax());
+    }
+
+    @Test
+    public void getPercentile_extremeValues_cappedAtMax() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual + " is not within 1/16 of " + expected,
+                actual >= expected && actual <= expected + expected / 16);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.whatsnext.commons.util;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,6 +20,11 @@ public class AppUtilTest {
     }
 
 
+    @Test
+    public void getImage_loadedTwice_sameImageShared() {
+        assertSame(AppUtil.getImage("/images/calendaricon.png"), AppUtil.getImage("/images/calendaricon.png"));
+    }
+
     @Test
     public void getImage_nullGiven_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
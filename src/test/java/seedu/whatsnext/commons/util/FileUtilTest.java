@@ -1,18 +1,25 @@
 package seedu.whatsnext.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.io.IOException;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 public class FileUtilTest {
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void getPath() {
 
@@ -28,4 +35,38 @@ public class FileUtilTest {
         FileUtil.getPath("folder");
     }
 
+    @Test
+    public void writeAtomically_repeatedWrites_keepsRollingBackups() throws Exception {
+        File file = new File(testFolder.getRoot(), "data/atomic.txt");
+        for (int i = 1; i <= 4; i++) {
+            String content = "version " + i;
+            FileUtil.writeAtomically(file, 2, temp -> FileUtil.writeToFile(temp, content));
+        }
+
+        assertEquals("version 4", FileUtil.readFromFile(file));
+        assertEquals("version 3", FileUtil.readFromFile(FileUtil.getBackupFile(file, 1)));
+        assertEquals("version 2", FileUtil.readFromFile(FileUtil.getBackupFile(file, 2)));
+        assertFalse(FileUtil.getBackupFile(file, 3).exists());
+        assertEquals(3, file.getParentFile().list().length);
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        File file = new File(testFolder.getRoot(), "atomic.txt");
+        FileUtil.writeAtomically(file, 1, temp -> FileUtil.writeToFile(temp, "original"));
+
+        try {
+            FileUtil.writeAtomically(file, 1, temp -> {
+                FileUtil.writeToFile(temp, "partial");
+                throw new IOException("Disk full");
+            });
+            fail("The writer failure should be rethrown");
+        } catch (IOException e) {
+            assertEquals("Disk full", e.getMessage());
+        }
+
+        assertEquals("original", FileUtil.readFromFile(file));
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
+
 }
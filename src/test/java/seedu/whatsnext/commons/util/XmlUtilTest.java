@@ -96,4 +96,20 @@ public class XmlUtilTest {
         dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableTaskManager.class);
         assertEquals((new TaskManager(dataToWrite)).toString(), (new TaskManager(dataFromFile)).toString());
     }
+
+    @Test
+    public void getDataFromFile_afterEmptyFile_dataRead() throws Exception {
+        try {
+            XmlUtil.getDataFromFile(EMPTY_FILE, XmlSerializableTaskManager.class);
+        } catch (JAXBException e) {
+            // expected, the unmarshaller that failed is not reused
+        }
+
+        TEMP_FILE.createNewFile();
+        TaskManager original = new TaskManagerBuilder(new TaskManager())
+                .withTask(TestUtil.generateSampleTaskData().get(0)).build();
+        XmlUtil.saveDataToFile(TEMP_FILE, new XmlSerializableTaskManager(original));
+        XmlSerializableTaskManager dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableTaskManager.class);
+        assertEquals(original.toString(), new TaskManager(dataFromFile).toString());
+    }
 }
@@ -32,6 +32,8 @@ import org.junit.rules.TemporaryFolder;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.whatsnext.commons.core.EventsCenter;
+import seedu.whatsnext.commons.core.EventsCenter.Dispatch;
+import seedu.whatsnext.commons.core.MetricsCenter;
 import seedu.whatsnext.commons.core.index.Index;
 import seedu.whatsnext.commons.events.model.TaskManagerChangedEvent;
 import seedu.whatsnext.commons.events.ui.JumpToListRequestEvent;
@@ -60,6 +62,7 @@ import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.model.task.DateTime;
 import seedu.whatsnext.model.task.TaskDescription;
 import seedu.whatsnext.model.task.TaskName;
+import seedu.whatsnext.model.task.TaskSearchQuery;
 import seedu.whatsnext.model.task.exceptions.TagNotFoundException;
 import seedu.whatsnext.testutil.TaskBuilder;
 
@@ -99,7 +102,8 @@ public class LogicManagerTest {
     public void setUp() {
         model = new ModelManager();
         logic = new LogicManager(model);
-        EventsCenter.getInstance().registerHandler(this);
+        // the handlers stand in for the UI, which handles these events
+        EventsCenter.getInstance().registerHandler(this, Dispatch.UI);
 
         latestSavedTaskManager = new TaskManager(model.getTaskManager()); // last saved assumed to be up to date
         helpShown = false;
@@ -186,6 +190,21 @@ public class LogicManagerTest {
         assertTrue(helpShown);
     }
 
+    @Test
+    public void execute_recordsTimeOfEachPhase() {
+        MetricsCenter.getInstance().clear();
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, new ModelManager());
+        assertParseException("helpme", MESSAGE_UNKNOWN_COMMAND);
+
+        String summary = MetricsCenter.getInstance().getSummary();
+        assertTrue(summary.contains("\nhelp parse: 1, "));
+        assertTrue(summary.contains("\nhelp execute: 1, "));
+        // the help window is opened by handling an event of the UI
+        assertTrue(summary.contains("\nhelp ui: 1, "));
+        assertTrue(summary.contains("\n" + LogicManager.INVALID_COMMAND + " parse: 1, "));
+        assertTrue(summary.contains("\n" + MetricsCenter.EVENT_HANDLERS_PREFIX + "ShowHelpRequestEvent: 1, 1.0, "));
+    }
+
     @Test
     public void execute_exit() {
         assertCommandSuccess(ExitCommand.COMMAND_WORD, ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT, new ModelManager());
@@ -490,6 +509,25 @@ public class LogicManagerTest {
                 expectedModel);
     }
 
+    @Test
+    public void execute_findPrefixAndTypos_bestMatchesFirst() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        BasicTask pTarget1 = new TaskBuilder().withName("bla keyboard bla").build();
+        BasicTask pTarget2 = new TaskBuilder().withName("bla KEY").build();
+        BasicTask pTarget3 = new TaskBuilder().withName("bla").withDescription("kye").build();
+        BasicTask p1 = new TaskBuilder().withName("sduauo").build();
+
+        List<BasicTask> fourTasks = helper.generateTaskList(pTarget1, p1, pTarget2, pTarget3);
+        Model expectedModel = new ModelManager(helper.generateTaskManger(fourTasks), new UserPrefs());
+        expectedModel.updateFilteredTaskList(new TaskSearchQuery(Arrays.asList(new TaskSearchQuery.Term("key*"),
+                new TaskSearchQuery.Term("kye~")), 2));
+        helper.addToModel(model, fourTasks);
+
+        assertCommandSuccess(FindCommand.COMMAND_WORD + " key* kye~ limit/2",
+                Command.getMessageForTaskListShownSummary(2), expectedModel);
+        assertEquals(Arrays.asList(pTarget2, pTarget1), model.getFilteredTaskList());
+    }
+
     @Test
     public void execute_verifyHistory_success() throws Exception {
         String validCommand = "clear all";
@@ -1,6 +1,8 @@
 package seedu.whatsnext.logic.commands;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.junit.Before;
@@ -10,7 +12,9 @@ import seedu.whatsnext.logic.CommandHistory;
 import seedu.whatsnext.logic.commands.exceptions.CommandException;
 import seedu.whatsnext.model.Model;
 import seedu.whatsnext.model.ModelManager;
+import seedu.whatsnext.model.TaskManager;
 import seedu.whatsnext.model.UserPrefs;
+import seedu.whatsnext.model.tag.Tag;
 import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.testutil.TaskBuilder;
 import seedu.whatsnext.testutil.TypicalTasks;
@@ -55,6 +59,52 @@ public class AddCommandIntegrationTest {
         }
     }
 
+    @Test
+    public void execute_duplicateTaskAfterUndo_redoHistoryKept() throws Exception {
+        BasicTask validTask = new TaskBuilder().build();
+        BasicTask taskInList = new BasicTask(model.getTaskManager().getTaskList().get(0));
+        int taskCount = model.getTaskManager().getTaskList().size();
+        prepareCommand(validTask, model).execute();
+        model.undoTaskManager();
+
+        try {
+            prepareCommand(taskInList, model).execute();
+            fail("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertEquals(AddCommand.MESSAGE_DUPLICATE_TASK, ce.getMessage());
+        }
+
+        model.redoTaskManager();
+        assertEquals(taskCount + 1, model.getTaskManager().getTaskList().size());
+    }
+
+    @Test
+    public void execute_eventOverlappingOtherEvent_otherEventRetaggedInSameChange() throws Exception {
+        BasicTask camping = new TaskBuilder().withName("Camping trip").withStartDateTime("20 Dec 2030 6pm")
+                .withEndDateTime("25 Dec 2030 12pm").build();
+        BasicTask skiing = new TaskBuilder().withName("Skiing").withStartDateTime("21 Dec 2030 9am")
+                .withEndDateTime("21 Dec 2030 5pm").build();
+        model = new ModelManager(new TaskManager(), new UserPrefs());
+        model.addTask(camping);
+
+        prepareCommand(skiing, model).execute();
+        assertTrue(hasOverlapTag("Camping trip"));
+        assertTrue(hasOverlapTag("Skiing"));
+
+        model.undoTaskManager();
+        assertEquals(1, model.getTaskManager().getTaskList().size());
+        assertFalse(hasOverlapTag("Camping trip"));
+    }
+
+    private boolean hasOverlapTag(String taskName) {
+        for (BasicTask task : model.getTaskManager().getTaskList()) {
+            if (task.getName().fullTaskName.equals(taskName)) {
+                return task.getTags().stream().anyMatch(tag -> tag.tagName.equals(Tag.RESERVED_TAG_OVERLAP));
+            }
+        }
+        throw new AssertionError(taskName + " is not in the task list");
+    }
+
     /**
      * Generates a new {@code AddCommand} which upon execution, adds {@code task} into the {@code model}.
      */
@@ -5,6 +5,7 @@ import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Rule;
@@ -22,6 +23,7 @@ import seedu.whatsnext.model.ReadOnlyTaskManager;
 import seedu.whatsnext.model.TaskManager;
 import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
+import seedu.whatsnext.model.task.TaskSearchQuery;
 import seedu.whatsnext.model.task.exceptions.DuplicateTaskException;
 import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
 import seedu.whatsnext.testutil.TaskBuilder;
@@ -121,6 +123,31 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void cancelBatch() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public List<BasicTask> getOverlappingEvents(BasicTaskFeatures event) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void retagOverlappingEvents(BasicTaskFeatures changedEvent) {
+            return;
+        }
+
         @Override
         public UnmodifiableObservableList<BasicTaskFeatures> getFilteredTaskList() {
             fail("This method should not be called.");
@@ -137,6 +164,11 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredTaskList(TaskSearchQuery query) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void undoTaskManager() {
             fail("This method should not be called.");
@@ -189,11 +221,6 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
-        @Override
-        public void resetPrevTaskManager() {
-            fail("This method should not be called.");
-        }
-
         @Override
         public void updateFilteredTaskListToShowUpcomingTasks() {
             fail("This method should not be called.");
@@ -223,7 +250,12 @@ public class AddCommandTest {
         }
 
         @Override
-        public void resetPrevTaskManager() {
+        public void beginBatch() {
+            return;
+        }
+
+        @Override
+        public void cancelBatch() {
             return;
         }
 
@@ -249,6 +281,16 @@ public class AddCommandTest {
             tasksAdded.add(new BasicTask(task));
         }
 
+        @Override
+        public void beginBatch() {
+            return;
+        }
+
+        @Override
+        public void endBatch() {
+            return;
+        }
+
         @Override
         public UnmodifiableObservableList<BasicTaskFeatures> getFilteredTaskList() {
             ObservableList<BasicTask> observableList = FXCollections.observableArrayList(tasksAdded);
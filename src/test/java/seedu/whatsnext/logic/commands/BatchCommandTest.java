@@ -0,0 +1,105 @@
+package seedu.whatsnext.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.whatsnext.commons.events.model.TaskManagerChangedEvent;
+import seedu.whatsnext.commons.util.FileUtil;
+import seedu.whatsnext.logic.CommandHistory;
+import seedu.whatsnext.logic.commands.exceptions.CommandException;
+import seedu.whatsnext.model.Model;
+import seedu.whatsnext.model.ModelManager;
+import seedu.whatsnext.model.UserPrefs;
+import seedu.whatsnext.model.task.BasicTaskFeatures;
+import seedu.whatsnext.testutil.EventsCollector;
+import seedu.whatsnext.testutil.TypicalTasks;
+
+/**
+ * Contains integration tests (interaction with the Model) for BatchCommand.
+ */
+public class BatchCommandTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final Model model = new ModelManager(new TypicalTasks().getTypicalTaskManager(), new UserPrefs());
+    private final List<BasicTaskFeatures> originalTasks = new ArrayList<>(model.getTaskManager().getTaskList());
+    private final EventsCollector eventsCollector = new EventsCollector();
+
+    @Test
+    public void execute_validCommands_singleChangeUndoneAtOnce() throws Exception {
+        File script = writeScript("# imported tasks", "add Batch one", "", "add Batch two", "add Batch three");
+
+        CommandResult result = execute(script);
+
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 3, script), result.feedbackToUser);
+        assertEquals(originalTasks.size() + 3, model.getTaskManager().getTaskList().size());
+        List<TaskManagerChangedEvent> changedEvents = eventsCollector.get(TaskManagerChangedEvent.class);
+        assertEquals(1, changedEvents.size());
+        assertEquals(3, changedEvents.get(0).change.getAddedTasks().size());
+        assertTrue(changedEvents.get(0).change.getRemovedTasks().isEmpty());
+
+        model.undoTaskManager();
+        assertEquals(originalTasks, model.getTaskManager().getTaskList());
+    }
+
+    @Test
+    public void execute_failingCommand_noChanges() throws Exception {
+        File script = writeScript("add Batch one", "add Batch two", "add Batch one");
+        assertBatchFailure(script, String.format(BatchCommand.MESSAGE_LINE_FAILED, 3,
+                AddCommand.MESSAGE_DUPLICATE_TASK));
+    }
+
+    @Test
+    public void execute_undoInBatch_noChanges() throws Exception {
+        File script = writeScript("add Batch one", UndoCommand.COMMAND_WORD);
+        assertBatchFailure(script, String.format(BatchCommand.MESSAGE_LINE_FAILED, 2,
+                BatchCommand.MESSAGE_COMMAND_NOT_ALLOWED));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() throws Exception {
+        File missingFile = new File(testFolder.getRoot(), "missing.txt");
+        assertBatchFailure(missingFile, String.format(BatchCommand.MESSAGE_CANNOT_READ_FILE, missingFile));
+    }
+
+    /**
+     * Executes a batch of {@code script}, and confirms that it fails with {@code expectedMessage} and leaves the
+     * tasks of the model as they were, without reporting a change of the tasks.
+     */
+    private void assertBatchFailure(File script, String expectedMessage) throws Exception {
+        try {
+            execute(script);
+            fail("The expected CommandException was not thrown.");
+        } catch (CommandException e) {
+            assertEquals(expectedMessage, e.getMessage());
+        }
+        assertEquals(originalTasks, model.getTaskManager().getTaskList());
+        for (TaskManagerChangedEvent event : eventsCollector.get(TaskManagerChangedEvent.class)) {
+            assertTrue(event.change.getAddedTasks().isEmpty());
+            assertTrue(event.change.getRemovedTasks().isEmpty());
+        }
+    }
+
+    private CommandResult execute(File script) throws Exception {
+        BatchCommand command = new BatchCommand(script);
+        command.setData(model, new CommandHistory());
+        return command.execute();
+    }
+
+    private File writeScript(String... lines) throws Exception {
+        File script = testFolder.newFile("script.txt");
+        FileUtil.writeToFile(script, String.join(System.lineSeparator(), Arrays.asList(lines)));
+        return script;
+    }
+}
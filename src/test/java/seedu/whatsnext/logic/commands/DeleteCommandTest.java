@@ -1,5 +1,7 @@
 package seedu.whatsnext.logic.commands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.whatsnext.testutil.TypicalTasks.INDEX_FIRST_TASK;
 import static seedu.whatsnext.testutil.TypicalTasks.INDEX_SECOND_TASK;
@@ -15,8 +17,12 @@ import seedu.whatsnext.commons.core.index.Index;
 import seedu.whatsnext.logic.CommandHistory;
 import seedu.whatsnext.model.Model;
 import seedu.whatsnext.model.ModelManager;
+import seedu.whatsnext.model.TaskManager;
 import seedu.whatsnext.model.UserPrefs;
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
+import seedu.whatsnext.testutil.TaskBuilder;
 import seedu.whatsnext.testutil.TypicalTasks;
 
 /**
@@ -78,6 +84,31 @@ public class DeleteCommandTest {
 
 
 
+    @Test
+    public void execute_eventOverlappingOtherEvent_otherEventUntagged() throws Exception {
+        model = new ModelManager(new TaskManager(), new UserPrefs());
+        model.addTask(new TaskBuilder().withName("Camping trip").withStartDateTime("20 Dec 2030 6pm")
+                .withEndDateTime("25 Dec 2030 12pm").withTags(Tag.RESERVED_TAG_OVERLAP).build());
+        model.addTask(new TaskBuilder().withName("Skiing").withStartDateTime("21 Dec 2030 9am")
+                .withEndDateTime("21 Dec 2030 5pm").withTags(Tag.RESERVED_TAG_OVERLAP).build());
+        model.updateFilteredListToShowAll();
+
+        prepareCommand(Index.fromOneBased(indexOf("Skiing") + 1)).execute();
+
+        assertEquals(1, model.getTaskManager().getTaskList().size());
+        BasicTask camping = model.getTaskManager().getTaskList().get(0);
+        assertFalse(camping.getTags().stream().anyMatch(tag -> tag.tagName.equals(Tag.RESERVED_TAG_OVERLAP)));
+    }
+
+    private int indexOf(String taskName) {
+        for (int i = 0; i < model.getFilteredTaskList().size(); i++) {
+            if (model.getFilteredTaskList().get(i).getName().fullTaskName.equals(taskName)) {
+                return i;
+            }
+        }
+        throw new AssertionError(taskName + " is not shown");
+    }
+
     /**
      * Returns a {@code DeleteCommand} with the parameter {@code index}.
      */
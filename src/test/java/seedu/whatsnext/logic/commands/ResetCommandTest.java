@@ -17,6 +17,7 @@ import seedu.whatsnext.model.ModelManager;
 import seedu.whatsnext.model.UserPrefs;
 import seedu.whatsnext.model.task.BasicTaskFeatures;
 import seedu.whatsnext.model.task.DateTime;
+import seedu.whatsnext.model.util.OverlapTagUtil;
 import seedu.whatsnext.testutil.TypicalTasks;
 
 
@@ -33,7 +34,7 @@ public class ResetCommandTest {
         String expectedMessage = String.format(ResetCommand.MESSAGE_RESET_TASK_SUCCESS, taskToReset);
 
         ModelManager expectedModel = new ModelManager(model.getTaskManager(), new UserPrefs());
-        BasicTaskFeatures resetedTask = EditCommand.createNonOverlapTask(taskToReset);
+        BasicTaskFeatures resetedTask = OverlapTagUtil.withoutOverlapTag(taskToReset);
 
         DateTime initDateTime = new DateTime();
 
@@ -54,7 +55,7 @@ public class ResetCommandTest {
         String expectedMessage = String.format(ResetCommand.MESSAGE_RESET_FLOATING_TASK, taskToReset);
 
         ModelManager expectedModel = new ModelManager(model.getTaskManager(), new UserPrefs());
-        BasicTaskFeatures resetedTask = EditCommand.createNonOverlapTask(taskToReset);
+        BasicTaskFeatures resetedTask = OverlapTagUtil.withoutOverlapTag(taskToReset);
 
         DateTime initDateTime = new DateTime();
 
@@ -84,7 +85,7 @@ public class ResetCommandTest {
         String expectedMessage = String.format(ResetCommand.MESSAGE_RESET_TASK_SUCCESS, taskToReset);
 
         ModelManager expectedModel = new ModelManager(model.getTaskManager(), new UserPrefs());
-        BasicTaskFeatures resetedTask = EditCommand.createNonOverlapTask(taskToReset);
+        BasicTaskFeatures resetedTask = OverlapTagUtil.withoutOverlapTag(taskToReset);
 
         DateTime initDateTime = new DateTime();
 
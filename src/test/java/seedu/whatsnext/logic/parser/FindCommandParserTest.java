@@ -0,0 +1,50 @@
+package seedu.whatsnext.logic.parser;
+
+import static org.junit.Assert.assertTrue;
+import static seedu.whatsnext.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.whatsnext.logic.commands.FindCommand;
+import seedu.whatsnext.logic.parser.exceptions.ParseException;
+import seedu.whatsnext.model.task.TaskSearchQuery;
+
+public class FindCommandParserTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private FindCommandParser parser = new FindCommandParser();
+
+    @Test
+    public void parse_wordsAndPartialTerms_returnsFindCommand() throws Exception {
+        assertTrue(parser.parse("lunch tutorial") instanceof FindCommand);
+        assertTrue(parser.parse("meet* tutorail~ limit/10") instanceof FindCommand);
+    }
+
+    @Test
+    public void parse_limitWithoutKeywords_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        parser.parse("limit/5");
+    }
+
+    @Test
+    public void parse_invalidLimit_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(FindCommandParser.MESSAGE_INVALID_LIMIT);
+
+        parser.parse("meet* limit/0");
+    }
+
+    @Test
+    public void parse_invalidTerm_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(TaskSearchQuery.MESSAGE_TERM_CONSTRAINTS);
+
+        parser.parse("meet* ~");
+    }
+}
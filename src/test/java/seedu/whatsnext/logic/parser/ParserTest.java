@@ -5,9 +5,13 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static seedu.whatsnext.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.io.File;
+
 import org.junit.Test;
 
+import seedu.whatsnext.logic.commands.BatchCommand;
 import seedu.whatsnext.logic.commands.HistoryCommand;
+import seedu.whatsnext.logic.commands.StatsCommand;
 import seedu.whatsnext.logic.parser.exceptions.ParseException;
 
 /**
@@ -28,4 +32,15 @@ public class ParserTest {
             assertEquals(MESSAGE_UNKNOWN_COMMAND, pe.getMessage());
         }
     }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_batch() throws Exception {
+        assertEquals(new BatchCommand(new File("data/import.txt")),
+                parser.parseCommand(BatchCommand.COMMAND_WORD + " data/import.txt "));
+    }
 }
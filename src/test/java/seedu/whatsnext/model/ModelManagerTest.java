@@ -1,13 +1,23 @@
 package seedu.whatsnext.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
 import org.junit.Test;
 
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.BasicTaskFeatures;
+import seedu.whatsnext.model.task.DateTime;
+import seedu.whatsnext.model.task.TaskDescription;
+import seedu.whatsnext.model.task.TaskName;
+import seedu.whatsnext.testutil.TaskBuilder;
 import seedu.whatsnext.testutil.TaskManagerBuilder;
 import seedu.whatsnext.testutil.TypicalTasks;
 
@@ -16,6 +26,8 @@ import seedu.whatsnext.testutil.TypicalTasks;
  */
 public class ModelManagerTest {
 
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
     private TypicalTasks typicalTasks = new TypicalTasks();
 
     @Test
@@ -53,4 +65,80 @@ public class ModelManagerTest {
         differentUserPrefs.setTaskManagerName("differentName");
         assertTrue(modelManager.equals(new ModelManager(taskManager, differentUserPrefs)));
     }
+
+    @Test
+    public void updateFilteredTaskList_keywords_showsMatchesAndMatchesAddedLater() throws Exception {
+        TaskManager taskManager = new TaskManagerBuilder().withTask(typicalTasks.meetJohnForDinner)
+                .withTask(typicalTasks.meetTomForLunch).withTask(typicalTasks.camping).build();
+        ModelManager modelManager = new ModelManager(taskManager, new UserPrefs());
+
+        modelManager.updateFilteredTaskList(new HashSet<>(Arrays.asList("meet", "camping")));
+        assertEquals(3, modelManager.getFilteredTaskList().size());
+
+        modelManager.updateFilteredTaskList(new HashSet<>(Arrays.asList("lunch", "dinner")));
+        assertEquals(2, modelManager.getFilteredTaskList().size());
+
+        // tasks added after the find are tested against the keyword index as it is then
+        modelManager.addTask(new TaskBuilder().withName("Lunch with Ann").build());
+        modelManager.addTask(new TaskBuilder().withName("Breakfast with Ann").build());
+        assertEquals(3, modelManager.getFilteredTaskList().size());
+    }
+
+    @Test
+    public void updateFilteredTaskList_keywordsThenFoundTaskEdited_editedTaskTestedAgainstIndex() throws Exception {
+        BasicTask packBags = new TaskBuilder().withName("Pack bags").withTags("trip").build();
+        TaskManager taskManager = new TaskManagerBuilder().withTask(packBags)
+                .withTask(typicalTasks.meetTomForLunch).build();
+        ModelManager modelManager = new ModelManager(taskManager, new UserPrefs());
+        modelManager.updateFilteredTaskList(new HashSet<>(Arrays.asList("trip")));
+        assertEquals(1, modelManager.getFilteredTaskList().size());
+
+        // the edited task keeps the name that was found, but no longer matches
+        BasicTask retagged = new TaskBuilder(packBags).withTags("holiday").build();
+        modelManager.updateTask(packBags, retagged);
+        assertEquals(0, modelManager.getFilteredTaskList().size());
+
+        modelManager.updateTask(retagged, packBags);
+        assertEquals(1, modelManager.getFilteredTaskList().size());
+    }
+
+    @Test
+    public void updateFilteredTaskListToShowByExpiry_answeredFromTimeIndex_taskDatesNotRead() throws Exception {
+        long now = System.currentTimeMillis();
+        TaskManager taskManager = new TaskManagerBuilder().withTask(createDeadline("Past", now - DAY_MILLIS))
+                .withTask(createDeadline("Future", now + DAY_MILLIS)).withTask(typicalTasks.readaBook).build();
+        ModelManager modelManager = new ModelManager(taskManager, new UserPrefs());
+
+        modelManager.updateFilteredTaskListToShowByExpiry();
+        assertEquals(Collections.singletonList("Past"), getFilteredNames(modelManager));
+        modelManager.updateFilteredTaskListToShowUpcomingTasks();
+        assertEquals(Arrays.asList("Future", "Read a Book"), getFilteredNames(modelManager));
+
+        // moves the deadlines behind the back of the time index; the lists are built from the ranges of the index,
+        // so the date time of each task is not read again
+        for (BasicTask task : modelManager.getTaskManager().getTaskList()) {
+            if (task.getName().fullTaskName.equals("Past")) {
+                task.setEndDateTime(DateTime.fromEpochMillis(now + DAY_MILLIS));
+            } else if (task.getName().fullTaskName.equals("Future")) {
+                task.setEndDateTime(DateTime.fromEpochMillis(now - DAY_MILLIS));
+            }
+        }
+        modelManager.updateFilteredTaskListToShowByExpiry();
+        assertEquals(Collections.singletonList("Past"), getFilteredNames(modelManager));
+        modelManager.updateFilteredTaskListToShowUpcomingTasks();
+        assertEquals(Arrays.asList("Future", "Read a Book"), getFilteredNames(modelManager));
+    }
+
+    private static BasicTask createDeadline(String name, long endMillis) throws Exception {
+        return new BasicTask(new TaskName(name), new TaskDescription(), DateTime.fromEpochMillis(endMillis),
+                Collections.emptySet());
+    }
+
+    private static List<String> getFilteredNames(ModelManager modelManager) {
+        List<String> names = new ArrayList<>();
+        for (BasicTaskFeatures task : modelManager.getFilteredTaskList()) {
+            names.add(task.getName().fullTaskName);
+        }
+        return names;
+    }
 }
@@ -0,0 +1,69 @@
+package seedu.whatsnext.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class DateTimeInputParserTest {
+
+    private static final DateTimeFormatter STORED_FORMAT = DateTimeFormatter.ofPattern("EEE d MMM yyyy hh:mm a");
+
+    private final AtomicInteger naturalLanguageCount = new AtomicInteger();
+    private final DateTimeInputParser parser = new DateTimeInputParser(STORED_FORMAT, dateTime -> {
+        naturalLanguageCount.incrementAndGet();
+        return dateTime;
+    }, 2, Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+
+    @Test
+    public void parse_storedFormat_parsedWithoutNaturalLanguage() {
+        assertEquals(LocalDateTime.of(2017, 7, 4, 18, 0), parser.parse("Tue 4 Jul 2017 06:00 PM").get());
+        assertEquals(0, naturalLanguageCount.get());
+        assertEquals(0, parser.getCachedCount());
+    }
+
+    @Test
+    public void parse_storedFormatWithWrongDayOfWeek_parsedAsNaturalLanguage() {
+        parser.parse("Mon 4 Jul 2017 06:00 PM");
+        assertEquals(1, naturalLanguageCount.get());
+    }
+
+    @Test
+    public void parse_repeatedNaturalLanguage_resolvedOnce() {
+        LocalDateTime first = parser.parse("4 July 2017, 6pm").get();
+        LocalDateTime second = parser.parse("4 July 2017, 6pm").get();
+
+        assertEquals(first, second);
+        assertEquals(LocalDateTime.of(2017, 7, 4, 18, 0), first.withSecond(0).withNano(0));
+        assertEquals(1, naturalLanguageCount.get());
+    }
+
+    @Test
+    public void parse_moreInputsThanCacheSize_leastRecentlyUsedEvicted() {
+        parser.parse("4 July 2017, 6pm");
+        parser.parse("5 July 2017, 6pm");
+        parser.parse("4 July 2017, 6pm");
+        parser.parse("6 July 2017, 6pm");
+        assertEquals(2, parser.getCachedCount());
+        assertEquals(3, naturalLanguageCount.get());
+
+        parser.parse("4 July 2017, 6pm");
+        assertEquals(3, naturalLanguageCount.get());
+        parser.parse("5 July 2017, 6pm");
+        assertEquals(4, naturalLanguageCount.get());
+    }
+
+    @Test
+    public void parse_notADate_emptyResultCached() {
+        assertFalse(parser.parse("not a date").isPresent());
+        assertFalse(parser.parse("not a date").isPresent());
+        assertEquals(1, parser.getCachedCount());
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.whatsnext.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+
+public class DateTimeTest {
+
+    @Test
+    public void isEmpty_emptyValues_true() throws Exception {
+        assertTrue(DateTime.EMPTY.isEmpty());
+        assertTrue(new DateTime().isEmpty());
+        assertTrue(new DateTime(DateTime.INIT_DATETIME_VALUE).isEmpty());
+        assertEquals(DateTime.INIT_DATETIME_VALUE, DateTime.EMPTY.toString());
+    }
+
+    @Test
+    public void fromEpochMillis_roundTrip_sameValue() {
+        long epochMillis = 1500000000000L;
+        DateTime dateTime = DateTime.fromEpochMillis(epochMillis);
+
+        assertEquals(epochMillis, dateTime.getEpochMillis());
+        assertFalse(dateTime.isEmpty());
+        assertTrue(DateTime.EMPTY.isBefore(dateTime));
+    }
+
+    @Test
+    public void displayDateTime_parsedBack_sameMinute() throws Exception {
+        DateTime dateTime = new DateTime("4 July 2017, 6pm");
+
+        assertEquals("Tue 4 Jul 2017 06:00 PM", dateTime.displayDateTime());
+        assertTrue(dateTime.equals(new DateTime(dateTime.displayDateTime())));
+    }
+
+    @Test
+    public void equals_sameMinute_equalWithSameHashCodeAndComparedEqual() throws Exception {
+        DateTime dateTime = DateTime.fromStoredString("2017-07-04T18:00");
+        DateTime sameMinute = DateTime.fromStoredString("2017-07-04T18:00:59.999");
+        DateTime nextMinute = DateTime.fromStoredString("2017-07-04T18:01");
+
+        assertTrue(dateTime.equals((Object) sameMinute));
+        assertEquals(dateTime.hashCode(), sameMinute.hashCode());
+        assertEquals(0, dateTime.compareTo(sameMinute));
+        assertFalse(dateTime.isBefore(sameMinute));
+        assertTrue(dateTime.isBeforeOrEqual(sameMinute) && dateTime.isAfterOrEqual(sameMinute));
+
+        assertFalse(sameMinute.equals(nextMinute));
+        assertTrue(sameMinute.compareTo(nextMinute) < 0);
+        assertTrue(sameMinute.isBefore(nextMinute));
+        assertFalse(dateTime.equals(null));
+        assertFalse(dateTime.equals("2017-07-04T18:00"));
+    }
+
+    @Test
+    public void fromStoredString_roundTrip_sameValue() throws Exception {
+        DateTime dateTime = DateTime.fromEpochMillis(1500000005123L);
+
+        assertEquals(dateTime.getEpochMillis(), DateTime.fromStoredString(dateTime.toStoredString()).getEpochMillis());
+        assertEquals("2017-07-04T18:00", DateTime.fromStoredString("2017-07-04T18:00").toStoredString());
+        assertEquals("2017-07-04T18:00:05.120",
+                DateTime.fromStoredString("2017-07-04T18:00:05.12").toStoredString());
+    }
+
+    @Test
+    public void toStoredEpochMillis_localFieldsReadInUtc_roundTrip() throws Exception {
+        DateTime dateTime = DateTime.fromStoredString("2017-07-04T18:00:05.12");
+
+        assertEquals(1499191205120L, dateTime.toStoredEpochMillis());
+        assertEquals(dateTime.toStoredString(),
+                DateTime.fromStoredEpochMillis(dateTime.toStoredEpochMillis()).toStoredString());
+    }
+
+    @Test
+    public void fromStoredString_invalidValues_throwsIllegalValueException() {
+        String[] invalidValues = {"", "Tue 4 Jul 2017 06:00 PM", "2017-07-04 18:00", "2017-07-04T18",
+            "2017-7-04T18:00", "2017-07-04T18:00:0", "2017-07-04T18:00:05.", "2017-02-30T18:00", "2017-07-04T25:00"};
+        for (String invalidValue : invalidValues) {
+            try {
+                DateTime.fromStoredString(invalidValue);
+                fail("Expected IllegalValueException for " + invalidValue);
+            } catch (IllegalValueException e) {
+                // expected
+            }
+        }
+    }
+}
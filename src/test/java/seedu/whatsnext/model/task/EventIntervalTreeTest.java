@@ -0,0 +1,133 @@
+package seedu.whatsnext.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+import seedu.whatsnext.model.tag.Tag;
+
+public class EventIntervalTreeTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+    private final EventIntervalTree tree = uniqueTaskList.getEventIntervalTree();
+
+    @Test
+    public void findOverlapping_touchingAndContainedEvents_found() throws Exception {
+        BasicTask morning = event("Morning", "2030-01-01T09:00", "2030-01-01T12:00");
+        BasicTask lunch = event("Lunch", "2030-01-01T12:00", "2030-01-01T13:00");
+        BasicTask evening = event("Evening", "2030-01-01T18:00", "2030-01-01T20:00");
+        BasicTask deadline = new BasicTask(new TaskName("Report"), new TaskDescription(),
+                DateTime.fromStoredString("2030-01-01T12:30"), Collections.emptySet());
+        uniqueTaskList.setTasks(Arrays.asList(morning, lunch, evening, deadline));
+
+        assertEquals(3, tree.size());
+        assertEquals(Arrays.asList(morning, lunch), tree.findOverlapping(
+                DateTime.fromStoredString("2030-01-01T11:00"), DateTime.fromStoredString("2030-01-01T12:30")));
+        assertEquals(Arrays.asList(lunch), tree.findOverlapping(morning));
+        assertTrue(tree.hasOverlapping(lunch));
+        assertFalse(tree.hasOverlapping(evening));
+        assertFalse(tree.hasOverlapping(deadline));
+    }
+
+    @Test
+    public void findOverlapping_afterEditAndRemove_followsList() throws Exception {
+        BasicTask first = event("First", "2030-01-01T09:00", "2030-01-01T10:00");
+        BasicTask second = event("Second", "2030-01-01T11:00", "2030-01-01T12:00");
+        uniqueTaskList.add(first);
+        uniqueTaskList.add(second);
+        assertFalse(tree.hasOverlapping(first));
+
+        uniqueTaskList.updateTask(new BasicTask(second),
+                event("Second moved", "2030-01-01T09:30", "2030-01-01T10:30"));
+        assertEquals("Second moved", tree.findOverlapping(first).get(0).getName().fullTaskName);
+
+        uniqueTaskList.remove(first);
+        assertEquals(1, tree.size());
+        assertTrue(tree.findOverlapping(DateTime.fromStoredString("2030-01-01T09:00"),
+                DateTime.fromStoredString("2030-01-01T09:15")).isEmpty());
+    }
+
+    @Test
+    public void findStaleOverlapTags_afterRemove_onlyAffectedEventsReturned() throws Exception {
+        BasicTask first = event("First", "2030-01-01T09:00", "2030-01-01T10:00", Tag.RESERVED_TAG_OVERLAP);
+        BasicTask second = event("Second", "2030-01-01T09:30", "2030-01-01T11:00", Tag.RESERVED_TAG_OVERLAP);
+        BasicTask third = event("Third", "2030-01-01T10:30", "2030-01-01T11:30", Tag.RESERVED_TAG_OVERLAP);
+        BasicTask untagged = event("Untagged", "2030-01-02T09:00", "2030-01-02T10:00");
+        uniqueTaskList.setTasks(Arrays.asList(first, second, third, untagged));
+        assertTrue(tree.findStaleOverlapTags(second.getStartDateTime(), second.getEndDateTime()).isEmpty());
+
+        uniqueTaskList.remove(second);
+        List<BasicTask> staleEvents = tree.findStaleOverlapTags(second.getStartDateTime(),
+                second.getEndDateTime());
+        assertEquals(new HashSet<>(Arrays.asList(first, third)), new HashSet<>(staleEvents));
+    }
+
+    @Test
+    public void findOverlapping_randomEdits_sameAsScanningAllEvents() throws Exception {
+        Random random = new Random(2103);
+        List<BasicTask> events = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            BasicTask event = randomEvent("Event " + i, random);
+            uniqueTaskList.add(event);
+            events.add(event);
+        }
+        for (int i = 0; i < 200; i++) {
+            int index = random.nextInt(events.size());
+            if (random.nextBoolean()) {
+                uniqueTaskList.remove(events.remove(index));
+            } else {
+                BasicTask moved = randomEvent(events.get(index).getName().fullTaskName, random);
+                uniqueTaskList.updateTask(events.get(index), moved);
+                events.set(index, moved);
+            }
+        }
+
+        assertEquals(events.size(), tree.size());
+        for (BasicTask event : events) {
+            List<TaskName> expected = new ArrayList<>();
+            for (BasicTask other : events) {
+                if (other.eventTaskOverlap(event) && !other.equals(event)) {
+                    expected.add(other.getName());
+                }
+            }
+            List<TaskName> actual = new ArrayList<>();
+            for (BasicTask overlapping : tree.findOverlapping(event)) {
+                actual.add(overlapping.getName());
+            }
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+            assertEquals(expected.size(), actual.size());
+            assertEquals(!expected.isEmpty(), tree.hasOverlapping(event));
+        }
+    }
+
+    private static BasicTask randomEvent(String name, Random random) throws IllegalValueException {
+        int startMinute = random.nextInt(60 * 24 * 30);
+        int length = 1 + random.nextInt(60 * 8);
+        DateTime start = DateTime.fromStoredString(ORIGIN.plusMinutes(startMinute).toString());
+        DateTime end = DateTime.fromStoredString(ORIGIN.plusMinutes(startMinute + length).toString());
+        return new BasicTask(new TaskName(name), new TaskDescription(), false, start, end, Collections.emptySet());
+    }
+
+    private static BasicTask event(String name, String start, String end, String... tags)
+            throws IllegalValueException {
+        HashSet<Tag> tagSet = new HashSet<>();
+        for (String tag : tags) {
+            tagSet.add(new Tag(tag));
+        }
+        return new BasicTask(new TaskName(name), new TaskDescription(), false, DateTime.fromStoredString(start),
+                DateTime.fromStoredString(end), tagSet);
+    }
+}
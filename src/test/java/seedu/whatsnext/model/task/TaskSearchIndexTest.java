@@ -0,0 +1,73 @@
+package seedu.whatsnext.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.whatsnext.testutil.TaskBuilder;
+
+public class TaskSearchIndexTest {
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+    private BasicTask meetingNotes;
+    private BasicTask meetTom;
+    private BasicTask buyMilk;
+
+    @Before
+    public void setUp() throws Exception {
+        meetingNotes = new TaskBuilder().withName("Write meeting notes").withDescription("for the team").build();
+        meetTom = new TaskBuilder().withName("Meet Tom").build();
+        buyMilk = new TaskBuilder().withName("Buy milk").withDescription("before the meeting").build();
+        uniqueTaskList.setTasks(Arrays.asList(meetingNotes, meetTom, buyMilk));
+    }
+
+    @Test
+    public void search_wholeWord_exactMatchesOnly() throws Exception {
+        assertEquals(Arrays.asList(meetTom.getName()), search(50, "MEET"));
+    }
+
+    @Test
+    public void search_prefix_exactWordsRankedFirstThenNamesThenDescriptions() throws Exception {
+        assertEquals(Arrays.asList(meetTom.getName(), meetingNotes.getName(), buyMilk.getName()),
+                search(50, "meet*"));
+        assertEquals(Arrays.asList(meetTom.getName(), meetingNotes.getName()), search(2, "meet*"));
+    }
+
+    @Test
+    public void search_typos_matchesWithinTwoEdits() throws Exception {
+        assertEquals(Arrays.asList(meetingNotes.getName(), buyMilk.getName()), search(50, "meetnig~"));
+        assertEquals(Arrays.asList(buyMilk.getName()), search(50, "mlk~"));
+        assertTrue(search(50, "mxxxk~").isEmpty());
+    }
+
+    @Test
+    public void search_severalTerms_scoresAdded() throws Exception {
+        assertEquals(Arrays.asList(meetingNotes.getName(), meetTom.getName(), buyMilk.getName()),
+                search(50, "meet*", "notes"));
+    }
+
+    @Test
+    public void search_afterEditAndRemove_followsList() throws Exception {
+        BasicTask renamed = new TaskBuilder(meetTom).withName("Call Tom").build();
+        uniqueTaskList.updateTask(meetTom, renamed);
+        uniqueTaskList.remove(buyMilk);
+
+        assertEquals(Arrays.asList(meetingNotes.getName()), search(50, "meet*"));
+        assertEquals(Arrays.asList(renamed.getName()), search(50, "cal~"));
+        assertTrue(search(50, "milk").isEmpty());
+    }
+
+    private List<TaskName> search(int limit, String... keywords) throws Exception {
+        List<TaskSearchQuery.Term> terms = new ArrayList<>();
+        for (String keyword : keywords) {
+            terms.add(new TaskSearchQuery.Term(keyword));
+        }
+        return uniqueTaskList.getSearchIndex().search(new TaskSearchQuery(terms, limit));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.whatsnext.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.whatsnext.commons.exceptions.IllegalValueException;
+import seedu.whatsnext.model.task.TaskTimeIndex.TimeRange;
+
+public class TaskTimeIndexTest {
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+    private final TaskTimeIndex timeIndex = uniqueTaskList.getTimeIndex();
+    private BasicTask pastEvent;
+    private BasicTask nextEvent;
+    private BasicTask pastDeadline;
+    private BasicTask nextDeadline;
+    private BasicTask floating;
+
+    @Before
+    public void setUp() throws Exception {
+        pastEvent = event("Past event", "2030-01-01T09:00", "2030-01-01T10:00");
+        nextEvent = event("Next event", "2030-01-02T09:00", "2030-01-05T10:00");
+        pastDeadline = deadline("Past deadline", "2030-01-01T12:00");
+        nextDeadline = deadline("Next deadline", "2030-01-02T12:00");
+        floating = new BasicTask(new TaskName("Floating"), Collections.emptySet());
+        uniqueTaskList.setTasks(Arrays.asList(pastEvent, nextEvent, pastDeadline, nextDeadline, floating));
+    }
+
+    @Test
+    public void findEndingBefore_andFrom_splitEventsAndDeadlinesByEnd() throws Exception {
+        DateTime now = DateTime.fromStoredString("2030-01-02T00:00");
+
+        TimeRange expired = timeIndex.findEndingBefore(now);
+        assertEquals(Arrays.asList(pastEvent.getName(), pastDeadline.getName()), expired.getNames());
+        assertFalse(expired.contains(floating));
+
+        TimeRange upcoming = timeIndex.findEndingFrom(now);
+        assertEquals(Arrays.asList(nextEvent.getName(), nextDeadline.getName()), upcoming.getNames());
+        assertTrue(upcoming.contains(nextEvent));
+        assertFalse(upcoming.contains(pastDeadline));
+    }
+
+    @Test
+    public void findDueWithin_eventsByStartDeadlinesByEnd() throws Exception {
+        TimeRange due = timeIndex.findDueWithin(DateTime.fromStoredString("2030-01-02T00:00"),
+                DateTime.fromStoredString("2030-01-02T12:00"));
+
+        // the next event is due by its start; the next deadline ends exactly at the end of the period
+        assertEquals(Arrays.asList(nextEvent.getName()), due.getNames());
+        assertFalse(due.contains(nextDeadline));
+        assertEquals(0, timeIndex.findDueWithin(DateTime.fromStoredString("2030-01-03T00:00"),
+                DateTime.fromStoredString("2030-01-01T00:00")).size());
+    }
+
+    @Test
+    public void timeRange_afterAddEditAndRemove_followsList() throws Exception {
+        TimeRange upcoming = timeIndex.findEndingFrom(DateTime.fromStoredString("2030-01-02T00:00"));
+
+        BasicTask newDeadline = deadline("New deadline", "2030-02-01T00:00");
+        uniqueTaskList.add(newDeadline);
+        assertTrue(upcoming.contains(newDeadline));
+
+        BasicTask postponed = deadline(pastDeadline.getName().fullTaskName, "2030-03-01T00:00");
+        uniqueTaskList.updateTask(pastDeadline, postponed);
+        assertTrue(upcoming.contains(postponed));
+
+        uniqueTaskList.remove(nextEvent);
+        assertEquals(Arrays.asList(nextDeadline.getName(), newDeadline.getName(), postponed.getName()),
+                upcoming.getNames());
+    }
+
+    private static BasicTask event(String name, String start, String end) throws IllegalValueException {
+        return new BasicTask(new TaskName(name), new TaskDescription(), DateTime.fromStoredString(start),
+                DateTime.fromStoredString(end), Collections.emptySet());
+    }
+
+    private static BasicTask deadline(String name, String end) throws IllegalValueException {
+        return new BasicTask(new TaskName(name), new TaskDescription(), DateTime.fromStoredString(end),
+                Collections.emptySet());
+    }
+}
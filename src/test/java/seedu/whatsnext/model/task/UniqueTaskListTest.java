@@ -0,0 +1,147 @@
+package seedu.whatsnext.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.whatsnext.model.task.exceptions.DuplicateTaskException;
+import seedu.whatsnext.model.task.exceptions.TaskNotFoundException;
+import seedu.whatsnext.testutil.TaskBuilder;
+import seedu.whatsnext.testutil.TypicalTasks;
+
+public class UniqueTaskListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TypicalTasks typicalTasks = new TypicalTasks();
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() throws Exception {
+        uniqueTaskList.add(typicalTasks.camping);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.add(new TaskBuilder(typicalTasks.camping).withTags("OTHER").build());
+    }
+
+    @Test
+    public void setTasks_duplicateTasks_throwsDuplicateTaskException() throws Exception {
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.setTasks(Arrays.asList(typicalTasks.camping, typicalTasks.tester, typicalTasks.camping));
+    }
+
+    @Test
+    public void remove_missingTask_throwsTaskNotFoundException() throws Exception {
+        uniqueTaskList.add(typicalTasks.camping);
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.remove(typicalTasks.tester);
+    }
+
+    @Test
+    public void remove_existingTask_removedFromListAndIndex() throws Exception {
+        uniqueTaskList.add(typicalTasks.camping);
+        uniqueTaskList.add(typicalTasks.tester);
+        uniqueTaskList.remove(typicalTasks.camping);
+
+        assertFalse(uniqueTaskList.contains(typicalTasks.camping));
+        assertEquals(Arrays.asList(typicalTasks.tester), uniqueTaskList.asObservableList());
+    }
+
+    @Test
+    public void updateTask_renamedTask_indexFollowsNewName() throws Exception {
+        uniqueTaskList.add(typicalTasks.camping);
+        BasicTask renamed = new TaskBuilder(typicalTasks.camping).withName("Glamping").build();
+        uniqueTaskList.updateTask(typicalTasks.camping, renamed);
+
+        assertFalse(uniqueTaskList.contains(typicalTasks.camping));
+        assertTrue(uniqueTaskList.contains(renamed));
+        uniqueTaskList.add(typicalTasks.camping);
+        assertEquals(2, uniqueTaskList.asObservableList().size());
+    }
+
+    @Test
+    public void updateTask_nameTakenByAnotherTask_throwsDuplicateTaskException() throws Exception {
+        uniqueTaskList.add(typicalTasks.camping);
+        uniqueTaskList.add(typicalTasks.tester);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.updateTask(typicalTasks.camping, typicalTasks.tester);
+    }
+
+    @Test
+    public void add_tasksOfAllTypes_keptInTaskOrder() throws Exception {
+        uniqueTaskList.add(typicalTasks.readaBook);
+        uniqueTaskList.add(typicalTasks.camping);
+        uniqueTaskList.add(typicalTasks.meetTomForLunch);
+        uniqueTaskList.add(typicalTasks.fypSelection);
+        uniqueTaskList.add(typicalTasks.meetJohnForDinner);
+        uniqueTaskList.add(typicalTasks.completeCS2103Assignment);
+
+        assertEquals(Arrays.asList(typicalTasks.completeCS2103Assignment, typicalTasks.camping,
+                typicalTasks.fypSelection, typicalTasks.readaBook, typicalTasks.meetJohnForDinner,
+                typicalTasks.meetTomForLunch), uniqueTaskList.asObservableList());
+    }
+
+    @Test
+    public void setTasks_unsortedList_sortedOnce() throws Exception {
+        AtomicInteger changes = new AtomicInteger();
+        uniqueTaskList.asObservableList().addListener((ListChangeListener<BasicTask>) c -> changes.incrementAndGet());
+        uniqueTaskList.setTasks(Arrays.asList(typicalTasks.readaBook, typicalTasks.fypSelection, typicalTasks.camping));
+
+        assertEquals(1, changes.get());
+        assertEquals(Arrays.asList(typicalTasks.camping, typicalTasks.fypSelection, typicalTasks.readaBook),
+                uniqueTaskList.asObservableList());
+    }
+
+    @Test
+    public void updateTask_sortKeyChanged_movedWithSingleChange() throws Exception {
+        uniqueTaskList.setTasks(Arrays.asList(typicalTasks.completeCS2103Assignment, typicalTasks.fypSelection,
+                typicalTasks.readaBook));
+        AtomicInteger changes = new AtomicInteger();
+        uniqueTaskList.asObservableList().addListener((ListChangeListener<BasicTask>) c -> changes.incrementAndGet());
+
+        BasicTask deprioritised = new TaskBuilder(typicalTasks.readaBook).withTags("LOW").build();
+        uniqueTaskList.updateTask(typicalTasks.readaBook, deprioritised);
+        BasicTask undated = new TaskBuilder(typicalTasks.completeCS2103Assignment)
+                .withStartDateTime(DateTime.INIT_DATETIME_VALUE).withEndDateTime(DateTime.INIT_DATETIME_VALUE).build();
+        uniqueTaskList.updateTask(typicalTasks.completeCS2103Assignment, undated);
+
+        assertEquals(2, changes.get());
+        assertEquals(Arrays.asList(typicalTasks.fypSelection, undated, deprioritised),
+                uniqueTaskList.asObservableList());
+    }
+
+    @Test
+    public void getKeywordIndex_mutations_matchesFollowList() throws Exception {
+        uniqueTaskList.setTasks(Arrays.asList(typicalTasks.meetJohnForDinner, typicalTasks.meetTomForLunch,
+                typicalTasks.camping));
+        TaskKeywordIndex index = uniqueTaskList.getKeywordIndex();
+        List<String> meet = TaskKeywordIndex.normalize(Collections.singleton(" MEET "));
+        List<String> lunchOrCamp = TaskKeywordIndex.normalize(Arrays.asList("lunch", "Camp"));
+
+        assertEquals(new HashSet<>(Arrays.asList(typicalTasks.meetJohnForDinner.getName(),
+                typicalTasks.meetTomForLunch.getName())), index.findAny(meet));
+        // tags match as well as name words, but only whole words do
+        assertTrue(index.matchesAny(typicalTasks.meetTomForLunch, lunchOrCamp));
+        assertFalse(index.matchesAny(typicalTasks.camping, lunchOrCamp));
+
+        BasicTask renamed = new TaskBuilder(typicalTasks.meetTomForLunch).withName("Lunch with Tom")
+                .withTags("CAMP").build();
+        uniqueTaskList.updateTask(typicalTasks.meetTomForLunch, renamed);
+        uniqueTaskList.remove(typicalTasks.meetJohnForDinner);
+
+        assertTrue(index.findAny(meet).isEmpty());
+        assertEquals(Collections.singleton(renamed.getName()), index.findAny(lunchOrCamp));
+        assertTrue(index.matchesAny(renamed, lunchOrCamp));
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.whatsnext.model.undo;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.testutil.TaskBuilder;
+import seedu.whatsnext.testutil.TypicalTasks;
+
+public class UndoJournalTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TypicalTasks typicalTasks = new TypicalTasks();
+
+    @Test
+    public void constructor_nonPositiveDepth_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new UndoJournal(0, 1);
+    }
+
+    @Test
+    public void undo_emptyJournal_throwsEmptyStackException() {
+        thrown.expect(EmptyStackException.class);
+        new UndoJournal().undo(new TaskManager());
+    }
+
+    @Test
+    public void undoRedo_addRemoveReplace_restoresState() throws Exception {
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        TaskManager original = new TaskManager(taskManager);
+        UndoJournal journal = new UndoJournal();
+
+        BasicTask toAdd = new TaskBuilder().withName("Journal task").build();
+        taskManager.addTask(toAdd);
+        journal.record(TaskManagerDelta.added(toAdd));
+
+        TaskManagerDelta removal = TaskManagerDelta.removed(typicalTasks.camping);
+        taskManager.removeTask(typicalTasks.camping);
+        journal.record(removal);
+
+        BasicTask edited = new TaskBuilder(typicalTasks.meetTomForLunch).withTags("DINNER").build();
+        TaskManagerDelta replacement = TaskManagerDelta.replaced(typicalTasks.meetTomForLunch, edited);
+        taskManager.updateTask(typicalTasks.meetTomForLunch, edited);
+        journal.record(replacement);
+
+        TaskManager afterChanges = new TaskManager(taskManager);
+
+        journal.undo(taskManager);
+        journal.undo(taskManager);
+        journal.undo(taskManager);
+        assertEquals(original, taskManager);
+        assertEquals(3, journal.getRedoDepth());
+
+        journal.redo(taskManager);
+        journal.redo(taskManager);
+        journal.redo(taskManager);
+        assertEquals(afterChanges, taskManager);
+        assertEquals(3, journal.getUndoDepth());
+    }
+
+    @Test
+    public void undoRedo_replace_returnsAppliedChange() throws Exception {
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        UndoJournal journal = new UndoJournal();
+
+        BasicTask edited = new TaskBuilder(typicalTasks.camping).withName("Glamping").build();
+        taskManager.updateTask(typicalTasks.camping, edited);
+        journal.record(TaskManagerDelta.replaced(typicalTasks.camping, edited));
+
+        TaskManagerDelta undone = journal.undo(taskManager);
+        assertEquals(Arrays.asList(edited), undone.getRemovedTasks());
+        assertEquals(Arrays.asList(typicalTasks.camping), undone.getAddedTasks());
+
+        TaskManagerDelta redone = journal.redo(taskManager);
+        assertEquals(Arrays.asList(typicalTasks.camping), redone.getRemovedTasks());
+        assertEquals(Arrays.asList(edited), redone.getAddedTasks());
+    }
+
+    @Test
+    public void undo_reset_restoresAllTasks() {
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        TaskManager original = new TaskManager(taskManager);
+        UndoJournal journal = new UndoJournal();
+
+        TaskManager empty = new TaskManager();
+        TaskManagerDelta delta = TaskManagerDelta.reset(taskManager, empty);
+        taskManager.resetData(empty);
+        journal.record(delta);
+
+        journal.undo(taskManager);
+        assertEquals(original, taskManager);
+    }
+
+    @Test
+    public void undo_batch_revertsAllChangesAtOnce() throws Exception {
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        TaskManager original = new TaskManager(taskManager);
+        UndoJournal journal = new UndoJournal();
+
+        BasicTask added = new TaskBuilder().withName("Batch task").build();
+        taskManager.addTask(added);
+        BasicTask edited = new TaskBuilder(added).withName("Edited batch task").build();
+        taskManager.updateTask(added, edited);
+        taskManager.removeTask(typicalTasks.camping);
+        TaskManagerDelta batch = TaskManagerDelta.batch(Arrays.asList(TaskManagerDelta.added(added),
+                TaskManagerDelta.replaced(added, edited), TaskManagerDelta.removed(typicalTasks.camping)));
+        journal.record(batch);
+
+        // only the net change is reported: the task added then renamed by the batch is only added
+        assertEquals(Arrays.asList(typicalTasks.camping), batch.getRemovedTasks());
+        assertEquals(Arrays.asList(edited), batch.getAddedTasks());
+        assertEquals(1, journal.getUndoDepth());
+
+        journal.undo(taskManager);
+        assertEquals(original.getTaskList(), taskManager.getTaskList());
+    }
+
+    @Test
+    public void record_exceedsDepth_oldestEntriesDropped() throws Exception {
+        UndoJournal journal = new UndoJournal(2, 100);
+        journal.record(TaskManagerDelta.added(typicalTasks.camping));
+        journal.record(TaskManagerDelta.added(typicalTasks.tester));
+        journal.record(TaskManagerDelta.added(typicalTasks.readaBook));
+        assertEquals(2, journal.getUndoDepth());
+        assertEquals(2, journal.getRetainedTaskCount());
+    }
+
+    @Test
+    public void record_exceedsTaskLimit_newestEntryKept() {
+        UndoJournal journal = new UndoJournal(10, 3);
+        journal.record(TaskManagerDelta.added(typicalTasks.camping));
+        journal.record(TaskManagerDelta.reset(typicalTasks.getTypicalTaskManager(), new TaskManager()));
+        assertEquals(1, journal.getUndoDepth());
+    }
+
+    @Test
+    public void record_afterUndo_redoHistoryCleared() throws Exception {
+        TaskManager taskManager = new TaskManager();
+        UndoJournal journal = new UndoJournal();
+        taskManager.addTask(typicalTasks.camping);
+        journal.record(TaskManagerDelta.added(typicalTasks.camping));
+        journal.undo(taskManager);
+
+        journal.record(TaskManagerDelta.added(typicalTasks.tester));
+        assertEquals(0, journal.getRedoDepth());
+        assertEquals(1, journal.getRetainedTaskCount());
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.whatsnext.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.EventIntervalTree;
+import seedu.whatsnext.storage.XmlTaskManagerStorage;
+
+public class SampleDataGeneratorTest {
+
+    private static final long START_MILLIS = 1922436000000L;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void generateTasks_sameSeed_sameTasks() {
+        assertEquals(createGenerator(1).generateTasks(500), createGenerator(1).generateTasks(500));
+        assertNotEquals(createGenerator(1).generateTasks(500), createGenerator(2).generateTasks(500));
+    }
+
+    @Test
+    public void generateTasks_defaultPeriod_deadlinesAroundDefaultStart() {
+        long halfSpanMillis = TimeUnit.DAYS.toMillis(365) / 2;
+        for (BasicTask task : new SampleDataGenerator(1).withTaskMix(0, 1, 0).generateTasks(500)) {
+            long deadlineMillis = task.getEndDateTime().getEpochMillis();
+            assertTrue(task.toString(), Math.abs(deadlineMillis - SampleDataGenerator.DEFAULT_START_MILLIS)
+                    <= halfSpanMillis + TimeUnit.DAYS.toMillis(1));
+        }
+    }
+
+    @Test
+    public void generateTasks_taskMix_onlyGivenTypes() {
+        List<BasicTask> tasks = createGenerator(1).withTaskMix(1, 0, 1).generateTasks(300);
+
+        assertEquals(300, tasks.size());
+        for (BasicTask task : tasks) {
+            assertNotEquals(BasicTask.TASK_TYPE_DEADLINE, task.getTaskType());
+        }
+    }
+
+    @Test
+    public void generateTasks_completedRatio_completesShareOfTasks() {
+        assertEquals(0, countCompleted(createGenerator(1).withCompletedRatio(0).generateTasks(200)));
+        assertEquals(200, countCompleted(createGenerator(1).withCompletedRatio(1).generateTasks(200)));
+        int completed = countCompleted(createGenerator(1).withCompletedRatio(0.5).generateTasks(1000));
+        assertTrue(completed > 400 && completed < 600);
+    }
+
+    @Test
+    public void generateTasks_tags_atMostGivenTags() {
+        Set<Tag> tags = new HashSet<>();
+        for (BasicTask task : createGenerator(1).withTags(25, 3).withOverlapRatio(0).generateTasks(1000)) {
+            assertTrue(task.getTags().size() <= 3);
+            tags.addAll(task.getTags());
+        }
+        assertEquals(25, tags.size());
+    }
+
+    @Test
+    public void generateTaskManager_overlappingEvents_taggedAsOverlapping() throws Exception {
+        TaskManager taskManager = createGenerator(1).withTaskMix(0, 0, 1).withOverlapRatio(0.3)
+                .generateTaskManager(1000);
+        Tag overlapTag = new Tag(Tag.RESERVED_TAG_OVERLAP);
+        EventIntervalTree events = taskManager.getEventIntervalTree();
+
+        int overlapping = 0;
+        for (BasicTask event : taskManager.getTaskList()) {
+            assertEquals(event.toString(), events.hasOverlapping(event), event.getTags().contains(overlapTag));
+            overlapping += events.hasOverlapping(event) ? 1 : 0;
+        }
+        assertTrue(overlapping > 0);
+    }
+
+    @Test
+    public void generateTaskManager_savedToStorage_readBackSame() throws Exception {
+        String filePath = new File(testFolder.getRoot(), "generated.xml").getPath();
+        XmlTaskManagerStorage storage = new XmlTaskManagerStorage(filePath);
+        TaskManager generated = createGenerator(1).generateTaskManager(200);
+
+        storage.saveTaskManager(generated);
+        ReadOnlyTaskManager readBack = storage.readTaskManager().get();
+        assertEquals(generated, new TaskManager(readBack));
+    }
+
+    @Test
+    public void withOverlapRatio_outOfRange_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        createGenerator(1).withOverlapRatio(1.5);
+    }
+
+    @Test
+    public void withTags_moreTagsPerTaskThanTags_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        createGenerator(1).withTags(2, 3);
+    }
+
+    private static SampleDataGenerator createGenerator(long seed) {
+        return new SampleDataGenerator(seed).withPeriod(START_MILLIS, 30);
+    }
+
+    private static int countCompleted(List<BasicTask> tasks) {
+        int completed = 0;
+        for (BasicTask task : tasks) {
+            completed += task.getIsCompleted() ? 1 : 0;
+        }
+        return completed;
+    }
+}
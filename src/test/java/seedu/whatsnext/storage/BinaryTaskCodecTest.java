@@ -0,0 +1,97 @@
+package seedu.whatsnext.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.whatsnext.model.tag.Tag;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.DateTime;
+import seedu.whatsnext.model.task.TaskDescription;
+import seedu.whatsnext.testutil.TaskBuilder;
+
+public class BinaryTaskCodecTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void readTask_writtenEvent_sameTask() throws Exception {
+        BasicTask task = new TaskBuilder().withName("Codec event").withDescription("All fields")
+                .withStatus(true).withTags("HIGH", "codec").build();
+        task.setStartDateTime(DateTime.fromStoredString("2017-05-01T09:30"));
+        task.setEndDateTime(DateTime.fromStoredString("2017-05-01T11:00"));
+
+        BasicTask readTask = writeAndRead(task);
+
+        assertEquals(task, readTask);
+        assertEquals(task.getDescription(), readTask.getDescription());
+        assertEquals(task.getIsCompleted(), readTask.getIsCompleted());
+        assertEquals(task.getStartDateTime().toStoredString(), readTask.getStartDateTime().toStoredString());
+        assertEquals(task.getEndDateTime().toStoredString(), readTask.getEndDateTime().toStoredString());
+        assertEquals(task.getTags(), readTask.getTags());
+    }
+
+    @Test
+    public void readTask_writtenFloatingTask_emptyDateTimes() throws Exception {
+        BasicTask task = new TaskBuilder(BasicTask.TASK_TYPE_FLOATING).withName("Codec floating task").build();
+
+        BasicTask readTask = writeAndRead(task);
+
+        assertEquals(task, readTask);
+        assertTrue(readTask.getStartDateTime().isEmpty());
+        assertTrue(readTask.getEndDateTime().isEmpty());
+    }
+
+    @Test
+    public void readLegacyTask_systemZoneEpochMillis_sameLocalDateTime() throws Exception {
+        DateTime end = DateTime.fromStoredString("2017-07-04T18:00");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            BinaryTaskCodec.writeString(out, "Legacy deadline");
+            BinaryTaskCodec.writeString(out, TaskDescription.INIT_DECRIPTION_VALUE);
+            out.writeByte(1 << 2); // has end
+            out.writeLong(end.getEpochMillis());
+            out.writeInt(0);
+        }
+
+        BasicTask readTask;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            readTask = BinaryTaskCodec.readLegacyTask(in, tagIn -> new Tag(BinaryTaskCodec.readString(tagIn)));
+        }
+
+        assertEquals("Legacy deadline", readTask.getName().fullTaskName);
+        assertTrue(readTask.getStartDateTime().isEmpty());
+        assertEquals(end.toStoredString(), readTask.getEndDateTime().toStoredString());
+    }
+
+    @Test
+    public void readString_invalidLength_throwsIoException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(100);
+            out.writeByte('a');
+        }
+        thrown.expect(IOException.class);
+        BinaryTaskCodec.readString(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    private static BasicTask writeAndRead(BasicTask task) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            BinaryTaskCodec.writeTask(out, task, (tagOut, tag) -> BinaryTaskCodec.writeString(tagOut, tag.tagName));
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return BinaryTaskCodec.readTask(in, tagIn -> new Tag(BinaryTaskCodec.readString(tagIn)));
+        }
+    }
+}
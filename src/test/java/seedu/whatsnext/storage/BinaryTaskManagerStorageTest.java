@@ -0,0 +1,116 @@
+package seedu.whatsnext.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.whatsnext.commons.exceptions.DataConversionException;
+import seedu.whatsnext.commons.util.FileUtil;
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.testutil.TypicalTasks;
+
+public class BinaryTaskManagerStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlTaskManagerStorageTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final TypicalTasks typicalTasks = new TypicalTasks();
+
+    @Test
+    public void readTaskManager_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryTaskManagerStorage("dummy").readTaskManager(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "NonExistentFile.wn";
+        assertFalse(new BinaryTaskManagerStorage(filePath).readTaskManager(filePath).isPresent());
+    }
+
+    @Test
+    public void read_notXmlOrBinaryFormat_exceptionThrown() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "NotXmlFormatTaskManager.xml";
+        thrown.expect(DataConversionException.class);
+        new BinaryTaskManagerStorage(filePath).readTaskManager(filePath);
+    }
+
+    @Test
+    public void readAndSaveTaskManager_allInOrder_success() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "tempWhatsNext.wn";
+        TaskManager original = typicalTasks.getTypicalTaskManager();
+        BinaryTaskManagerStorage storage = new BinaryTaskManagerStorage(filePath);
+
+        storage.saveTaskManager(original, filePath);
+        assertTrue(BinaryTaskManagerStorage.isBinaryFile(new File(filePath)));
+        ReadOnlyTaskManager readBack = storage.readTaskManager(filePath).get();
+        assertEquals(original, new TaskManager(readBack));
+
+        // overwrite a longer file with a shorter one
+        original.removeTask(new BasicTask(typicalTasks.camping));
+        storage.saveTaskManager(original, filePath);
+        readBack = storage.readTaskManager(filePath).get();
+        assertEquals(original, new TaskManager(readBack));
+    }
+
+    @Test
+    public void read_corruptedPayload_exceptionThrown() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "tempCorruptedWhatsNext.wn";
+        BinaryTaskManagerStorage storage = new BinaryTaskManagerStorage(filePath);
+        storage.saveTaskManager(typicalTasks.getTypicalTaskManager(), filePath);
+
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            file.seek(file.length() - 1);
+            int lastByte = file.read();
+            file.seek(file.length() - 1);
+            file.write(lastByte ^ 0xFF);
+        }
+
+        thrown.expect(DataConversionException.class);
+        storage.readTaskManager(filePath);
+    }
+
+    @Test
+    public void readTaskManager_savedAsXml_migratedToBinaryOnSave() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "tempXmlWhatsNext.xml";
+        TaskManager original = typicalTasks.getTypicalTaskManager();
+        new StreamingXmlTaskManagerStorage(filePath).saveTaskManager(original, filePath);
+
+        BinaryTaskManagerStorage storage = new BinaryTaskManagerStorage(filePath);
+        ReadOnlyTaskManager readBack = storage.readTaskManager(filePath).get();
+        assertEquals(original, new TaskManager(readBack));
+
+        storage.saveTaskManager(readBack, filePath);
+        assertTrue(BinaryTaskManagerStorage.isBinaryFile(new File(filePath)));
+        assertEquals(original, new TaskManager(storage.readTaskManager(filePath).get()));
+    }
+
+    @Test
+    public void readTaskManager_savedAsBinary_migratedToXmlOnSave() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "tempBinaryWhatsNext.wn";
+        TaskManager original = typicalTasks.getTypicalTaskManager();
+        new BinaryTaskManagerStorage(filePath).saveTaskManager(original, filePath);
+
+        XmlTaskManagerStorage storage = new StreamingXmlTaskManagerStorage(filePath);
+        ReadOnlyTaskManager readBack = storage.readTaskManager(filePath).get();
+        assertEquals(original, new TaskManager(readBack));
+
+        storage.saveTaskManager(readBack, filePath);
+        assertFalse(BinaryTaskManagerStorage.isBinaryFile(new File(filePath)));
+        assertEquals(original, new TaskManager(new XmlTaskManagerStorage(filePath).readTaskManager(filePath).get()));
+    }
+}
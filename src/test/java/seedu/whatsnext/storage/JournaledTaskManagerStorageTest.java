@@ -0,0 +1,163 @@
+package seedu.whatsnext.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.undo.TaskManagerDelta;
+import seedu.whatsnext.testutil.TaskBuilder;
+import seedu.whatsnext.testutil.TypicalTasks;
+
+public class JournaledTaskManagerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final TypicalTasks typicalTasks = new TypicalTasks();
+    private String filePath;
+    private File snapshotFile;
+    private File journalFile;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + "tempJournaledWhatsNext.wn";
+        snapshotFile = new File(filePath);
+        journalFile = JournaledTaskManagerStorage.getJournalFile(filePath);
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new JournaledTaskManagerStorage(new BinaryTaskManagerStorage(filePath), 0);
+    }
+
+    @Test
+    public void saveTaskManagerChange_singleChanges_appendedAndReplayed() throws Exception {
+        JournaledTaskManagerStorage storage = new JournaledTaskManagerStorage(new BinaryTaskManagerStorage(filePath));
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        storage.saveTaskManagerChange(taskManager, null);
+        long snapshotLength = snapshotFile.length();
+
+        BasicTask added = new TaskBuilder().withName("Journal task").build();
+        storage.saveTaskManagerChange(taskManager, add(taskManager, added));
+        storage.saveTaskManagerChange(taskManager, remove(taskManager, typicalTasks.camping));
+        BasicTask edited = new TaskBuilder(typicalTasks.meetTomForLunch).withName("Meet Tom for dinner").build();
+        storage.saveTaskManagerChange(taskManager, update(taskManager, typicalTasks.meetTomForLunch, edited));
+        storage.saveTaskManagerChange(taskManager, TaskManagerDelta.unchanged());
+
+        assertEquals(snapshotLength, snapshotFile.length());
+        assertTrue(journalFile.length() > 0);
+        assertEquals(taskManager, new TaskManager(storage.readTaskManager(filePath).get()));
+    }
+
+    @Test
+    public void saveTaskManagerChange_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        JournaledTaskManagerStorage storage = new JournaledTaskManagerStorage(
+                new BinaryTaskManagerStorage(filePath), 1);
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        storage.saveTaskManagerChange(taskManager, null);
+
+        storage.saveTaskManagerChange(taskManager, remove(taskManager, typicalTasks.camping));
+        assertTrue(journalFile.length() > 0);
+        storage.saveTaskManagerChange(taskManager, remove(taskManager, typicalTasks.tester));
+        assertEquals(0, journalFile.length());
+
+        assertEquals(taskManager, new TaskManager(new BinaryTaskManagerStorage(filePath).readTaskManager().get()));
+    }
+
+    @Test
+    public void saveTaskManagerChange_onlyChangePastThreshold_savedDataCompacted() throws Exception {
+        JournaledTaskManagerStorage storage = new JournaledTaskManagerStorage(
+                new BinaryTaskManagerStorage(filePath), 1);
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        storage.saveTaskManagerChange(taskManager, null);
+
+        storage.saveTaskManagerChange(null, remove(taskManager, typicalTasks.camping));
+        assertTrue(journalFile.length() > 0);
+        storage.saveTaskManagerChange(null, remove(taskManager, typicalTasks.tester));
+        assertEquals(0, journalFile.length());
+
+        assertEquals(taskManager, new TaskManager(new BinaryTaskManagerStorage(filePath).readTaskManager().get()));
+    }
+
+    @Test
+    public void readTaskManager_tornLastRecord_droppedAndTruncated() throws Exception {
+        JournaledTaskManagerStorage storage = new JournaledTaskManagerStorage(new BinaryTaskManagerStorage(filePath));
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        storage.saveTaskManagerChange(taskManager, null);
+        storage.saveTaskManagerChange(taskManager, remove(taskManager, typicalTasks.camping));
+        TaskManager beforeTornRecord = new TaskManager(taskManager);
+        long validLength = journalFile.length();
+
+        storage.saveTaskManagerChange(taskManager, remove(taskManager, typicalTasks.tester));
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+            journal.setLength(journal.length() - 1);
+        }
+
+        assertEquals(beforeTornRecord, new TaskManager(storage.readTaskManager(filePath).get()));
+        assertEquals(validLength, journalFile.length());
+    }
+
+    @Test
+    public void readTaskManager_journalAlreadyInSnapshot_sameData() throws Exception {
+        JournaledTaskManagerStorage storage = new JournaledTaskManagerStorage(new BinaryTaskManagerStorage(filePath));
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        storage.saveTaskManagerChange(taskManager, null);
+        BasicTask added = new TaskBuilder().withName("Journal task").build();
+        storage.saveTaskManagerChange(taskManager, add(taskManager, added));
+        storage.saveTaskManagerChange(taskManager, remove(taskManager, typicalTasks.camping));
+
+        // a crash after the snapshot is written but before the journal is emptied
+        new BinaryTaskManagerStorage(filePath).saveTaskManager(taskManager, filePath);
+
+        assertEquals(taskManager, new TaskManager(storage.readTaskManager(filePath).get()));
+    }
+
+    @Test
+    public void readTaskManager_journalWithoutSnapshot_replayedOnEmptyTaskManager() throws Exception {
+        JournaledTaskManagerStorage storage = new JournaledTaskManagerStorage(new BinaryTaskManagerStorage(filePath));
+        TaskManager taskManager = new TaskManager();
+        storage.saveTaskManagerChange(taskManager, null);
+        storage.saveTaskManagerChange(taskManager, add(taskManager, typicalTasks.camping));
+        assertTrue(snapshotFile.delete());
+
+        assertEquals(taskManager, new TaskManager(storage.readTaskManager(filePath).get()));
+    }
+
+    @Test
+    public void readTaskManager_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledTaskManagerStorage(new BinaryTaskManagerStorage(filePath))
+                .readTaskManager(filePath).isPresent());
+    }
+
+    private TaskManagerDelta add(TaskManager taskManager, BasicTask task) throws Exception {
+        taskManager.addTask(task);
+        return TaskManagerDelta.added(task);
+    }
+
+    private TaskManagerDelta remove(TaskManager taskManager, BasicTask task) throws Exception {
+        TaskManagerDelta delta = TaskManagerDelta.removed(task);
+        taskManager.removeTask(task);
+        return delta;
+    }
+
+    private TaskManagerDelta update(TaskManager taskManager, BasicTask target, BasicTask edited) throws Exception {
+        TaskManagerDelta delta = TaskManagerDelta.replaced(target, edited);
+        taskManager.updateTask(target, edited);
+        return delta;
+    }
+}
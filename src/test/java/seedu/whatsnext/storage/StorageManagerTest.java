@@ -5,17 +5,24 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.whatsnext.commons.core.EventsCenter;
 import seedu.whatsnext.commons.events.model.TaskManagerChangedEvent;
 import seedu.whatsnext.commons.events.storage.DataSavingExceptionEvent;
+import seedu.whatsnext.model.Model;
+import seedu.whatsnext.model.ModelManager;
 import seedu.whatsnext.model.ReadOnlyTaskManager;
 import seedu.whatsnext.model.TaskManager;
 import seedu.whatsnext.model.UserPrefs;
+import seedu.whatsnext.model.undo.TaskManagerDelta;
 import seedu.whatsnext.testutil.EventsCollector;
 import seedu.whatsnext.testutil.TypicalTasks;
 
@@ -34,6 +41,11 @@ public class StorageManagerTest {
     }
 
 
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
     private String getTempFilePath(String fileName) {
         return testFolder.getRoot().getPath() + fileName;
     }
@@ -81,6 +93,104 @@ public class StorageManagerTest {
         assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleTaskManagerChangedEvent_onlyChangeToJournal_appended() throws Exception {
+        Storage storage = new StorageManager(
+                new JournaledTaskManagerStorage(new XmlTaskManagerStorage(getTempFilePath("journaled"))),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        TypicalTasks typicalTasks = new TypicalTasks();
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        storage.saveTaskManager(taskManager);
+        taskManager.removeTask(typicalTasks.camping);
+
+        storage.handleTaskManagerChangedEvent(
+                new TaskManagerChangedEvent(null, TaskManagerDelta.removed(typicalTasks.camping)));
+        assertEquals(taskManager, new TaskManager(storage.readTaskManager().get()));
+    }
+
+    @Test
+    public void handleTaskManagerChangedEvent_asyncBurst_coalescedIntoOneSave() throws Exception {
+        XmlTaskManagerStorageCountingStub taskManagerStorage = new XmlTaskManagerStorageCountingStub("dummy");
+        Storage storage = new StorageManager(taskManagerStorage, new JsonUserPrefsStorage("dummy"), 60000);
+        TaskManager taskManager = new TaskManager();
+        TypicalTasks typicalTasks = new TypicalTasks();
+
+        storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(taskManager));
+        taskManager.addTask(typicalTasks.camping);
+        storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(taskManager));
+        taskManager.addTask(typicalTasks.tester);
+        storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(taskManager));
+        TaskManager expected = new TaskManager(taskManager);
+        taskManager.removeTask(typicalTasks.tester);
+        assertEquals(0, taskManagerStorage.saveCount);
+
+        storage.flushPendingSaves();
+        assertEquals(1, taskManagerStorage.saveCount);
+        assertEquals(expected, new TaskManager(taskManagerStorage.lastSaved));
+    }
+
+    @Test
+    public void handleTaskManagerChangedEvent_snapshotWithLaterChange_savedThenAppended() throws Exception {
+        String filePath = getTempFilePath("journaled");
+        Storage storage = new StorageManager(new JournaledTaskManagerStorage(new XmlTaskManagerStorage(filePath)),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        TypicalTasks typicalTasks = new TypicalTasks();
+        TaskManager taskManager = typicalTasks.getTypicalTaskManager();
+        TaskManagerChangedEvent reset = new TaskManagerChangedEvent(taskManager).detach();
+        taskManager.removeTask(typicalTasks.camping);
+        TaskManagerChangedEvent removal = new TaskManagerChangedEvent(taskManager,
+                TaskManagerDelta.removed(typicalTasks.camping)).detach();
+
+        storage.handleTaskManagerChangedEvent(reset.mergeWith(removal));
+        assertTrue(JournaledTaskManagerStorage.getJournalFile(filePath).length() > 0);
+        assertEquals(taskManager, new TaskManager(storage.readTaskManager().get()));
+    }
+
+    @Test
+    public void handleTaskManagerChangedEvent_listAndFind_notSaved() throws Exception {
+        XmlTaskManagerStorageCountingStub taskManagerStorage = new XmlTaskManagerStorageCountingStub("dummy");
+        Storage storage = new StorageManager(taskManagerStorage, new JsonUserPrefsStorage("dummy"), 60000);
+        TypicalTasks typicalTasks = new TypicalTasks();
+        Model model = new ModelManager(typicalTasks.getTypicalTaskManager(), new UserPrefs());
+
+        model.updateFilteredListToShowAll();
+        model.updateFilteredTaskList(new HashSet<>(Arrays.asList("camping")));
+        storage.flushPendingSaves();
+        assertEquals(0, taskManagerStorage.saveCount);
+
+        model.deleteTask(typicalTasks.camping);
+        storage.flushPendingSaves();
+        assertEquals(1, taskManagerStorage.saveCount);
+    }
+
+    @Test
+    public void handleTaskManagerChangedEvent_asyncExceptionThrown_eventRaisedOnFlush() {
+        Storage storage = new StorageManager(new XmlTaskManagerStorageExceptionThrowingStub("dummy"),
+                                             new JsonUserPrefsStorage("dummy"), 60000);
+        EventsCollector eventCollector = new EventsCollector();
+        storage.handleTaskManagerChangedEvent(new TaskManagerChangedEvent(new TaskManager()));
+        storage.flushPendingSaves();
+        assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
+    }
+
+
+    /**
+     * A Stub class to record the data passed to the save method
+     */
+    class XmlTaskManagerStorageCountingStub extends XmlTaskManagerStorage {
+        private int saveCount;
+        private ReadOnlyTaskManager lastSaved;
+
+        public XmlTaskManagerStorageCountingStub(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTaskManager(ReadOnlyTaskManager taskManager, String filePath) {
+            saveCount++;
+            lastSaved = taskManager;
+        }
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -0,0 +1,94 @@
+package seedu.whatsnext.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.whatsnext.commons.exceptions.DataConversionException;
+import seedu.whatsnext.commons.util.FileUtil;
+import seedu.whatsnext.model.ReadOnlyTaskManager;
+import seedu.whatsnext.model.TaskManager;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.testutil.TypicalTasks;
+
+public class StreamingXmlTaskManagerStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlTaskManagerStorageTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final TypicalTasks typicalTasks = new TypicalTasks();
+
+    @Test
+    public void readTaskManager_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new StreamingXmlTaskManagerStorage("dummy").readTaskManager(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "NonExistentFile.xml";
+        assertFalse(new StreamingXmlTaskManagerStorage(filePath).readTaskManager(filePath).isPresent());
+    }
+
+    @Test
+    public void read_notXmlFormat_exceptionThrown() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "NotXmlFormatTaskManager.xml";
+        thrown.expect(DataConversionException.class);
+        new StreamingXmlTaskManagerStorage(filePath).readTaskManager(filePath);
+    }
+
+    @Test
+    public void readAndSaveTaskManager_allInOrder_success() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "tempStreamedWhatsNext.xml";
+        TaskManager original = typicalTasks.getTypicalTaskManager();
+        StreamingXmlTaskManagerStorage storage = new StreamingXmlTaskManagerStorage(filePath);
+
+        storage.saveTaskManager(original, filePath);
+        ReadOnlyTaskManager readBack = storage.readTaskManager(filePath).get();
+        assertEquals(original, new TaskManager(readBack));
+
+        // overwrite a longer file with a shorter one
+        original.removeTask(new BasicTask(typicalTasks.camping));
+        storage.saveTaskManager(original, filePath);
+        readBack = storage.readTaskManager(filePath).get();
+        assertEquals(original, new TaskManager(readBack));
+    }
+
+    @Test
+    public void readTaskManager_legacyDateFormat_sameDataAsXmlTaskManagerStorage() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "LegacyDateFormatTaskManager.xml";
+
+        ReadOnlyTaskManager expected = new XmlTaskManagerStorage(filePath).readTaskManager(filePath).get();
+        ReadOnlyTaskManager readBack = new StreamingXmlTaskManagerStorage(filePath).readTaskManager(filePath).get();
+        assertEquals(new TaskManager(expected), new TaskManager(readBack));
+        assertEquals("Mon 25 Dec 2017 12:00 PM", readBack.getTaskList().get(0).getEndDateTime().displayDateTime());
+    }
+
+    @Test
+    public void readTaskManager_savedByXmlTaskManagerStorage_sameData() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "tempJaxbWhatsNext.xml";
+        TaskManager original = typicalTasks.getTypicalTaskManager();
+
+        new XmlTaskManagerStorage(filePath).saveTaskManager(original, filePath);
+        ReadOnlyTaskManager readBack = new StreamingXmlTaskManagerStorage(filePath).readTaskManager(filePath).get();
+        assertEquals(original, new TaskManager(readBack));
+    }
+
+    @Test
+    public void saveTaskManager_readByXmlTaskManagerStorage_sameData() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "tempStreamedWhatsNext.xml";
+        TaskManager original = typicalTasks.getTypicalTaskManager();
+
+        new StreamingXmlTaskManagerStorage(filePath).saveTaskManager(original, filePath);
+        ReadOnlyTaskManager readBack = new XmlTaskManagerStorage(filePath).readTaskManager(filePath).get();
+        assertEquals(original, new TaskManager(readBack));
+    }
+}
@@ -2,8 +2,11 @@ package seedu.whatsnext.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -15,6 +18,7 @@ import seedu.whatsnext.commons.util.FileUtil;
 import seedu.whatsnext.model.ReadOnlyTaskManager;
 import seedu.whatsnext.model.TaskManager;
 import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.DateTime;
 import seedu.whatsnext.testutil.TypicalTasks;
 
 public class XmlTaskManagerStorageTest {
@@ -86,6 +90,32 @@ public class XmlTaskManagerStorageTest {
 
     }
 
+    @Test
+    public void readTaskManager_legacyDateFormat_sameDateTimes() throws Exception {
+        List<BasicTask> tasks = readTaskManager("LegacyDateFormatTaskManager.xml").get().getTaskList();
+
+        assertEquals("Wed 20 Dec 2017 06:00 PM", tasks.get(0).getStartDateTime().displayDateTime());
+        assertEquals("Mon 25 Dec 2017 12:00 PM", tasks.get(0).getEndDateTime().displayDateTime());
+        assertEquals("Tue 4 Jul 2017 11:59 PM", tasks.get(1).getEndDateTime().displayDateTime());
+        assertTrue(tasks.get(1).getStartDateTime().isEmpty());
+    }
+
+    @Test
+    public void saveTaskManager_currentSchema_isoDateTimes() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "tempWhatsNext.xml";
+        TaskManager original = new TaskManager(readTaskManager("LegacyDateFormatTaskManager.xml").get());
+
+        new XmlTaskManagerStorage(filePath).saveTaskManager(original, filePath);
+        String content = FileUtil.readFromFile(new File(filePath));
+        assertTrue(content.contains("version=\"" + XmlSerializableTaskManager.SCHEMA_VERSION + "\""));
+        assertTrue(content.contains("<startDateTime>2017-12-20T18:00</startDateTime>"));
+
+        ReadOnlyTaskManager readBack = new XmlTaskManagerStorage(filePath).readTaskManager(filePath).get();
+        assertEquals(original, new TaskManager(readBack));
+        DateTime end = readBack.getTaskList().get(0).getEndDateTime();
+        assertEquals(original.getTaskList().get(0).getEndDateTime().getEpochMillis(), end.getEpochMillis());
+    }
+
     @Test
     public void saveTaskManager_nullTaskManager_throwsNullPointerException() throws IOException {
         thrown.expect(NullPointerException.class);
@@ -2,6 +2,7 @@ package seedu.whatsnext.testutil;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import com.google.common.eventbus.Subscribe;
 
@@ -39,4 +40,14 @@ public class EventsCollector {
     public BaseEvent get(int index) {
         return events.get(index);
     }
+
+    /**
+     * Returns the collected events of type {@code eventType}, in the order they were raised
+     */
+    public <T extends BaseEvent> List<T> get(Class<T> eventType) {
+        return events.stream()
+                .filter(eventType::isInstance)
+                .map(eventType::cast)
+                .collect(Collectors.toList());
+    }
 }
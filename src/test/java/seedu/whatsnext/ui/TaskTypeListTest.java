@@ -0,0 +1,81 @@
+package seedu.whatsnext.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.util.Pair;
+import seedu.whatsnext.model.task.BasicTask;
+import seedu.whatsnext.model.task.BasicTaskFeatures;
+import seedu.whatsnext.testutil.TaskBuilder;
+
+public class TaskTypeListTest {
+
+    private final ObservableList<BasicTaskFeatures> tasks = FXCollections.observableArrayList();
+    private final List<String> changes = new ArrayList<>();
+    private TaskTypeList deadlines;
+
+    @Before
+    public void setUp() throws Exception {
+        tasks.add(new TaskBuilder(BasicTask.TASK_TYPE_EVENT).withName("Event").build());
+        tasks.add(new TaskBuilder(BasicTask.TASK_TYPE_DEADLINE).withName("Deadline one").build());
+        tasks.add(new TaskBuilder(BasicTask.TASK_TYPE_DEADLINE).withName("Deadline two").build());
+        tasks.add(new TaskBuilder(BasicTask.TASK_TYPE_FLOATING).withName("Floating").build());
+        deadlines = new TaskTypeList(tasks, BasicTask.TASK_TYPE_DEADLINE);
+        deadlines.addListener((ListChangeListener<Pair<BasicTaskFeatures, Integer>>) change -> {
+            while (change.next()) {
+                changes.add(describe(change));
+            }
+        });
+    }
+
+    @Test
+    public void get_tasksOfTypeWithIndexInWholeList() {
+        assertEquals(2, deadlines.size());
+        assertEquals(tasks.get(1), deadlines.get(0).getKey());
+        assertEquals(Integer.valueOf(1), deadlines.get(0).getValue());
+        assertEquals(Integer.valueOf(2), deadlines.get(1).getValue());
+    }
+
+    @Test
+    public void taskOfTypeAddedAndRemoved_singleChange() throws Exception {
+        tasks.add(3, new TaskBuilder(BasicTask.TASK_TYPE_DEADLINE).withName("Deadline three").build());
+        tasks.remove(1);
+
+        assertEquals(2, changes.size());
+        assertEquals("added 2..3", changes.get(0));
+        assertEquals("removed 0", changes.get(1));
+        assertEquals("Deadline two", deadlines.get(0).getKey().getName().fullTaskName);
+        assertEquals(Integer.valueOf(1), deadlines.get(0).getValue());
+    }
+
+    @Test
+    public void taskOfOtherTypeAdded_indexesShiftedAsUpdate() throws Exception {
+        tasks.add(tasks.size(), new TaskBuilder(BasicTask.TASK_TYPE_FLOATING).withName("Another floating").build());
+        assertTrue(changes.isEmpty());
+
+        tasks.add(0, new TaskBuilder(BasicTask.TASK_TYPE_EVENT).withName("Another event").build());
+        assertEquals(1, changes.size());
+        assertEquals("updated 0..2", changes.get(0));
+        assertEquals(Integer.valueOf(2), deadlines.get(0).getValue());
+        assertEquals(Integer.valueOf(3), deadlines.get(1).getValue());
+    }
+
+    private static String describe(ListChangeListener.Change<? extends Pair<BasicTaskFeatures, Integer>> change) {
+        if (change.wasUpdated()) {
+            return "updated " + change.getFrom() + ".." + change.getTo();
+        } else if (change.wasAdded()) {
+            return "added " + change.getFrom() + ".." + change.getTo();
+        } else {
+            return "removed " + change.getFrom();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.whatsnext.ui;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 import java.net.URL;
 
@@ -73,6 +74,18 @@ public class UiPartTest {
         new TestUiPart<Object>(INVALID_FILE_PATH);
     }
 
+    @Test
+    public void constructor_nullRoot_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new TestUiPart<TestFxmlObject>((TestFxmlObject) null);
+    }
+
+    @Test
+    public void constructor_root_usesRoot() {
+        TestFxmlObject root = new TestFxmlObject("Built in code");
+        assertSame(root, new TestUiPart<TestFxmlObject>(root).getRoot());
+    }
+
     private URL getTestFileUrl(String testFilePath) {
         String testFilePathInView = "/view/" + testFilePath;
         URL testFileUrl = MainApp.class.getResource(testFilePathInView);
@@ -82,7 +95,8 @@ public class UiPartTest {
 
     /**
      * UiPart used for testing.
-     * It should only be used with invalid FXML files or the valid file located at {@link VALID_FILE_PATH}.
+     * It should only be used with invalid FXML files or the valid file located at {@link VALID_FILE_PATH},
+     * or with a root built in code.
      */
     private static class TestUiPart<T> extends UiPart<T> {
 
@@ -99,6 +113,10 @@ public class UiPartTest {
             assertEquals(VALID_FILE_ROOT, validFileRoot);
         }
 
+        TestUiPart(T root) {
+            super(root);
+        }
+
     }
 
 }